@@ -0,0 +1,57 @@
+package com.badlogic.UniverseConqueror.benchmarks;
+
+import com.badlogic.UniverseConqueror.Pathfinding.AStarPathfinder;
+import com.badlogic.UniverseConqueror.Pathfinding.NavGrid;
+import com.badlogic.UniverseConqueror.Pathfinding.Node;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+// Mede a API de nós usada pelo jogo (AStarPathfinder.findPath(Node, Node)), incluindo a conversão
+// do caminho para List<Node>, no mapa.tmx e em mapas gerados.
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class AStarPathfinderBenchmark {
+
+    private static final int QUERY_COUNT = 64;
+
+    @Param({"mapa", "open512", "random512"})
+    public String map;
+
+    private AStarPathfinder pathfinder;
+    private Node[] starts;
+    private Node[] goals;
+    private int next;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        NavGrid grid = MapFixtures.byName(map);
+        Node[][] nodes = new Node[grid.getWidth()][grid.getHeight()];
+        for (int x = 0; x < grid.getWidth(); x++) {
+            for (int y = 0; y < grid.getHeight(); y++) {
+                nodes[x][y] = new Node(x, y, grid.isWalkable(x, y));
+            }
+        }
+        pathfinder = new AStarPathfinder(nodes);
+
+        int[][] queries = MapFixtures.reachableQueries(grid, QUERY_COUNT, 11L);
+        starts = new Node[QUERY_COUNT];
+        goals = new Node[QUERY_COUNT];
+        for (int i = 0; i < QUERY_COUNT; i++) {
+            starts[i] = nodes[grid.x(queries[0][i])][grid.y(queries[0][i])];
+            goals[i] = nodes[grid.x(queries[1][i])][grid.y(queries[1][i])];
+        }
+    }
+
+    @Benchmark
+    public List<Node> findPath() {
+        int i = next;
+        next = (i + 1) % QUERY_COUNT;
+        return pathfinder.findPath(starts[i], goals[i]);
+    }
+}
@@ -0,0 +1,71 @@
+package com.badlogic.UniverseConqueror.benchmarks;
+
+import com.badlogic.UniverseConqueror.ECS.components.ProjectileComponent;
+import com.badlogic.UniverseConqueror.ECS.entity.BulletFactory;
+import com.badlogic.UniverseConqueror.Utils.AssetPaths;
+import com.badlogic.ashley.core.Entity;
+import com.badlogic.ashley.core.PooledEngine;
+import com.badlogic.gdx.assets.AssetManager;
+import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.math.Vector2;
+import com.badlogic.gdx.physics.box2d.World;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+// Ciclo obter/libertar de projéteis na BulletFactory: uma rajada de balas criada e devolvida
+// ao pool por operação, com corpos Box2D reais e texturas carregadas pelo GL falso. Compara as balas
+// com corpo dinâmico com as balas por raycast, que não têm corpo.
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class BulletPoolBenchmark {
+
+    @Param({"1", "32"})
+    public int burst;
+
+    @Param({"false", "true"})
+    public boolean raycast;
+
+    private World world;
+    private AssetManager assetManager;
+    private PooledEngine engine;
+    private BulletFactory factory;
+    private Entity[] bullets;
+    private final Vector2 target = new Vector2(500f, 300f);
+
+    @Setup(Level.Trial)
+    public void setup() {
+        GdxFixtures.init();
+        assetManager = new AssetManager(GdxFixtures.assetResolver());
+        assetManager.load(AssetPaths.BULLET_TEXTURE, Texture.class);
+        assetManager.load(AssetPaths.FIREBALL_TEXTURE, Texture.class);
+        assetManager.finishLoading();
+
+        world = new World(new Vector2(0, 0), true);
+        engine = new PooledEngine();
+        factory = new BulletFactory(assetManager, engine);
+        factory.setRaycastBullets(raycast);
+        bullets = new Entity[burst];
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        world.dispose();
+        assetManager.dispose();
+    }
+
+    @Benchmark
+    public int obtainAndFree() {
+        for (int i = 0; i < burst; i++) {
+            bullets[i] = factory.obtainProjectile(world, i * 4f, 0f, target, ProjectileComponent.ProjectileType.BULLET);
+        }
+        for (int i = 0; i < burst; i++) {
+            factory.free(bullets[i]);
+        }
+        return engine.getEntities().size();
+    }
+}
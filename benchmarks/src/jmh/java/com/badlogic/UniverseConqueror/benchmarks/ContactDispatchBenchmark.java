@@ -0,0 +1,98 @@
+package com.badlogic.UniverseConqueror.benchmarks;
+
+import com.badlogic.UniverseConqueror.ContactListener.CollisionLayer;
+import com.badlogic.UniverseConqueror.ContactListener.ContactListenerWrapper;
+import com.badlogic.UniverseConqueror.ContactListener.FixtureTag;
+import com.badlogic.UniverseConqueror.ECS.components.EnemyComponent;
+import com.badlogic.UniverseConqueror.ECS.components.PlayerComponent;
+import com.badlogic.ashley.core.Entity;
+import com.badlogic.ashley.core.PooledEngine;
+import com.badlogic.gdx.math.Vector2;
+import com.badlogic.gdx.physics.box2d.*;
+import com.badlogic.gdx.utils.Array;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+// Despacho de contactos pelo ContactListenerWrapper, isolado do passo da física: o setup monta
+// inimigos sobrepostos a tiles do mapa e ao jogador, dá um passo ao mundo para o Box2D criar os
+// contactos, e o benchmark entrega esses contactos ao wrapper (begin + end) e despacha a fila
+// como o PhysicsSystem faz no fim de cada frame.
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class ContactDispatchBenchmark {
+
+    @Param({"16", "256"})
+    public int enemies;
+
+    private World world;
+    private ContactListenerWrapper wrapper;
+    private final Array<Contact> contacts = new Array<>();
+
+    @Setup(Level.Trial)
+    public void setup() {
+        GdxFixtures.init();
+        world = new World(new Vector2(0, 0), true);
+        PooledEngine engine = new PooledEngine();
+        wrapper = new ContactListenerWrapper(engine, null, null);
+
+        Entity player = engine.createEntity();
+        player.add(engine.createComponent(PlayerComponent.class));
+        engine.addEntity(player);
+        createBody(BodyDef.BodyType.DynamicBody, 0f, 0f, 40f, CollisionLayer.PLAYER, player);
+
+        for (int i = 0; i < enemies; i++) {
+            Entity enemy = engine.createEntity();
+            enemy.add(engine.createComponent(EnemyComponent.class));
+            engine.addEntity(enemy);
+
+            // Metade dos inimigos em cima do jogador, a outra metade em cima de um tile do mapa
+            float x = (i % 2 == 0) ? 10f : 1000f + i * 200f;
+            createBody(BodyDef.BodyType.DynamicBody, x, 0f, 30f, CollisionLayer.ENEMY, enemy);
+            if (i % 2 != 0) createBody(BodyDef.BodyType.StaticBody, x, 0f, 60f, CollisionLayer.MAP, null);
+        }
+
+        world.step(1f / 60f, 6, 2);
+        for (Contact contact : world.getContactList()) {
+            if (contact.isTouching()) contacts.add(contact);
+        }
+        if (contacts.size == 0) throw new IllegalStateException("O mundo não gerou contactos");
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        world.dispose();
+    }
+
+    private Body createBody(BodyDef.BodyType type, float x, float y, float halfSize, CollisionLayer layer, Entity entity) {
+        BodyDef def = new BodyDef();
+        def.type = type;
+        def.position.set(x, y);
+        Body body = world.createBody(def);
+
+        PolygonShape shape = new PolygonShape();
+        shape.setAsBox(halfSize, halfSize);
+        FixtureDef fixtureDef = new FixtureDef();
+        fixtureDef.shape = shape;
+        fixtureDef.density = 1f;
+        FixtureTag.attach(body.createFixture(layer.applyTo(fixtureDef)), layer, entity);
+        body.setUserData(entity);
+        shape.dispose();
+        return body;
+    }
+
+    @Benchmark
+    public int dispatch() {
+        for (int i = 0; i < contacts.size; i++) {
+            Contact contact = contacts.get(i);
+            wrapper.beginContact(contact);
+            wrapper.endContact(contact);
+        }
+        wrapper.dispatchPending();
+        return wrapper.getDispatchedCount();
+    }
+}
@@ -0,0 +1,52 @@
+package com.badlogic.UniverseConqueror.benchmarks;
+
+import com.badlogic.UniverseConqueror.ECS.events.GameEventManager;
+import com.badlogic.UniverseConqueror.Interfaces.GameEvent;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+// Custo de GameEventManager.notify com vários observers registados: um evento simples
+// e um evento que dispara outro dentro da notificação (caminho da fila de eventos pendentes).
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class EventFanOutBenchmark {
+
+    private static final GameEvent PING = new GameEvent() {};
+    private static final GameEvent CASCADE = new GameEvent() {};
+
+    @Param({"1", "8", "64"})
+    public int observers;
+
+    private GameEventManager manager;
+    private long received;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        manager = new GameEventManager();
+        for (int i = 0; i < observers; i++) {
+            final int id = i;
+            manager.addObserver(event -> {
+                received++;
+                // O primeiro observer reencaminha CASCADE como PING, como fazem os sistemas de som e HUD
+                if (id == 0 && event == CASCADE) manager.notify(PING);
+            });
+        }
+    }
+
+    @Benchmark
+    public long notifySingle() {
+        manager.notify(PING);
+        return received;
+    }
+
+    @Benchmark
+    public long notifyCascade() {
+        manager.notify(CASCADE);
+        return received;
+    }
+}
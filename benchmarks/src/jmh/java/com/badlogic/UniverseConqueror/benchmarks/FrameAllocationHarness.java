@@ -0,0 +1,236 @@
+package com.badlogic.UniverseConqueror.benchmarks;
+
+import com.badlogic.UniverseConqueror.Audio.SoundManager;
+import com.badlogic.UniverseConqueror.Context.GameContext;
+import com.badlogic.UniverseConqueror.Context.SystemContext;
+import com.badlogic.UniverseConqueror.ECS.components.PathComponent;
+import com.badlogic.UniverseConqueror.ECS.entity.BulletFactory;
+import com.badlogic.UniverseConqueror.ECS.entity.EnemyFactory;
+import com.badlogic.UniverseConqueror.ECS.entity.ItemFactory;
+import com.badlogic.UniverseConqueror.ECS.entity.PlayerFactory;
+import com.badlogic.UniverseConqueror.ECS.systems.PathDebugRenderSystem;
+import com.badlogic.UniverseConqueror.ECS.systems.PathFollowSystem;
+import com.badlogic.UniverseConqueror.ECS.systems.PhysicsSystem;
+import com.badlogic.UniverseConqueror.GameLauncher;
+import com.badlogic.UniverseConqueror.Initializers.SystemInitializer;
+import com.badlogic.UniverseConqueror.Utils.AssetPaths;
+import com.badlogic.UniverseConqueror.Utils.Constants;
+import com.badlogic.UniverseConqueror.Utils.Joystick;
+import com.badlogic.UniverseConqueror.Utils.MapCollisionHandler;
+import com.badlogic.UniverseConqueror.Utils.Timer;
+import com.badlogic.ashley.core.Entity;
+import com.badlogic.ashley.core.PooledEngine;
+import com.badlogic.gdx.assets.AssetManager;
+import com.badlogic.gdx.graphics.Color;
+import com.badlogic.gdx.graphics.OrthographicCamera;
+import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.graphics.g2d.BitmapFont;
+import com.badlogic.gdx.maps.tiled.TiledMap;
+import com.badlogic.gdx.maps.tiled.TiledMapTileLayer;
+import com.badlogic.gdx.math.Vector2;
+import com.badlogic.gdx.physics.box2d.World;
+import com.badlogic.gdx.scenes.scene2d.ui.Label;
+
+import java.lang.management.ManagementFactory;
+import java.util.Arrays;
+
+// Contrato de zero alocações por frame.
+// Arranca o conjunto completo de sistemas do SystemInitializer (mais o seguimento e o desenho de caminhos)
+// sobre um mapa gerado, com o jogador, inimigos em patrulha (perto e longe da câmera) e itens, e corre o
+// frame como o GameScreen: física, engine.update e HUD. Depois do aquecimento mede com o ThreadMXBean os bytes
+// alocados em cada frame por todas as threads (a do jogo, as do SystemScheduler, a da física e as das buscas
+// de caminho), não só pela do jogo; termina com código 1 se algum frame passar do orçamento.
+//
+// Executar com: ./gradlew :benchmarks:allocationBudget
+// Propriedades: -Duc.warmupFrames, -Duc.frames, -Duc.allocBudget (bytes por frame)
+public final class FrameAllocationHarness {
+
+    private static final int DEFAULT_WARMUP_FRAMES = 600;
+    private static final int DEFAULT_FRAMES = 1200;
+    private static final long DEFAULT_BUDGET_BYTES = 0L;
+    private static final float FRAME_DELTA = 1 / 60f;
+
+    private final PooledEngine engine = new PooledEngine();
+    private final OrthographicCamera camera = new OrthographicCamera();
+    private final Timer playingTimer = new Timer(Float.MAX_VALUE);
+    private World world;
+    private AssetManager assetManager;
+    private GameContext context;
+    private PhysicsSystem physicsSystem;
+
+    private FrameAllocationHarness() {}
+
+    public static void main(String[] args) {
+        int warmupFrames = Integer.getInteger("uc.warmupFrames", DEFAULT_WARMUP_FRAMES);
+        int frames = Integer.getInteger("uc.frames", DEFAULT_FRAMES);
+        long budget = Long.getLong("uc.allocBudget", DEFAULT_BUDGET_BYTES);
+
+        com.sun.management.ThreadMXBean threads = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        if (!threads.isThreadAllocatedMemorySupported()) {
+            System.err.println("Esta JVM não mede alocações por thread");
+            System.exit(2);
+        }
+        threads.setThreadAllocatedMemoryEnabled(true);
+
+        FrameAllocationHarness harness = new FrameAllocationHarness();
+        harness.setup();
+        for (int i = 0; i < warmupFrames; i++) {
+            harness.frame();
+        }
+
+        // Custo da própria medição, descontado de cada frame
+        long overhead = Long.MAX_VALUE;
+        for (int i = 0; i < 16; i++) {
+            long before = allocatedBytes(threads);
+            overhead = Math.min(overhead, allocatedBytes(threads) - before);
+        }
+
+        long[] allocated = new long[frames];
+        for (int i = 0; i < frames; i++) {
+            long before = allocatedBytes(threads);
+            harness.frame();
+            allocated[i] = Math.max(0L, allocatedBytes(threads) - before - overhead);
+        }
+        harness.dispose();
+
+        int overBudget = 0;
+        int worstFrame = 0;
+        long total = 0;
+        for (int i = 0; i < frames; i++) {
+            total += allocated[i];
+            if (allocated[i] > budget) overBudget++;
+            if (allocated[i] > allocated[worstFrame]) worstFrame = i;
+        }
+        long[] sorted = Arrays.copyOf(allocated, frames);
+        Arrays.sort(sorted);
+
+        System.out.printf("Frames medidos: %d (aquecimento: %d)%n", frames, warmupFrames);
+        System.out.printf("Bytes por frame: média %.1f, mediana %d, p99 %d, máximo %d (frame %d)%n",
+            total / (double) frames, sorted[frames / 2], sorted[(int) (frames * 0.99)], allocated[worstFrame], worstFrame);
+        System.out.printf("Orçamento: %d bytes; frames acima: %d%n", budget, overBudget);
+
+        if (overBudget > 0) {
+            System.err.println("Contrato de alocação violado");
+            System.exit(1);
+        }
+    }
+
+    // Bytes alocados até agora pelas threads vivas; uma thread que termine a meio de um frame leva consigo
+    // o seu total, por isso a diferença entre duas leituras pode ser negativa e é cortada a zero
+    private static long allocatedBytes(com.sun.management.ThreadMXBean threads) {
+        long[] bytes = threads.getThreadAllocatedBytes(threads.getAllThreadIds());
+        long total = 0L;
+        for (long value : bytes) {
+            if (value > 0L) total += value;
+        }
+        return total;
+    }
+
+    // Monta o jogo como o GameScreen, sem ecrã nem UI além das labels do HUD
+    private void setup() {
+        GdxFixtures.init();
+        camera.setToOrtho(false, 1280, 720);
+
+        assetManager = new AssetManager(GdxFixtures.assetResolver());
+        assetManager.load(AssetPaths.BULLET_TEXTURE, Texture.class);
+        assetManager.load(AssetPaths.FIREBALL_TEXTURE, Texture.class);
+        assetManager.load(AssetPaths.CROSSHAIR_TEXTURE, Texture.class);
+        assetManager.load(AssetPaths.JOYSTICK_BASE, Texture.class);
+        assetManager.load(AssetPaths.JOYSTICK_KNOB, Texture.class);
+        assetManager.load(AssetPaths.ITEM_VIDA, Texture.class);
+        assetManager.load(AssetPaths.ITEM_ATAQUE, Texture.class);
+        GameLauncher.queueAnimationTextures(assetManager);
+        loadFrames(AssetPaths.ENEMY_ATTACK, 17);
+        loadFrames(AssetPaths.ENEMY_DEATH, 9);
+        loadFrames(AssetPaths.ENEMY_WALK, 34);
+        loadFrames(AssetPaths.ENEMY_IDLE, 6);
+        loadFrames(AssetPaths.ENEMY_HURT, 3);
+        SoundManager.init(assetManager);
+        SoundManager.getInstance().loadAll();
+        assetManager.finishLoading();
+
+        TiledMap map = GdxFixtures.generatedMap(64, 64, 0.05f, 42L);
+        TiledMapTileLayer jumpable = new TiledMapTileLayer(64, 64, 256, 128);
+        jumpable.setName("Jumpable");
+        map.getLayers().add(jumpable);
+        world = new World(new Vector2(0, 0), true);
+        new MapCollisionHandler(map, "Collisions", "Jumpable").createBox2DBodies(world);
+
+        BulletFactory bulletFactory = new BulletFactory(assetManager, engine);
+        bulletFactory.prewarm(world, Constants.BULLET_POOL_PREWARM, Constants.FIREBALL_POOL_PREWARM);
+        Joystick joystick = new Joystick(
+            assetManager.get(AssetPaths.JOYSTICK_BASE, Texture.class),
+            assetManager.get(AssetPaths.JOYSTICK_KNOB, Texture.class),
+            100f, 100f, 60f);
+
+        context = new GameContext(null, null, engine, assetManager, playingTimer, camera);
+        context.setBulletFactory(bulletFactory);
+        SystemInitializer systems = new SystemInitializer(context, engine, world, camera, map, bulletFactory, joystick, assetManager);
+        systems.initialize();
+        context.setSystemContext(SystemContext.createFrom(systems));
+        engine.addSystem(new PathFollowSystem());
+        engine.addSystem(new PathDebugRenderSystem(camera));
+        physicsSystem = engine.getSystem(PhysicsSystem.class);
+
+        createEntities();
+        createHud();
+        playingTimer.start();
+    }
+
+    // Jogador com um caminho por seguir, inimigos dentro e fora do raio da física e dois itens
+    private void createEntities() {
+        Vector2 center = new Vector2(4000f, 4000f);
+        Entity player = PlayerFactory.createPlayer(engine, center, world, assetManager);
+        engine.addEntity(player);
+        context.setPlayer(player);
+        camera.position.set(center, 0);
+
+        PathComponent path = engine.createComponent(PathComponent.class);
+        for (int i = 1; i <= 8; i++) {
+            path.waypoints.addLast(new Vector2(center.x + i * 120f, center.y + i * 60f));
+        }
+        player.add(path);
+
+        float[] distances = {1200f, 1600f, 3200f, 4000f};
+        for (int i = 0; i < 12; i++) {
+            float angle = i * (360f / 12);
+            float distance = distances[i % distances.length];
+            Vector2 start = new Vector2(center).add(new Vector2(distance, 0f).rotateDeg(angle));
+            Vector2 end = new Vector2(start).add(300f, 150f);
+            engine.addEntity(EnemyFactory.createPatrollingEnemy(engine, world, start, assetManager, player, camera, start, end));
+        }
+
+        engine.addEntity(ItemFactory.createItem("Vida", new Vector2(center).add(900f, 0f), assetManager).createEntity(engine, world));
+        engine.addEntity(ItemFactory.createItem("Ataque", new Vector2(center).add(-900f, 0f), assetManager).createEntity(engine, world));
+    }
+
+    // Labels do HUD com a fonte por omissão, para o updateHUD correr como no jogo
+    private void createHud() {
+        Label.LabelStyle style = new Label.LabelStyle(new BitmapFont(), Color.WHITE);
+        context.getHUDContext().setHealthLabel(new Label("", style));
+        context.getHUDContext().setItemsLabel(new Label("", style));
+        context.getHUDContext().setAttackPowerLabel(new Label("", style));
+        context.getHUDContext().setTimerLabel(new Label("", style));
+    }
+
+    // Um frame do GameScreen, sem o desenho do mapa e do stage
+    private void frame() {
+        playingTimer.update(FRAME_DELTA);
+        physicsSystem.awaitStep();
+        engine.update(FRAME_DELTA);
+        context.updateHUD();
+        physicsSystem.startStep();
+    }
+
+    private void dispose() {
+        physicsSystem.dispose();
+        world.dispose();
+        assetManager.dispose();
+    }
+
+    private void loadFrames(String pattern, int count) {
+        for (int i = 1; i <= count; i++) {
+            assetManager.load(String.format(pattern, i), Texture.class);
+        }
+    }
+}
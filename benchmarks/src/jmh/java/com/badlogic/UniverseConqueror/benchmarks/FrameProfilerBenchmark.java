@@ -0,0 +1,114 @@
+package com.badlogic.UniverseConqueror.benchmarks;
+
+import com.badlogic.UniverseConqueror.ECS.components.PositionComponent;
+import com.badlogic.UniverseConqueror.ECS.components.VelocityComponent;
+import com.badlogic.UniverseConqueror.ECS.systems.BaseIteratingSystem;
+import com.badlogic.UniverseConqueror.ECS.utils.ComponentMappers;
+import com.badlogic.UniverseConqueror.Utils.FrameProfiler;
+import com.badlogic.ashley.core.Entity;
+import com.badlogic.ashley.core.Family;
+import com.badlogic.ashley.core.PooledEngine;
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.files.FileHandle;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+// Custo do FrameProfiler num frame do engine: desligado, ligado (marcas por sistema e percentis guardados)
+// e ligado a gravar o CSV. A diferença entre "off" e os restantes é o custo do perfilador por frame.
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class FrameProfilerBenchmark {
+
+    private static final Family MOVING = Family.all(PositionComponent.class, VelocityComponent.class).get();
+
+    @Param({"off", "on", "csv"})
+    public String mode;
+
+    @Param({"1000"})
+    public int entities;
+
+    private PooledEngine engine;
+    private FrameProfiler profiler;
+    private File csvFile;
+
+    @Setup(Level.Trial)
+    public void setup() throws IOException {
+        GdxFixtures.init();
+        engine = new PooledEngine();
+        engine.addSystem(new IntegrateSystem());
+        engine.addSystem(new DampSystem());
+        engine.addSystem(new WrapSystem());
+
+        for (int i = 0; i < entities; i++) {
+            Entity entity = engine.createEntity();
+            PositionComponent position = engine.createComponent(PositionComponent.class);
+            position.position.set(i, i * 0.5f);
+            VelocityComponent velocity = engine.createComponent(VelocityComponent.class);
+            velocity.velocity.set(1f, -1f);
+            entity.add(position);
+            entity.add(velocity);
+            engine.addEntity(entity);
+        }
+
+        profiler = FrameProfiler.get();
+        profiler.clear();
+        profiler.setEnabled(!mode.equals("off"));
+        if (mode.equals("csv")) {
+            csvFile = File.createTempFile("frame-profiler", ".csv");
+            profiler.startCsv(Gdx.files.absolute(csvFile.getAbsolutePath()));
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        profiler.stopCsv();
+        profiler.setEnabled(false);
+        profiler.clear();
+        if (csvFile != null) new FileHandle(csvFile).delete();
+    }
+
+    // Um frame como o do GameScreen: abre, corre o engine, fecha a vez do último sistema e o frame
+    @Benchmark
+    public int frame() {
+        profiler.beginFrame();
+        engine.update(1 / 60f);
+        profiler.closeSystems();
+        profiler.endFrame();
+        return engine.getEntities().size();
+    }
+
+    public static class IntegrateSystem extends BaseIteratingSystem {
+        public IntegrateSystem() { super(MOVING); }
+
+        @Override
+        protected void processEntity(Entity entity, float deltaTime) {
+            ComponentMappers.position.get(entity).position.mulAdd(ComponentMappers.velocity.get(entity).velocity, deltaTime);
+        }
+    }
+
+    public static class DampSystem extends BaseIteratingSystem {
+        public DampSystem() { super(MOVING); }
+
+        @Override
+        protected void processEntity(Entity entity, float deltaTime) {
+            ComponentMappers.velocity.get(entity).velocity.scl(0.999f);
+        }
+    }
+
+    public static class WrapSystem extends BaseIteratingSystem {
+        public WrapSystem() { super(MOVING); }
+
+        @Override
+        protected void processEntity(Entity entity, float deltaTime) {
+            PositionComponent position = ComponentMappers.position.get(entity);
+            if (position.position.x > 4096f) position.position.x -= 4096f;
+        }
+    }
+}
@@ -0,0 +1,83 @@
+package com.badlogic.UniverseConqueror.benchmarks;
+
+import com.badlogic.gdx.ApplicationAdapter;
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.assets.loaders.FileHandleResolver;
+import com.badlogic.gdx.backends.headless.HeadlessApplication;
+import com.badlogic.gdx.backends.headless.HeadlessApplicationConfiguration;
+import com.badlogic.gdx.files.FileHandle;
+import com.badlogic.gdx.graphics.GL20;
+import com.badlogic.gdx.maps.tiled.TiledMap;
+import com.badlogic.gdx.maps.tiled.TiledMapTileLayer;
+import com.badlogic.gdx.maps.tiled.TmxMapLoader;
+import com.badlogic.gdx.physics.box2d.Box2D;
+import org.mockito.Mockito;
+import org.mockito.invocation.InvocationOnMock;
+
+import java.io.File;
+import java.nio.IntBuffer;
+import java.util.Random;
+
+// Arranque do libGDX sem janela para os benchmarks que precisam de Gdx.files, texturas ou Box2D.
+// O GL é um mock: as texturas são lidas do disco mas nada chega a uma placa gráfica. Os shaders
+// "compilam" sempre, para SpriteBatch e ShapeRenderer poderem ser criados.
+public final class GdxFixtures {
+
+    private static boolean initialized;
+
+    private GdxFixtures() {}
+
+    // Carrega as nativas, cria a aplicação headless e o GL falso (uma vez por JVM)
+    public static synchronized void init() {
+        if (initialized) return;
+        HeadlessApplicationConfiguration config = new HeadlessApplicationConfiguration();
+        config.updatesPerSecond = 1;
+        new HeadlessApplication(new ApplicationAdapter() {}, config);
+        GL20 gl = Mockito.mock(GL20.class);
+        Mockito.doAnswer(GdxFixtures::reportSuccess).when(gl).glGetShaderiv(Mockito.anyInt(), Mockito.anyInt(), Mockito.any(IntBuffer.class));
+        Mockito.doAnswer(GdxFixtures::reportSuccess).when(gl).glGetProgramiv(Mockito.anyInt(), Mockito.anyInt(), Mockito.any(IntBuffer.class));
+        Gdx.gl = Gdx.gl20 = gl;
+        Box2D.init();
+        initialized = true;
+    }
+
+    // Estado de compilação e ligação a 1; as restantes consultas (atributos, uniforms ativos) a 0
+    private static Object reportSuccess(InvocationOnMock invocation) {
+        int name = invocation.getArgument(1);
+        IntBuffer params = invocation.getArgument(2);
+        params.put(0, name == GL20.GL_COMPILE_STATUS || name == GL20.GL_LINK_STATUS ? 1 : 0);
+        return null;
+    }
+
+    // Resolve nomes de assets para a pasta de assets do projeto, independentemente da pasta de trabalho
+    public static FileHandleResolver assetResolver() {
+        return fileName -> new FileHandle(new File(MapFixtures.assetsDir(), fileName));
+    }
+
+    // Carrega um TMX da pasta de assets (as imagens dos tilesets passam pelo GL falso)
+    public static TiledMap loadMap(String fileName) {
+        init();
+        return new TmxMapLoader(assetResolver()).load(fileName);
+    }
+
+    // Mapa isométrico gerado só com a camada "Collisions", com a densidade dada de tiles ocupados
+    public static TiledMap generatedMap(int width, int height, float density, long seed) {
+        TiledMap map = new TiledMap();
+        map.getProperties().put("width", width);
+        map.getProperties().put("height", height);
+        map.getProperties().put("tilewidth", 256);
+        map.getProperties().put("tileheight", 128);
+
+        TiledMapTileLayer collisions = new TiledMapTileLayer(width, height, 256, 128);
+        collisions.setName("Collisions");
+        TiledMapTileLayer.Cell blocked = new TiledMapTileLayer.Cell();
+        Random random = new Random(seed);
+        for (int x = 0; x < width; x++) {
+            for (int y = 0; y < height; y++) {
+                if (random.nextFloat() < density) collisions.setCell(x, y, blocked);
+            }
+        }
+        map.getLayers().add(collisions);
+        return map;
+    }
+}
@@ -0,0 +1,185 @@
+package com.badlogic.UniverseConqueror.benchmarks;
+
+import com.badlogic.UniverseConqueror.Pathfinding.GridAStar;
+import com.badlogic.UniverseConqueror.Pathfinding.NavGrid;
+import com.badlogic.gdx.utils.IntArray;
+import org.w3c.dom.Document;
+import org.w3c.dom.Element;
+import org.w3c.dom.NodeList;
+
+import javax.xml.parsers.DocumentBuilderFactory;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.Random;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.InflaterInputStream;
+
+// Mapas usados pelos benchmarks: o mapa.tmx real (lido sem Gdx) e mapas sintéticos maiores.
+public final class MapFixtures {
+
+    private MapFixtures() {}
+
+    // Pasta de assets passada pelo build (-Duc.assets); por omissão relativa ao subprojeto
+    public static File assetsDir() {
+        return new File(System.getProperty("uc.assets", "../assets"));
+    }
+
+    // Cria a grelha pelo nome usado nos @Param dos benchmarks
+    public static NavGrid byName(String name) {
+        switch (name) {
+            case "mapa":
+                return loadCollisions(new File(assetsDir(), "mapa.tmx"));
+            case "open512":
+                return open(512, 512, 42L);
+            case "random512":
+                return random(512, 512, 0.2f, 42L);
+            case "open1024":
+                return open(1024, 1024, 42L);
+            case "random1024":
+                return random(1024, 1024, 0.2f, 42L);
+            default:
+                throw new IllegalArgumentException("Mapa desconhecido: " + name);
+        }
+    }
+
+    // Lê a camada "Collisions" de um TMX; tiles com gid diferente de zero ficam bloqueados.
+    // O eixo Y é invertido como no TmxMapLoader, para coincidir com o MapGraphBuilder.
+    public static NavGrid loadCollisions(File tmx) {
+        try {
+            Document document = DocumentBuilderFactory.newInstance().newDocumentBuilder().parse(tmx);
+            Element mapElement = document.getDocumentElement();
+            int width = Integer.parseInt(mapElement.getAttribute("width"));
+            int height = Integer.parseInt(mapElement.getAttribute("height"));
+            boolean[] walkable = new boolean[width * height];
+            Arrays.fill(walkable, true);
+
+            NodeList layers = mapElement.getElementsByTagName("layer");
+            for (int i = 0; i < layers.getLength(); i++) {
+                Element layer = (Element) layers.item(i);
+                if (!"Collisions".equals(layer.getAttribute("name"))) continue;
+
+                int[] gids = readLayerData((Element) layer.getElementsByTagName("data").item(0), width * height);
+                for (int row = 0; row < height; row++) {
+                    for (int x = 0; x < width; x++) {
+                        if (gids[row * width + x] != 0) {
+                            walkable[(height - 1 - row) * width + x] = false;
+                        }
+                    }
+                }
+            }
+            return new NavGrid(width, height, walkable);
+        } catch (Exception e) {
+            throw new IllegalStateException("Não foi possível ler " + tmx, e);
+        }
+    }
+
+    private static int[] readLayerData(Element data, int count) throws IOException {
+        String encoding = data.getAttribute("encoding");
+        String text = data.getTextContent().trim();
+        int[] gids = new int[count];
+
+        if ("csv".equals(encoding)) {
+            String[] values = text.split("\\s*,\\s*");
+            for (int i = 0; i < count; i++) gids[i] = (int) Long.parseLong(values[i].trim());
+            return gids;
+        }
+
+        byte[] bytes = Base64.getMimeDecoder().decode(text);
+        String compression = data.getAttribute("compression");
+        if ("zlib".equals(compression)) {
+            bytes = readAll(new InflaterInputStream(new ByteArrayInputStream(bytes)));
+        } else if ("gzip".equals(compression)) {
+            bytes = readAll(new GZIPInputStream(new ByteArrayInputStream(bytes)));
+        }
+
+        ByteBuffer buffer = ByteBuffer.wrap(bytes).order(ByteOrder.LITTLE_ENDIAN);
+        for (int i = 0; i < count; i++) {
+            // Os bits altos guardam flags de espelhamento; só interessa saber se há tile
+            gids[i] = buffer.getInt() & 0x1FFFFFFF;
+        }
+        return gids;
+    }
+
+    private static byte[] readAll(InputStream in) throws IOException {
+        try (InputStream input = in) {
+            ByteArrayOutputStream out = new ByteArrayOutputStream();
+            byte[] chunk = new byte[8192];
+            int read;
+            while ((read = input.read(chunk)) > 0) out.write(chunk, 0, read);
+            return out.toByteArray();
+        }
+    }
+
+    // Terreno aberto com retângulos dispersos: o caso favorável ao JPS
+    public static NavGrid open(int width, int height, long seed) {
+        boolean[] walkable = new boolean[width * height];
+        Arrays.fill(walkable, true);
+        Random random = new Random(seed);
+        int obstacles = width * height / 400;
+        for (int i = 0; i < obstacles; i++) {
+            int w = 2 + random.nextInt(8), h = 2 + random.nextInt(8);
+            int x0 = random.nextInt(width), y0 = random.nextInt(height);
+            for (int x = x0; x < Math.min(width, x0 + w); x++) {
+                for (int y = y0; y < Math.min(height, y0 + h); y++) {
+                    walkable[y * width + x] = false;
+                }
+            }
+        }
+        return new NavGrid(width, height, walkable);
+    }
+
+    // Ruído uniforme com a densidade dada de tiles bloqueados
+    public static NavGrid random(int width, int height, float density, long seed) {
+        boolean[] walkable = new boolean[width * height];
+        Arrays.fill(walkable, true);
+        Random random = new Random(seed);
+        for (int x = 0; x < width; x++) {
+            for (int y = 0; y < height; y++) {
+                if (random.nextFloat() < density) walkable[y * width + x] = false;
+            }
+        }
+        return new NavGrid(width, height, walkable);
+    }
+
+    // Gera pares (início, destino) com caminho garantido, de forma determinística
+    public static int[][] reachableQueries(NavGrid grid, int count, long seed) {
+        Random random = new Random(seed);
+        GridAStar search = new GridAStar(grid);
+        IntArray path = new IntArray();
+        int[] starts = new int[count];
+        int[] goals = new int[count];
+
+        int found = 0;
+        for (int attempt = 0; found < count && attempt < count * 1000; attempt++) {
+            int start = random.nextInt(grid.size());
+            int goal = random.nextInt(grid.size());
+            if (start == goal || !grid.isWalkable(start) || !grid.isWalkable(goal)) continue;
+            if (!search.findPath(start, goal, path)) continue;
+            starts[found] = start;
+            goals[found] = goal;
+            found++;
+        }
+        if (found < count) throw new IllegalStateException("Poucos pares alcançáveis no mapa");
+        return new int[][] { starts, goals };
+    }
+
+    // Custo de um caminho tile a tile (1 por passo reto, √2 por passo diagonal)
+    public static double pathCost(NavGrid grid, int start, IntArray path) {
+        double cost = 0.0;
+        int previous = start;
+        for (int i = 0; i < path.size; i++) {
+            int current = path.get(i);
+            boolean diagonal = grid.x(current) != grid.x(previous) && grid.y(current) != grid.y(previous);
+            cost += diagonal ? Math.sqrt(2.0) : 1.0;
+            previous = current;
+        }
+        return cost;
+    }
+}
@@ -0,0 +1,49 @@
+package com.badlogic.UniverseConqueror.benchmarks;
+
+import com.badlogic.UniverseConqueror.Pathfinding.MapGraphBuilder;
+import com.badlogic.gdx.maps.tiled.TiledMap;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+// Construção do grafo de navegação (nós, NavGrid e índice de alcance) a partir de um TiledMap já carregado
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class MapGraphBuilderBenchmark {
+
+    @Param({"mapa", "generated256", "generated512"})
+    public String map;
+
+    private TiledMap tiledMap;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        switch (map) {
+            case "mapa":
+                tiledMap = GdxFixtures.loadMap("mapa.tmx");
+                break;
+            case "generated256":
+                tiledMap = GdxFixtures.generatedMap(256, 256, 0.2f, 42L);
+                break;
+            case "generated512":
+                tiledMap = GdxFixtures.generatedMap(512, 512, 0.2f, 42L);
+                break;
+            default:
+                throw new IllegalArgumentException("Mapa desconhecido: " + map);
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        tiledMap.dispose();
+    }
+
+    @Benchmark
+    public MapGraphBuilder build() {
+        return new MapGraphBuilder(tiledMap);
+    }
+}
@@ -0,0 +1,76 @@
+package com.badlogic.UniverseConqueror.benchmarks;
+
+import com.badlogic.UniverseConqueror.Interfaces.GridPathfinder;
+import com.badlogic.UniverseConqueror.Pathfinding.NavGrid;
+import com.badlogic.UniverseConqueror.Pathfinding.PathfinderType;
+import com.badlogic.gdx.utils.IntArray;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+// Compara os motores de busca (A*, JPS e HPA*) no mapa do jogo e em mapas sintéticos maiores.
+// O setup confirma que os motores ótimos devolvem caminhos com o mesmo comprimento do A*;
+// o HPA* é quase ótimo e só tem de encontrar caminho.
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class PathfinderBenchmark {
+
+    private static final int QUERY_COUNT = 64;
+
+    @Param({"mapa", "open512", "random512", "open1024", "random1024"})
+    public String map;
+
+    @Param({"ASTAR", "JPS", "HPA"})
+    public PathfinderType type;
+
+    private GridPathfinder pathfinder;
+    private int[] starts;
+    private int[] goals;
+    private final IntArray path = new IntArray();
+    private int next;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        NavGrid grid = MapFixtures.byName(map);
+        int[][] queries = MapFixtures.reachableQueries(grid, QUERY_COUNT, 7L);
+        starts = queries[0];
+        goals = queries[1];
+        pathfinder = type.factory(grid).get();
+
+        verifyAgainstAStar(grid);
+    }
+
+    // Falha o benchmark se algum motor divergir do comprimento do A* (ou, no HPA*, se não encontrar caminho)
+    private void verifyAgainstAStar(NavGrid grid) {
+        GridPathfinder reference = PathfinderType.ASTAR.factory(grid).get();
+        IntArray expected = new IntArray();
+        for (int i = 0; i < starts.length; i++) {
+            reference.findPath(starts[i], goals[i], expected);
+            boolean found = pathfinder.findPath(starts[i], goals[i], path);
+
+            if (type == PathfinderType.HPA) {
+                if (!found) throw new IllegalStateException("HPA não encontrou caminho no mapa " + map);
+                continue;
+            }
+
+            double expectedCost = MapFixtures.pathCost(grid, starts[i], expected);
+            double actualCost = MapFixtures.pathCost(grid, starts[i], path);
+            if (Math.abs(expectedCost - actualCost) > 1e-6) {
+                throw new IllegalStateException(type + " devolveu custo " + actualCost
+                    + " em vez de " + expectedCost + " no mapa " + map);
+            }
+        }
+    }
+
+    @Benchmark
+    public int findPath() {
+        int i = next;
+        next = (i + 1) % starts.length;
+        pathfinder.findPath(starts[i], goals[i], path);
+        return path.size;
+    }
+}
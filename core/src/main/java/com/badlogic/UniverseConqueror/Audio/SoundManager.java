@@ -4,6 +4,7 @@ import com.badlogic.UniverseConqueror.Utils.AssetPaths;
 import com.badlogic.ashley.core.Entity;
 import com.badlogic.gdx.assets.AssetManager;
 import com.badlogic.gdx.audio.Sound;
+import com.badlogic.gdx.utils.ObjectFloatMap;
 
 import java.util.HashMap;
 import java.util.Map;
@@ -13,7 +14,7 @@ public class SoundManager {
     private final AssetManager assetManager;
 
     private final HashMap<String, String> soundPaths = new HashMap<>();
-    private final HashMap<String, Float> soundCooldowns = new HashMap<>();
+    private final ObjectFloatMap<String> soundCooldowns = new ObjectFloatMap<>();
 
     private final Map<Entity, Long> entityLoopIds = new HashMap<>();
     private final Map<Entity, String> entitySoundKeys = new HashMap<>();
@@ -73,7 +74,7 @@ public class SoundManager {
         if (path == null || !assetManager.isLoaded(path)) return;
 
         float currentTime = com.badlogic.gdx.utils.TimeUtils.nanoTime() / 1_000_000_000f;
-        float lastTime = soundCooldowns.getOrDefault(key, 0f);
+        float lastTime = soundCooldowns.get(key, 0f);
 
         if (currentTime - lastTime < COOLDOWN_TIME) return;
 
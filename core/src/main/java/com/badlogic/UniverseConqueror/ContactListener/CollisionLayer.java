@@ -0,0 +1,54 @@
+package com.badlogic.UniverseConqueror.ContactListener;
+
+import com.badlogic.gdx.physics.box2d.FixtureDef;
+
+// Camadas de colisão do jogo, mapeadas para os categoryBits/maskBits do Box2D.
+// Os pares que não interessam à jogabilidade (item com mapa, bala com jogador, ...) ficam fora das máscaras
+// e o Box2D nem chega a criar o contacto.
+public enum CollisionLayer {
+    PLAYER,
+    ENEMY,
+    PROJECTILE,
+    MAP,
+    JUMPABLE,
+    ITEM,
+    SPACESHIP,
+    // Sensor nos pés do jogador, para saber se está no chão
+    FOOT;
+
+    // Bit da camada (categoryBits)
+    public final short bit = (short) (1 << ordinal());
+
+    // Camadas com que esta colide (maskBits); preenchido de forma simétrica no bloco estático
+    private short mask;
+
+    static {
+        collide(PLAYER, ENEMY, MAP, JUMPABLE, ITEM, SPACESHIP);
+        collide(ENEMY, ENEMY, PROJECTILE, MAP);
+        collide(PROJECTILE, MAP);
+        collide(ENEMY, JUMPABLE);
+        collide(FOOT, MAP, JUMPABLE);
+    }
+
+    // Regista os pares (layer, other) nos dois sentidos
+    private static void collide(CollisionLayer layer, CollisionLayer... others) {
+        for (CollisionLayer other : others) {
+            layer.mask |= other.bit;
+            other.mask |= layer.bit;
+        }
+    }
+
+    public short getMask() { return mask; }
+
+    // Verifica se duas camadas geram contactos entre si
+    public boolean collidesWith(CollisionLayer other) {
+        return (mask & other.bit) != 0;
+    }
+
+    // Aplica a categoria e a máscara desta camada à definição da fixture
+    public FixtureDef applyTo(FixtureDef fixtureDef) {
+        fixtureDef.filter.categoryBits = bit;
+        fixtureDef.filter.maskBits = mask;
+        return fixtureDef;
+    }
+}
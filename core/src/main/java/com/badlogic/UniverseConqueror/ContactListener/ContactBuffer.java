@@ -0,0 +1,164 @@
+package com.badlogic.UniverseConqueror.ContactListener;
+
+import java.util.Arrays;
+
+// Fila circular de contactos registados durante o world.step, para serem entregues depois do passo.
+// Guarda só as etiquetas das duas fixtures e o tipo (início/fim): os objetos Contact do Box2D são
+// reutilizados e não podem sair do callback. Os arrays são reservados à cabeça e só crescem se a fila
+// encher. Um conjunto por frame descarta o mesmo par repetido (vários subpassos, fixtures que tocam,
+// deixam de tocar e voltam a tocar).
+public class ContactBuffer {
+
+    private static final int DEFAULT_CAPACITY = 256;
+    private static final long END_FLAG = 1L << 63;
+
+    private FixtureTag[] first;
+    private FixtureTag[] second;
+    private boolean[] begin;
+    private int head;
+    private int size;
+
+    // Conjunto de pares já registados (endereçamento aberto); a marca evita limpar a tabela a cada frame
+    private long[] seenKeys;
+    private int[] seenStamp;
+    private int seenCount;
+    private int stamp = 1;
+
+    private int droppedDuplicates;
+
+    public ContactBuffer() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    public ContactBuffer(int capacity) {
+        int slots = Integer.highestOneBit(Math.max(capacity, 16) - 1) << 1;
+        first = new FixtureTag[slots];
+        second = new FixtureTag[slots];
+        begin = new boolean[slots];
+        seenKeys = new long[slots * 2];
+        seenStamp = new int[slots * 2];
+    }
+
+    // Regista um contacto; devolve false se o mesmo par e tipo já estiver na fila deste frame
+    public boolean add(FixtureTag a, FixtureTag b, boolean isBegin) {
+        return add(a, b, isBegin, true);
+    }
+
+    // Com unique = false o contacto entra sempre, para quem conta inícios e fins (que têm de ficar emparelhados)
+    public boolean add(FixtureTag a, FixtureTag b, boolean isBegin, boolean unique) {
+        if (unique && !markSeen(key(a, b, isBegin))) {
+            droppedDuplicates++;
+            return false;
+        }
+        if (size == first.length) grow();
+
+        int slot = (head + size) & (first.length - 1);
+        first[slot] = a;
+        second[slot] = b;
+        begin[slot] = isBegin;
+        size++;
+        return true;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    // Etiquetas e tipo do contacto mais antigo; usar antes de poll()
+    public FixtureTag peekFirst() { return first[head]; }
+
+    public FixtureTag peekSecond() { return second[head]; }
+
+    public boolean peekBegin() { return begin[head]; }
+
+    // Retira o contacto mais antigo
+    public void poll() {
+        first[head] = null;
+        second[head] = null;
+        head = (head + 1) & (first.length - 1);
+        size--;
+    }
+
+    // Fecha o frame: os pares registados a partir daqui voltam a ser aceites
+    public void endFrame() {
+        seenCount = 0;
+        if (++stamp == 0) {
+            Arrays.fill(seenStamp, 0);
+            stamp = 1;
+        }
+    }
+
+    public void clear() {
+        while (size > 0) poll();
+        head = 0;
+        endFrame();
+    }
+
+    // Contactos repetidos descartados desde a criação
+    public int getDroppedDuplicates() { return droppedDuplicates; }
+
+    public int capacity() { return first.length; }
+
+    // O par não depende da ordem em que o Box2D entrega as fixtures
+    private static long key(FixtureTag a, FixtureTag b, boolean isBegin) {
+        long low = Math.min(a.id, b.id), high = Math.max(a.id, b.id);
+        long key = (high << 32) | low;
+        return isBegin ? key : key | END_FLAG;
+    }
+
+    // Insere a chave no conjunto do frame; false se já lá estava
+    private boolean markSeen(long key) {
+        if (seenCount * 2 >= seenKeys.length) {
+            // O conjunto só cresce com a fila; até lá, pares a mais não são deduplicados
+            if (seenKeys.length < first.length * 2) growSeen();
+            else return true;
+        }
+        int mask = seenKeys.length - 1;
+        int index = hash(key) & mask;
+        while (seenStamp[index] == stamp) {
+            if (seenKeys[index] == key) return false;
+            index = (index + 1) & mask;
+        }
+        seenStamp[index] = stamp;
+        seenKeys[index] = key;
+        seenCount++;
+        return true;
+    }
+
+    private static int hash(long key) {
+        long h = key * 0x9E3779B97F4A7C15L;
+        return (int) (h ^ (h >>> 32));
+    }
+
+    // Duplica a fila, desenrolando-a para começar no índice 0
+    private void grow() {
+        int capacity = first.length;
+        FixtureTag[] newFirst = new FixtureTag[capacity * 2];
+        FixtureTag[] newSecond = new FixtureTag[capacity * 2];
+        boolean[] newBegin = new boolean[capacity * 2];
+        for (int i = 0; i < size; i++) {
+            int slot = (head + i) & (capacity - 1);
+            newFirst[i] = first[slot];
+            newSecond[i] = second[slot];
+            newBegin[i] = begin[slot];
+        }
+        first = newFirst;
+        second = newSecond;
+        begin = newBegin;
+        head = 0;
+    }
+
+    // Reconstrói o conjunto com o dobro do tamanho, mantendo as chaves deste frame
+    private void growSeen() {
+        long[] oldKeys = seenKeys;
+        int[] oldStamp = seenStamp;
+        seenKeys = new long[oldKeys.length * 2];
+        seenStamp = new int[oldKeys.length * 2];
+        seenCount = 0;
+        int currentStamp = stamp;
+        stamp = 1;
+        for (int i = 0; i < oldKeys.length; i++) {
+            if (oldStamp[i] == currentStamp) markSeen(oldKeys[i]);
+        }
+    }
+}
@@ -6,32 +6,91 @@ import com.badlogic.UniverseConqueror.Interfaces.CollisionListener;
 import com.badlogic.ashley.core.Engine;
 import com.badlogic.gdx.physics.box2d.*;
 
-import java.util.ArrayList;
-import java.util.List;
-
 /**
  * Classe que gerencia colisões entre balas e outras entidades, como inimigos e o mapa.
  * Implementa a interface `ContactListener` do Box2D.
+ * Durante o world.step só regista os contactos numa fila; {@link #dispatchPending()} entrega-os depois do passo,
+ * de uma vez, através de uma tabela indexada pelo par de camadas.
  */
 public class ContactListenerWrapper implements ContactListener {
 
-    private final List<CollisionListener> listeners = new ArrayList<>();  // Lista que armazena os listeners de colisão.
+    private static final int LAYERS = CollisionLayer.values().length;
+
+    // Tabela (camada A, camada B) -> listener; swapped indica que o listener foi registado como (B, A)
+    private final CollisionListener[] handlers = new CollisionListener[LAYERS * LAYERS];
+    private final boolean[] swapped = new boolean[LAYERS * LAYERS];
+    // Pares que recebem todos os contactos, sem descartar repetidos no mesmo frame
+    private final boolean[] exact = new boolean[LAYERS * LAYERS];
+
+    private final ContactBuffer pending = new ContactBuffer();  // Contactos registados durante o passo.
 
     private final MapContactListener mapContactListener;  // Listener para colisões com o mapa.
     private final BulletContactListener bulletContactListener;  // Listener para colisões de balas.
     private final EnemyContactListener enemyListener;  // Listener para colisões com inimigos.
+    private final FootContactListener footContactListener;  // Listener do sensor de chão.
 
     private int enemiesKilledCount;  // Contador de inimigos mortos.
+    private int dispatchedCount;  // Contactos entregues na última chamada a dispatchPending.
 
 
     public ContactListenerWrapper(Engine engine, ItemCollectionSystem itemCollectionSystem, BulletFactory bulletFactory) {
         this.mapContactListener = new MapContactListener(engine, itemCollectionSystem, () -> this.enemiesKilledCount);  // Inicializa o listener de mapa.
         this.bulletContactListener = new BulletContactListener(bulletFactory);  // Inicializa o listener de balas.
         this.enemyListener = new EnemyContactListener();  // Inicializa o listener de inimigos.
+        this.footContactListener = new FootContactListener();  // Inicializa o listener do sensor de chão.
+
+        // O jogador contra o mapa, tiles saltáveis, itens e a nave
+        register(CollisionLayer.PLAYER, CollisionLayer.MAP, mapContactListener);
+        register(CollisionLayer.PLAYER, CollisionLayer.JUMPABLE, mapContactListener);
+        register(CollisionLayer.PLAYER, CollisionLayer.ITEM, mapContactListener);
+        register(CollisionLayer.PLAYER, CollisionLayer.SPACESHIP, mapContactListener);
+
+        // Projéteis contra o mapa e inimigos
+        register(CollisionLayer.PROJECTILE, CollisionLayer.MAP, bulletContactListener);
+        register(CollisionLayer.PROJECTILE, CollisionLayer.ENEMY, bulletContactListener);
+
+        // Inimigos contra o jogador
+        register(CollisionLayer.ENEMY, CollisionLayer.PLAYER, enemyListener);
+
+        // Sensor dos pés contra o chão; conta contactos, por isso recebe todos os inícios e fins
+        registerExact(CollisionLayer.FOOT, CollisionLayer.MAP, footContactListener);
+        registerExact(CollisionLayer.FOOT, CollisionLayer.JUMPABLE, footContactListener);
+    }
+
+    /**
+     * Associa um listener a um par de camadas. O listener recebe sempre a etiqueta da camada {@code first}
+     * como primeiro argumento, qualquer que seja a ordem das fixtures no contacto.
+     *
+     * @param first A primeira camada do par.
+     * @param second A segunda camada do par.
+     * @param listener O listener a chamar para os contactos deste par.
+     */
+    public void register(CollisionLayer first, CollisionLayer second, CollisionListener listener) {
+        int direct = first.ordinal() * LAYERS + second.ordinal();
+        int reverse = second.ordinal() * LAYERS + first.ordinal();
+        if (handlers[direct] != null) {
+            throw new IllegalStateException("Par de camadas já registado: " + first + " / " + second);
+        }
+        handlers[direct] = listener;
+        swapped[direct] = false;
+        if (reverse != direct) {
+            handlers[reverse] = listener;
+            swapped[reverse] = true;
+        }
+    }
 
-        listeners.add(mapContactListener);  // Adiciona o listener de mapa à lista.
-        listeners.add(bulletContactListener);  // Adiciona o listener de balas à lista.
-        listeners.add(enemyListener);  // Adiciona o listener de inimigos à lista.
+    /**
+     * Como {@link #register}, mas os contactos deste par não são deduplicados: cada início tem o seu fim,
+     * mesmo que o par toque, deixe de tocar e volte a tocar no mesmo frame.
+     *
+     * @param first A primeira camada do par.
+     * @param second A segunda camada do par.
+     * @param listener O listener a chamar para os contactos deste par.
+     */
+    public void registerExact(CollisionLayer first, CollisionLayer second, CollisionListener listener) {
+        register(first, second, listener);
+        exact[first.ordinal() * LAYERS + second.ordinal()] = true;
+        exact[second.ordinal() * LAYERS + first.ordinal()] = true;
     }
 
     /**
@@ -45,26 +104,52 @@ public class ContactListenerWrapper implements ContactListener {
 
     @Override
     public void beginContact(Contact contact) {
-        Fixture fixtureA = contact.getFixtureA();
-        Fixture fixtureB = contact.getFixtureB();
-
-        // Chama o método `beginContact` de cada listener para processar a colisão.
-        for (CollisionListener listener : listeners) {
-            listener.beginContact(fixtureA, fixtureB, contact);
-        }
+        record(contact, true);
     }
 
     @Override
     public void endContact(Contact contact) {
-        Fixture fixtureA = contact.getFixtureA();
-        Fixture fixtureB = contact.getFixtureB();
+        record(contact, false);
+    }
+
+    // Guarda o contacto se houver listener para o par; pares sem interesse nem entram na fila
+    private void record(Contact contact, boolean begin) {
+        FixtureTag tagA = FixtureTag.of(contact.getFixtureA());
+        FixtureTag tagB = FixtureTag.of(contact.getFixtureB());
+        if (tagA == null || tagB == null) return;
+        int index = tagA.layer.ordinal() * LAYERS + tagB.layer.ordinal();
+        if (handlers[index] == null) return;
+        pending.add(tagA, tagB, begin, !exact[index]);
+    }
 
-        // Chama o método `endContact` de cada listener para processar o final da colisão.
-        for (CollisionListener listener : listeners) {
-            listener.endContact(fixtureA, fixtureB, contact);
+    /**
+     * Entrega aos listeners os contactos registados desde a última chamada. Deve ser chamado fora do
+     * world.step; os contactos gerados durante a entrega (por exemplo, ao destruir fixtures) ficam para a próxima.
+     */
+    public void dispatchPending() {
+        int count = pending.size();
+        for (int i = 0; i < count; i++) {
+            FixtureTag a = pending.peekFirst();
+            FixtureTag b = pending.peekSecond();
+            boolean begin = pending.peekBegin();
+            pending.poll();
+
+            int index = a.layer.ordinal() * LAYERS + b.layer.ordinal();
+            CollisionListener listener = handlers[index];
+            FixtureTag first = swapped[index] ? b : a;
+            FixtureTag second = swapped[index] ? a : b;
+            if (begin) listener.beginContact(first, second);
+            else listener.endContact(first, second);
         }
+        pending.endFrame();
+        dispatchedCount = count;
     }
 
+    // Contactos entregues na última chamada a dispatchPending
+    public int getDispatchedCount() { return dispatchedCount; }
+
+    // Contactos à espera de entrega
+    public int getPendingCount() { return pending.size(); }
 
     @Override
     public void preSolve(Contact contact, Manifold oldManifold) {}
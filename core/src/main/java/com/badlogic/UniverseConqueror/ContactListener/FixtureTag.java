@@ -0,0 +1,42 @@
+package com.badlogic.UniverseConqueror.ContactListener;
+
+import com.badlogic.ashley.core.Entity;
+import com.badlogic.gdx.physics.box2d.Fixture;
+
+// Identificação tipada de uma fixture, guardada no userData da própria fixture.
+// Substitui as comparações de strings ("map", "enemy", ...) e a procura da entidade pelo corpo:
+// a classificação de um contacto passa a ser a combinação dos bits das duas camadas.
+public final class FixtureTag {
+
+    private static int nextId;
+
+    // Identificador único, usado para reconhecer o mesmo par de fixtures em contactos repetidos
+    public final int id = nextId++;
+
+    public final CollisionLayer layer;
+
+    // Entidade dona da fixture (null para o mapa)
+    public final Entity entity;
+
+    public FixtureTag(CollisionLayer layer, Entity entity) {
+        this.layer = layer;
+        this.entity = entity;
+    }
+
+    // Cria a etiqueta e associa-a à fixture
+    public static FixtureTag attach(Fixture fixture, CollisionLayer layer, Entity entity) {
+        FixtureTag tag = new FixtureTag(layer, entity);
+        fixture.setUserData(tag);
+        return tag;
+    }
+
+    // Etiqueta da fixture, ou null se a fixture não tiver sido registada
+    public static FixtureTag of(Fixture fixture) {
+        Object data = fixture.getUserData();
+        return data instanceof FixtureTag ? (FixtureTag) data : null;
+    }
+
+    public boolean is(CollisionLayer layer) {
+        return this.layer == layer;
+    }
+}
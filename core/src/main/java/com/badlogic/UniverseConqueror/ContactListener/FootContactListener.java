@@ -0,0 +1,36 @@
+package com.badlogic.UniverseConqueror.ContactListener;
+
+import com.badlogic.UniverseConqueror.ECS.components.JumpComponent;
+import com.badlogic.UniverseConqueror.ECS.utils.ComponentMappers;
+import com.badlogic.UniverseConqueror.Interfaces.CollisionListener;
+
+/**
+ * Este listener mantém o estado "no chão" das entidades com JumpComponent.
+ * Cada início de contacto do sensor dos pés com o mapa ou um tile saltável soma um ao contador
+ * da entidade e cada fim subtrai um; está no chão enquanto o contador for positivo.
+ */
+public class FootContactListener implements CollisionListener {
+
+    public FootContactListener() {}
+
+    @Override
+    public void beginContact(FixtureTag foot, FixtureTag ground) {
+        JumpComponent jump = jumpOf(foot);
+        if (jump != null) jump.groundContacts++;
+    }
+
+    @Override
+    public void endContact(FixtureTag foot, FixtureTag ground) {
+        JumpComponent jump = jumpOf(foot);
+        if (jump != null && jump.groundContacts > 0) jump.groundContacts--;
+    }
+
+    /**
+     * Obtém o JumpComponent do dono do sensor.
+     * @param foot A etiqueta do sensor dos pés.
+     * @return O componente, ou null se a entidade já não o tiver.
+     */
+    private JumpComponent jumpOf(FixtureTag foot) {
+        return foot.entity != null ? ComponentMappers.jump.get(foot.entity) : null;
+    }
+}
@@ -8,6 +8,7 @@ import com.badlogic.UniverseConqueror.ECS.systems.ItemCollectionSystem;
 import com.badlogic.UniverseConqueror.GameLauncher;
 import com.badlogic.UniverseConqueror.Pathfinding.AStarPathfinder;
 import com.badlogic.UniverseConqueror.Pathfinding.MapGraphBuilder;
+import com.badlogic.UniverseConqueror.Pathfinding.PathRequestService;
 import com.badlogic.UniverseConqueror.Screens.GameScreen;
 import com.badlogic.UniverseConqueror.State.GameStateService;
 import com.badlogic.UniverseConqueror.Utils.Joystick;
@@ -32,6 +33,7 @@ public class GameContext {
     private GameStateService gameStateService;
     private MapGraphBuilder mapGraphBuilder;
     private AStarPathfinder pathfinder;
+    private PathRequestService pathRequestService;
     private BulletFactory bulletFactory;
     private  HUDContext hudContext = new HUDContext();
     private SystemContext systemContext = new SystemContext();
@@ -42,6 +44,13 @@ public class GameContext {
     private boolean restoredState = false;
     private int enemiesKilledCount = 0;
 
+    // Últimos valores mostrados no HUD; o texto só é refeito (num StringBuilder reutilizado) quando mudam
+    private final StringBuilder hudText = new StringBuilder(16);
+    private int shownHealth = Integer.MIN_VALUE;
+    private int shownItems = Integer.MIN_VALUE;
+    private int shownAttack = Integer.MIN_VALUE;
+    private int shownSeconds = Integer.MIN_VALUE;
+
     public GameContext(GameLauncher game,
                        GameScreen screen,
                        PooledEngine engine,
@@ -82,6 +91,8 @@ public class GameContext {
 
     public AStarPathfinder getPathfinder() { return pathfinder; }
 
+    public PathRequestService getPathRequestService() { return pathRequestService; }
+
     public BulletFactory getBulletFactory() { return bulletFactory; }
 
     public Entity getPlayer() { return player; }
@@ -126,6 +137,10 @@ public class GameContext {
         this.pathfinder = pathfinder;
     }
 
+    public void setPathRequestService(PathRequestService pathRequestService) {
+        this.pathRequestService = pathRequestService;
+    }
+
     public void setBulletFactory(BulletFactory bulletFactory) {
         this.bulletFactory = bulletFactory;
     }
@@ -167,31 +182,48 @@ public class GameContext {
         HealthSystem healthSystem = systemContext.getHealthSystem();
         if (healthSystem != null && ComponentMappers.health.has(player)) {
             int currentHealth = ComponentMappers.health.get(player).currentHealth;
-            hudContext.getHealthLabel().setText("Health: " + currentHealth);
+            if (currentHealth != shownHealth) {
+                shownHealth = currentHealth;
+                hudText.setLength(0);
+                hudContext.getHealthLabel().setText(hudText.append("Health: ").append(currentHealth));
+            }
         }
 
         // Atualiza itens coletados
         ItemCollectionSystem itemSystem = systemContext.getItemCollectionSystem();
-        if (itemSystem != null) {
-            hudContext.getItemsLabel().setText("Items: " + itemSystem.getCollectedCount());
+        if (itemSystem != null && itemSystem.getCollectedCount() != shownItems) {
+            shownItems = itemSystem.getCollectedCount();
+            hudText.setLength(0);
+            hudContext.getItemsLabel().setText(hudText.append("Items: ").append(shownItems));
         }
 
         // Atualiza poder de ataque restante
         AttackSystem attackSystem = systemContext.getAttackSystem();
-        if (attackSystem != null) {
-            hudContext.getAttackPowerLabel().setText("Attack: " + attackSystem.getRemainingAttackPower());
+        if (attackSystem != null && attackSystem.getRemainingAttackPower() != shownAttack) {
+            shownAttack = attackSystem.getRemainingAttackPower();
+            hudText.setLength(0);
+            hudContext.getAttackPowerLabel().setText(hudText.append("Attack: ").append(shownAttack));
         }
 
         if (hudContext.getTimerLabel() != null) {
-            float totalTime = playingTimer.getTime();
-            int hours = (int) (totalTime / 3600);
-            int minutes = (int) ((totalTime % 3600) / 60);
-            int seconds = (int) (totalTime % 60);
-
-            hudContext.getTimerLabel().setText(String.format("%02d:%02d:%02d", hours, minutes, seconds));
+            int totalSeconds = (int) playingTimer.getTime();
+            if (totalSeconds != shownSeconds) {
+                shownSeconds = totalSeconds;
+                hudText.setLength(0);
+                appendTwoDigits(totalSeconds / 3600).append(':');
+                appendTwoDigits((totalSeconds % 3600) / 60).append(':');
+                appendTwoDigits(totalSeconds % 60);
+                hudContext.getTimerLabel().setText(hudText);
+            }
         }
     }
 
+    // Equivalente a %02d sem passar por String.format
+    private StringBuilder appendTwoDigits(int value) {
+        if (value < 10) hudText.append('0');
+        return hudText.append(value);
+    }
+
     public int getEnemiesKilledCount() {
         return enemiesKilledCount;
     }
@@ -216,8 +248,12 @@ public class GameContext {
             font.dispose();
         }
 
-        if (bulletFactory != null) {
+        if (pathRequestService != null) {
+            pathRequestService.dispose();
+        }
 
+        if (bulletFactory != null) {
+            bulletFactory.dispose();
         }
 
         if (gameStateService != null) {
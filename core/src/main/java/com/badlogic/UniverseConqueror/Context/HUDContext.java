@@ -1,5 +1,6 @@
 package com.badlogic.UniverseConqueror.Context;
 
+import com.badlogic.UniverseConqueror.Utils.ProfilerOverlay;
 import com.badlogic.gdx.graphics.g2d.TextureRegion;
 import com.badlogic.gdx.scenes.scene2d.ui.Image;
 import com.badlogic.gdx.scenes.scene2d.ui.Label;
@@ -11,6 +12,7 @@ public class HUDContext {
     private TextureRegionDrawable healthBackground, attackPowerBackground, itemsBackground;
     private TextureRegion cameraOnTexture, cameraOffTexture;
     private Image cameraIconImage;
+    private ProfilerOverlay profilerOverlay;
     private Skin skin;
 
     // Getters
@@ -58,6 +60,10 @@ public class HUDContext {
         return cameraIconImage;
     }
 
+    public ProfilerOverlay getProfilerOverlay() {
+        return profilerOverlay;
+    }
+
     public Skin getSkin() {
         return skin;
     }
@@ -107,6 +113,10 @@ public class HUDContext {
         this.cameraIconImage = cameraIconImage;
     }
 
+    public void setProfilerOverlay(ProfilerOverlay profilerOverlay) {
+        this.profilerOverlay = profilerOverlay;
+    }
+
     public void setSkin(Skin skin) {
         this.skin = skin;
     }
@@ -0,0 +1,21 @@
+package com.badlogic.UniverseConqueror.ECS.components;
+
+import com.badlogic.ashley.core.Component;
+import com.badlogic.gdx.math.Vector2;
+
+// Marca uma entidade fora do alcance da física (LOD): o corpo está inativo e a IA e a animação
+// só correm num tick grosso. O PhysicsLodSystem põe e tira este componente.
+public class DormantComponent implements Component {
+
+    // Intervalo do tick grosso da IA e da animação enquanto dormente (segundos)
+    public static final float COARSE_TICK = 0.5f;
+
+    // Estado do corpo no momento em que adormeceu, reposto ao acordar
+    public final Vector2 linearVelocity = new Vector2();
+    public float angularVelocity;
+    public boolean awake;
+
+    // Tempo acumulado desde o último tick grosso de cada sistema
+    public float aiTimer;
+    public float animationTimer;
+}
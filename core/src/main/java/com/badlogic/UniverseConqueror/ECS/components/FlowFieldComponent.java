@@ -0,0 +1,20 @@
+package com.badlogic.UniverseConqueror.ECS.components;
+
+import com.badlogic.UniverseConqueror.Pathfinding.FlowField;
+import com.badlogic.UniverseConqueror.Pathfinding.MapGraphBuilder;
+import com.badlogic.ashley.core.Component;
+
+// Campo de fluxo em direção à entidade que o possui (o jogador); os perseguidores consultam-no
+public class FlowFieldComponent implements Component {
+
+    // Campo partilhado, reconstruído pelo FlowFieldSystem quando o alvo muda de tile
+    public FlowField field;
+
+    // Conversão entre posições do mundo e tiles do campo
+    public MapGraphBuilder mapGraphBuilder;
+
+    public FlowFieldComponent(FlowField field, MapGraphBuilder mapGraphBuilder) {
+        this.field = field;
+        this.mapGraphBuilder = mapGraphBuilder;
+    }
+}
@@ -8,7 +8,7 @@ public class JumpComponent implements Component {
     public boolean isJumping = false;
 
     // Força aplicada no pulo
-    public float jumpForce = 500f;
+    public float jumpForce = 1000f;
 
     // Indica se o personagem pode pular
     public boolean canJump = true;
@@ -24,4 +24,10 @@ public class JumpComponent implements Component {
 
     // Posição vertical do chão (para controle de término do pulo)
     public float groundY = 0f;
+
+    // Indica se o corpo tem sensor nos pés; sem ele, o JumpSystem usa o raycast de recurso
+    public boolean hasFootSensor = false;
+
+    // Contactos do sensor dos pés com o chão, mantidos pelo FootContactListener
+    public int groundContacts = 0;
 }
@@ -2,17 +2,15 @@ package com.badlogic.UniverseConqueror.ECS.components;
 
 import com.badlogic.ashley.core.Component;
 import com.badlogic.gdx.math.Vector2;
-
-import java.util.LinkedList;
-import java.util.Queue;
+import com.badlogic.gdx.utils.Queue;
 
 public class PathComponent implements Component {
 
     // Tipos de destino possíveis para o caminho
     public enum PathType { ITEM, SPACESHIP }
 
-    // Fila de pontos (waypoints) que a entidade deve seguir
-    public Queue<Vector2> waypoints = new LinkedList<>();
+    // Fila de pontos (waypoints) que a entidade deve seguir; a Queue do libGDX permite acesso por índice sem iteradores
+    public Queue<Vector2> waypoints = new Queue<>();
 
     // Tipo atual do caminho, padrão é buscar item
     public PathType type = PathType.ITEM;
@@ -0,0 +1,37 @@
+package com.badlogic.UniverseConqueror.ECS.components;
+
+import com.badlogic.UniverseConqueror.Pathfinding.DStarLite;
+import com.badlogic.ashley.core.Component;
+import com.badlogic.ashley.core.Entity;
+import com.badlogic.gdx.utils.IntArray;
+
+// Caminho seguido continuamente até um alvo que se pode mover; o PathReplanSystem repara-o
+// de forma incremental e reescreve os waypoints do PathComponent
+public class PathTrackingComponent implements Component {
+
+    // Entidade perseguida e tipo de caminho mostrado
+    public Entity target;
+    public PathComponent.PathType type = PathComponent.PathType.ITEM;
+
+    // Estado da busca incremental, criado no primeiro frame
+    public DStarLite planner;
+
+    // Últimos tiles de início e destino, versão da grelha e caminho planeado (em tiles)
+    public int lastStart = -1;
+    public int lastGoal = -1;
+    public int gridVersion = -1;
+    public final IntArray path = new IntArray();
+
+    public PathTrackingComponent(Entity target, PathComponent.PathType type) {
+        this.target = target;
+        this.type = type;
+    }
+
+    // Deixa de observar a grelha; chamar sempre que o componente sai da entidade
+    public void disposePlanner() {
+        if (planner != null) {
+            planner.dispose();
+            planner = null;
+        }
+    }
+}
@@ -15,6 +15,9 @@ public class PhysicsComponent implements Component {
     // Massa do corpo (padrão: 1f)
     public float mass = 1f;
 
+    // Posição do corpo antes do último passo da física, usada para interpolar a renderização
+    public final Vector2 previousPosition = new Vector2();
+
     public PhysicsComponent() {}
 
     public PhysicsComponent(Body body) {
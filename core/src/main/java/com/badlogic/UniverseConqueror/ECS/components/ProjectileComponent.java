@@ -16,7 +16,7 @@ public class ProjectileComponent implements Component {
     public ProjectileType type = ProjectileType.BULLET;
 
     // Velocidade de deslocamento do projétil
-    public float speed = 1900f;
+    public float speed = 3800f;
 
     // Posição atual do projétil
     public Vector2 position = new Vector2();
@@ -26,4 +26,13 @@ public class ProjectileComponent implements Component {
 
     // Flag para indicar se o projétil saiu do ecrã
     public boolean isOutOfBounds = false;
+
+    // Criado pelo pool da BulletFactory (entidade e corpo persistentes)
+    public boolean pooled = false;
+
+    // Em jogo (true) ou na lista livre do pool (false); evita libertar duas vezes
+    public boolean inUse = false;
+
+    // Simulado analiticamente com raycasts (sem corpo Box2D) pelo RaycastProjectileSystem
+    public boolean raycast = false;
 }
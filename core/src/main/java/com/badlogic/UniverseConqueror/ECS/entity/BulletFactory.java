@@ -1,202 +1,230 @@
 package com.badlogic.UniverseConqueror.ECS.entity;
 
+import com.badlogic.UniverseConqueror.ContactListener.CollisionLayer;
+import com.badlogic.UniverseConqueror.ContactListener.FixtureTag;
 import com.badlogic.UniverseConqueror.ECS.components.*;
+import com.badlogic.UniverseConqueror.ECS.systems.PhysicsSystem;
+import com.badlogic.UniverseConqueror.ECS.utils.ComponentMappers;
 import com.badlogic.UniverseConqueror.Utils.AssetPaths;
+import com.badlogic.UniverseConqueror.Utils.Constants;
 import com.badlogic.ashley.core.*;
 import com.badlogic.gdx.assets.AssetManager;
 import com.badlogic.gdx.graphics.Texture;
 import com.badlogic.gdx.graphics.g2d.ParticleEffect;
+import com.badlogic.gdx.graphics.g2d.ParticleEffectPool;
 import com.badlogic.gdx.math.Vector2;
 import com.badlogic.gdx.physics.box2d.*;
 import com.badlogic.gdx.utils.Array;
 
 // Responsável por criar, configurar e reaproveitar projéteis no jogo.
-// Utiliza pooling manual de entidades para evitar criação/destruição frequente.
+// Mantém um pool por tipo de projétil: cada entidade é criada uma vez com todos os componentes, corpo e
+// fixture, e depois só alterna entre ativa (no engine, corpo ativo) e livre (fora do engine, corpo inativo).
+// As entidades não vêm do PooledEngine, para que removeEntity não lhes apague os componentes.
+// Em modo raycast, as balas normais não têm corpo: o RaycastProjectileSystem move-as e testa os impactos.
+// Com a física em thread própria, as operações nos corpos feitas a meio de um passo vão para a fila do PhysicsSystem.
 public class BulletFactory {
 
+    private static final int TYPES = ProjectileComponent.ProjectileType.values().length;
+
+    // Posição de estacionamento dos corpos livres, longe de tudo
+    private static final float PARK_POSITION = -10000f;
+
     private final AssetManager assetManager;
     private final PooledEngine engine;
-    private final Array<Entity> bulletPool = new Array<>();
 
+    // Listas livres e métricas, indexadas pelo ordinal do tipo
+    private final Array<Entity>[] freeLists;
+    private final int[] createdCount = new int[TYPES];
+    private final int[] activeCount = new int[TYPES];
+    private final int[] peakActiveCount = new int[TYPES];
+    private final int[] missCount = new int[TYPES];
+
+    private ParticleEffectPool particlePool;
+    private PhysicsSystem physicsSystem;
+    private boolean raycastBullets = Constants.RAYCAST_BULLETS;
+    private final Vector2 direction = new Vector2();
+
+    @SuppressWarnings("unchecked")
     public BulletFactory(AssetManager assetManager, PooledEngine engine) {
         this.assetManager = assetManager;
         this.engine = engine;
+        this.freeLists = new Array[TYPES];
+        for (int i = 0; i < TYPES; i++) {
+            freeLists[i] = new Array<>(false, 32);
+        }
     }
 
-    // Garante que a entidade tenha o componente especificado, criando se necessário.
-    private <T extends Component> T ensureComponent(Entity entity, Class<T> type) {
-        T component = entity.getComponent(type);
-        if (component == null) {
-            component = engine.createComponent(type);
-            entity.add(component);
+    // Cria de antemão projéteis livres de cada tipo, para o primeiro disparo não pagar a criação
+    public void prewarm(World world, int bullets, int fireballs) {
+        prewarm(world, ProjectileComponent.ProjectileType.BULLET, bullets);
+        prewarm(world, ProjectileComponent.ProjectileType.FIREBALL, fireballs);
+    }
+
+    public void prewarm(World world, ProjectileComponent.ProjectileType type, int count) {
+        Array<Entity> freeList = freeLists[type.ordinal()];
+        freeList.ensureCapacity(count);
+        for (int i = freeList.size; i < count; i++) {
+            freeList.add(createProjectile(world, type));
         }
-        return component;
     }
 
-    // Obtém ou cria um projétil, aplica direção, corpo físico e textura.
+    // Obtém um projétil livre do tipo pedido (ou cria um), posiciona-o e ativa-o em direção ao alvo.
     public Entity obtainProjectile(World world, float x, float y, Vector2 target, ProjectileComponent.ProjectileType type) {
-        Entity bullet = null;
+        int index = type.ordinal();
+        Array<Entity> freeList = freeLists[index];
 
-        // Tenta reutilizar projétil do pool
-        while (bulletPool.size > 0) {
-            Entity candidate = bulletPool.pop();
-            EnemyComponent enemyComp = candidate.getComponent(EnemyComponent.class);
-            ProjectileComponent projComp = candidate.getComponent(ProjectileComponent.class);
-
-            if (enemyComp != null) continue;
-            if (projComp != null && projComp.type == type) {
-                bullet = candidate;
-                break;
-            }
+        Entity bullet = null;
+        while (freeList.size > 0 && bullet == null) {
+            Entity candidate = freeList.pop();
+            // Criado noutro modo de simulação: descarta e deixa para o GC
+            if (ComponentMappers.projectile.get(candidate).raycast == isRaycast(type)) bullet = candidate;
+            else discard(candidate);
         }
-
-        // Cria nova entidade se nenhuma reutilizável for encontrada
         if (bullet == null) {
-            bullet = engine.createEntity();
+            bullet = createProjectile(world, type);
+            missCount[index]++;
         }
+        boolean worldLocked = isWorldLocked();
 
-        // Remove componentes que não devem estar em projéteis
-        bullet.remove(EnemyComponent.class);
-        bullet.remove(AnimationComponent.class);
-        bullet.remove(HealthComponent.class);
-        bullet.remove(StateComponent.class);
-        bullet.remove(AIComponent.class);
-        bullet.remove(ParticleComponent.class);
-        bullet.remove(TransformComponent.class);
-        bullet.remove(TextureComponent.class);
-        bullet.remove(ProjectileComponent.class);
-
-        // Garante e configura os componentes essenciais
-        PositionComponent pc = ensureComponent(bullet, PositionComponent.class);
-        VelocityComponent vc = ensureComponent(bullet, VelocityComponent.class);
-        TransformComponent tc = ensureComponent(bullet, TransformComponent.class);
-        PhysicsComponent ph = ensureComponent(bullet, PhysicsComponent.class);
-        TextureComponent tx = ensureComponent(bullet, TextureComponent.class);
-        ProjectileComponent proj = ensureComponent(bullet, ProjectileComponent.class);
-
-        // Carrega textura e velocidade baseada no tipo
-        Texture texture = (type == ProjectileComponent.ProjectileType.FIREBALL)
-            ? assetManager.get(AssetPaths.FIREBALL_TEXTURE, Texture.class)
-            : assetManager.get(AssetPaths.BULLET_TEXTURE, Texture.class);
-        float speed = (type == ProjectileComponent.ProjectileType.FIREBALL) ? 1900f : 100f;
+        ProjectileComponent proj = ComponentMappers.projectile.get(bullet);
+        float speed = proj.speed;
 
         // Define direção com fallback
-        Vector2 dir = target.cpy().sub(x, y);
-        if (dir.isZero(0.001f)) dir.set(1, 0);
-        dir.nor().scl(speed);
+        direction.set(target).sub(x, y);
+        if (direction.isZero(0.001f)) direction.set(1, 0);
+        direction.nor().scl(speed);
 
-        // Define componentes
-        pc.position.set(x, y);
-        tc.position.set(x, y, 0);
-        tx.texture = texture;
-        vc.velocity.set(dir);
+        ComponentMappers.position.get(bullet).position.set(x, y);
+        ComponentMappers.transform.get(bullet).position.set(x, y, 0);
+        ComponentMappers.velocity.get(bullet).velocity.set(direction);
         proj.position.set(x, y);
-        proj.speed = speed;
-        proj.texture = texture;
-        proj.type = type;
-
-        // Atualiza corpo físico se já existe
-        if (ph.body != null) {
-            ph.body.setLinearVelocity(dir);
-            ph.body.setAwake(true);
-        }
-
-        // Cria corpo novo se necessário
-        if (ph.body == null || !ph.body.isActive() || ph.body.getType() != BodyDef.BodyType.DynamicBody) {
-            if (ph.body != null) {
-                world.destroyBody(ph.body);
-            }
-            ph.body = createBody(world, x, y, bullet, type);
-        } else {
-            for (Fixture f : ph.body.getFixtureList()) {
-                ph.body.destroyFixture(f);
+        proj.isOutOfBounds = false;
+        proj.inUse = true;
+
+        // O corpo já existe: basta colocá-lo no sítio e reativá-lo
+        PhysicsComponent ph = ComponentMappers.physics.get(bullet);
+        if (ph != null) {
+            if (worldLocked) {
+                float vx = direction.x, vy = direction.y;
+                physicsSystem.execute(() -> activateBody(ph.body, x, y, vx, vy));
+            } else {
+                activateBody(ph.body, x, y, direction.x, direction.y);
             }
-            addFixtureToBody(ph.body, texture, type, bullet);
-            ph.body.setTransform(x, y, 0);
-            ph.body.setActive(true);
+            ph.previousPosition.set(x, y);
         }
 
-        // Adiciona partícula se fireball
-        ParticleComponent pcComp = bullet.getComponent(ParticleComponent.class);
+        // Fireballs levam um rasto de partículas do pool partilhado
         if (type == ProjectileComponent.ProjectileType.FIREBALL) {
-            if (pcComp == null) {
-                ParticleComponent particle = engine.createComponent(ParticleComponent.class);
-                ParticleEffect effect = new ParticleEffect(assetManager.get(AssetPaths.PARTICLE_EXPLOSION, ParticleEffect.class));
-                effect.start();
-                particle.effect = effect;
-                particle.offset.set(texture.getWidth() / 2f, texture.getHeight() / 2f);
-                bullet.add(particle);
-            }
-        } else {
-            if (pcComp != null) {
-                pcComp.effect.dispose();
-                bullet.remove(ParticleComponent.class);
-            }
+            ParticleComponent particle = ComponentMappers.particle.get(bullet);
+            particle.effect = obtainParticleEffect();
+            particle.effect.start();
         }
 
-        // Adiciona à engine se ainda não estiver
-        if (!engine.getEntities().contains(bullet, true)) {
-            engine.addEntity(bullet);
-        }
+        activeCount[index]++;
+        if (activeCount[index] > peakActiveCount[index]) peakActiveCount[index] = activeCount[index];
 
+        engine.addEntity(bullet);
         return bullet;
     }
 
-    // Liberta o projétil e devolve ao pool
+    // Liberta o projétil e devolve-o à lista livre do seu tipo (chamadas repetidas são ignoradas)
     public void free(Entity bullet) {
-        if (bullet.getComponent(EnemyComponent.class) != null) {
-            if (engine.getEntities().contains(bullet, true)) {
-                engine.removeEntity(bullet);
-            }
+        ProjectileComponent proj = ComponentMappers.projectile.get(bullet);
+        if (proj == null || !proj.pooled) {
+            // Não foi criado por esta fábrica
+            engine.removeEntity(bullet);
             return;
         }
+        if (!proj.inUse) return;
+        proj.inUse = false;
 
-        PhysicsComponent physics = bullet.getComponent(PhysicsComponent.class);
-        if (physics != null && physics.body != null) {
-            physics.body.setActive(false);
-            physics.body.setLinearVelocity(0, 0);
-            physics.body.setTransform(-10000f, -10000f, 0f);
-            for (Fixture fixture : physics.body.getFixtureList()) {
-                physics.body.destroyFixture(fixture);
-            }
+        PhysicsComponent physics = ComponentMappers.physics.get(bullet);
+        if (physics != null) {
+            if (isWorldLocked()) physicsSystem.execute(() -> parkBody(physics.body));
+            else parkBody(physics.body);
+        }
+
+        ComponentMappers.velocity.get(bullet).velocity.setZero();
+        ComponentMappers.position.get(bullet).position.set(PARK_POSITION, PARK_POSITION);
+
+        ParticleComponent particle = ComponentMappers.particle.get(bullet);
+        if (particle != null && particle.effect instanceof ParticleEffectPool.PooledEffect pooledEffect) {
+            pooledEffect.free();
+            particle.effect = null;
         }
 
-        VelocityComponent velocity = bullet.getComponent(VelocityComponent.class);
-        if (velocity != null) velocity.velocity.setZero();
+        engine.removeEntity(bullet);
+        activeCount[proj.type.ordinal()]--;
+        freeLists[proj.type.ordinal()].add(bullet);
+    }
 
-        PositionComponent position = bullet.getComponent(PositionComponent.class);
-        if (position != null) position.position.set(-10000, -10000);
+    // Cria a entidade completa de um tipo, com o corpo já inativo e estacionado
+    private Entity createProjectile(World world, ProjectileComponent.ProjectileType type) {
+        Texture texture = textureFor(type);
+        Entity bullet = new Entity();
 
-        TextureComponent tx = bullet.getComponent(TextureComponent.class);
-        if (tx != null) tx.texture = null;
+        ProjectileComponent proj = new ProjectileComponent();
+        proj.type = type;
+        proj.texture = texture;
+        proj.speed = (type == ProjectileComponent.ProjectileType.FIREBALL) ? 3800f : 200f;
+        proj.pooled = true;
+        proj.raycast = isRaycast(type);
+        bullet.add(proj);
 
-        if (engine.getEntities().contains(bullet, true)) {
-            engine.removeEntity(bullet);
+        TextureComponent tx = new TextureComponent();
+        tx.texture = texture;
+        bullet.add(tx);
+
+        bullet.add(new PositionComponent());
+        bullet.add(new VelocityComponent());
+        bullet.add(new TransformComponent());
+
+        if (!proj.raycast) {
+            PhysicsComponent ph = new PhysicsComponent();
+            if (isWorldLocked()) physicsSystem.execute(() -> ph.body = createBody(world, bullet, type, texture));
+            else ph.body = createBody(world, bullet, type, texture);
+            bullet.add(ph);
         }
 
-        bulletPool.add(bullet);
+        if (type == ProjectileComponent.ProjectileType.FIREBALL) {
+            ParticleComponent particle = new ParticleComponent();
+            particle.offset.set(texture.getWidth() / 2f, texture.getHeight() / 2f);
+            bullet.add(particle);
+        }
+
+        createdCount[type.ordinal()]++;
+        return bullet;
     }
 
     // Cria um corpo físico Box2D com base no tipo de projétil
-    private Body createBody(World world, float x, float y, Entity entity, ProjectileComponent.ProjectileType type) {
+    private Body createBody(World world, Entity entity, ProjectileComponent.ProjectileType type, Texture texture) {
         BodyDef bodyDef = new BodyDef();
         bodyDef.type = BodyDef.BodyType.DynamicBody;
-        bodyDef.position.set(x, y);
+        bodyDef.position.set(PARK_POSITION, PARK_POSITION);
+        bodyDef.bullet = true;
+        bodyDef.active = false;
 
         Body body = world.createBody(bodyDef);
-        body.setBullet(true);
+        addFixtureToBody(body, texture, entity);
 
-        Texture texture = (type == ProjectileComponent.ProjectileType.FIREBALL)
-            ? assetManager.get(AssetPaths.FIREBALL_TEXTURE, Texture.class)
-            : assetManager.get(AssetPaths.BULLET_TEXTURE, Texture.class);
+        return body;
+    }
 
-        addFixtureToBody(body, texture, type, entity);
+    private void activateBody(Body body, float x, float y, float velocityX, float velocityY) {
+        body.setTransform(x, y, 0);
+        body.setLinearVelocity(velocityX, velocityY);
+        body.setActive(true);
+        body.setAwake(true);
+    }
 
-        return body;
+    private void parkBody(Body body) {
+        body.setActive(false);
+        body.setLinearVelocity(0, 0);
+        body.setTransform(PARK_POSITION, PARK_POSITION, 0f);
     }
 
     // Adiciona uma fixture circular baseada na textura ao corpo
-    private void addFixtureToBody(Body body, Texture texture, ProjectileComponent.ProjectileType type, Entity entity) {
+    private void addFixtureToBody(Body body, Texture texture, Entity entity) {
         CircleShape shape = new CircleShape();
         shape.setRadius(Math.min(texture.getWidth(), texture.getHeight()) / 2f);
         shape.setPosition(new Vector2(texture.getWidth() / 2f, texture.getHeight() / 2f));
@@ -206,11 +234,79 @@ public class BulletFactory {
         fixtureDef.density = 0.1f;
         fixtureDef.restitution = 0f;
         fixtureDef.friction = 0f;
+        CollisionLayer.PROJECTILE.applyTo(fixtureDef);
 
         Fixture fixture = body.createFixture(fixtureDef);
-        fixture.setUserData(type.name().toLowerCase());
+        FixtureTag.attach(fixture, CollisionLayer.PROJECTILE, entity);
         body.setUserData(entity);
 
         shape.dispose();
     }
+
+    // Os projéteis por raycast não têm corpo; os restantes destroem o corpo ao sair do pool
+    private void discard(Entity bullet) {
+        PhysicsComponent physics = ComponentMappers.physics.get(bullet);
+        if (physics == null || physics.body == null) return;
+        if (physicsSystem != null) physicsSystem.destroyBody(physics.body);
+        else physics.body.getWorld().destroyBody(physics.body);
+    }
+
+    // Verdadeiro quando a thread de física está a meio de um passo e os corpos não podem ser tocados
+    private boolean isWorldLocked() {
+        return physicsSystem != null && physicsSystem.isStepping();
+    }
+
+    // Liga a fábrica ao PhysicsSystem, para usar a fila de comandos quando a física corre em thread própria
+    public void setPhysicsSystem(PhysicsSystem physicsSystem) {
+        this.physicsSystem = physicsSystem;
+    }
+
+    private boolean isRaycast(ProjectileComponent.ProjectileType type) {
+        return raycastBullets && type == ProjectileComponent.ProjectileType.BULLET;
+    }
+
+    // Liga ou desliga o modo raycast das balas normais; só afeta os projéteis obtidos a partir daqui
+    public void setRaycastBullets(boolean raycastBullets) {
+        this.raycastBullets = raycastBullets;
+    }
+
+    public boolean isRaycastBullets() { return raycastBullets; }
+
+    private Texture textureFor(ProjectileComponent.ProjectileType type) {
+        return (type == ProjectileComponent.ProjectileType.FIREBALL)
+            ? assetManager.get(AssetPaths.FIREBALL_TEXTURE, Texture.class)
+            : assetManager.get(AssetPaths.BULLET_TEXTURE, Texture.class);
+    }
+
+    // O pool de efeitos só é criado no primeiro fireball (o efeito tem de estar carregado no AssetManager)
+    private ParticleEffect obtainParticleEffect() {
+        if (particlePool == null) {
+            ParticleEffect template = assetManager.get(AssetPaths.PARTICLE_EXPLOSION, ParticleEffect.class);
+            particlePool = new ParticleEffectPool(template, 8, 64);
+        }
+        return particlePool.obtain();
+    }
+
+    // Esvazia as listas livres e o pool de efeitos; os corpos são destruídos com o World
+    public void dispose() {
+        for (Array<Entity> freeList : freeLists) {
+            freeList.clear();
+        }
+        if (particlePool != null) particlePool.clear();
+    }
+
+    // Projéteis livres à espera de reutilização
+    public int getFreeCount(ProjectileComponent.ProjectileType type) { return freeLists[type.ordinal()].size; }
+
+    // Projéteis em jogo neste momento
+    public int getActiveCount(ProjectileComponent.ProjectileType type) { return activeCount[type.ordinal()]; }
+
+    // Máximo de projéteis em jogo ao mesmo tempo
+    public int getPeakActiveCount(ProjectileComponent.ProjectileType type) { return peakActiveCount[type.ordinal()]; }
+
+    // Total de entidades criadas (pré-aquecimento incluído)
+    public int getCreatedCount(ProjectileComponent.ProjectileType type) { return createdCount[type.ordinal()]; }
+
+    // Pedidos que encontraram a lista livre vazia e tiveram de criar um projétil
+    public int getMissCount(ProjectileComponent.ProjectileType type) { return missCount[type.ordinal()]; }
 }
@@ -1,5 +1,7 @@
 package com.badlogic.UniverseConqueror.ECS.entity;
 
+import com.badlogic.UniverseConqueror.ContactListener.CollisionLayer;
+import com.badlogic.UniverseConqueror.ContactListener.FixtureTag;
 import com.badlogic.UniverseConqueror.ECS.components.*;
 import com.badlogic.UniverseConqueror.Interfaces.EnemyStrategy;
 import com.badlogic.UniverseConqueror.State.SavedEnemyData;
@@ -26,7 +28,7 @@ public class EnemyFactory  {
 
         Entity enemy = engine.createEntity();
 
-        BodyComponent bodyComponent = createEnemyBody(start, world);
+        BodyComponent bodyComponent = createEnemyBody(start, world, enemy);
         bodyComponent.body.setUserData(enemy);
         enemy.add(bodyComponent);
         enemy.add(new PhysicsComponent(bodyComponent.body));
@@ -101,7 +103,7 @@ public class EnemyFactory  {
         enemyComponent.type = EnemyComponent.BehaviorType.UFO;
         enemy.add(enemyComponent);
 
-        BodyComponent bodyComponent = createEnemyBody(position, world);
+        BodyComponent bodyComponent = createEnemyBody(position, world, enemy);
         bodyComponent.body.setUserData(enemy);
 
         enemy.add(bodyComponent);
@@ -207,7 +209,7 @@ public class EnemyFactory  {
     }
 
     // Cria corpo Box2D padrao para inimigos
-    private static BodyComponent createEnemyBody(Vector2 position, World world) {
+    private static BodyComponent createEnemyBody(Vector2 position, World world, Entity enemy) {
         BodyDef bodyDef = new BodyDef();
         bodyDef.type = BodyDef.BodyType.DynamicBody;
         bodyDef.position.set(position);
@@ -219,9 +221,10 @@ public class EnemyFactory  {
         FixtureDef fixtureDef = new FixtureDef();
         fixtureDef.shape = shape;
         fixtureDef.density = 1f;
+        CollisionLayer.ENEMY.applyTo(fixtureDef);
         body.setLinearDamping(0f);
 
-        body.createFixture(fixtureDef).setUserData("enemy");
+        FixtureTag.attach(body.createFixture(fixtureDef), CollisionLayer.ENEMY, enemy);
         shape.dispose();
 
         BodyComponent bc = new BodyComponent();
@@ -1,5 +1,7 @@
 package com.badlogic.UniverseConqueror.ECS.entity;
 
+import com.badlogic.UniverseConqueror.ContactListener.CollisionLayer;
+import com.badlogic.UniverseConqueror.ContactListener.FixtureTag;
 import com.badlogic.UniverseConqueror.ECS.components.ItemComponent;
 import com.badlogic.UniverseConqueror.ECS.components.TextureComponent;
 import com.badlogic.UniverseConqueror.ECS.components.TransformComponent;
@@ -86,9 +88,10 @@ public class ItemFactory {
         FixtureDef fixtureDef = new FixtureDef();
         fixtureDef.shape = shape;
         fixtureDef.isSensor = true;
+        CollisionLayer.ITEM.applyTo(fixtureDef);
 
         Fixture fixture = body.createFixture(fixtureDef);
-        fixture.setUserData("item");
+        FixtureTag.attach(fixture, CollisionLayer.ITEM, entity);
         body.setUserData(entity);
 
         shape.dispose();
@@ -1,5 +1,7 @@
 package com.badlogic.UniverseConqueror.ECS.entity;
 
+import com.badlogic.UniverseConqueror.ContactListener.CollisionLayer;
+import com.badlogic.UniverseConqueror.ContactListener.FixtureTag;
 import com.badlogic.UniverseConqueror.ECS.components.*;
 import com.badlogic.UniverseConqueror.ECS.utils.AnimationLoader;
 import com.badlogic.ashley.core.Entity;
@@ -57,17 +59,38 @@ public class PlayerFactory {
 
         // Outros componentes
         entity.add(engine.createComponent(AttackComponent.class));
-        entity.add(engine.createComponent(JumpComponent.class));
+        JumpComponent jump = engine.createComponent(JumpComponent.class);
+        jump.hasFootSensor = true;
+        jump.groundContacts = 0;
+        entity.add(jump);
         entity.add(engine.createComponent(PlayerComponent.class));
         entity.add(engine.createComponent(CameraComponent.class));
         entity.add(engine.createComponent(HealthComponent.class));
 
-        // Associa o corpo à entidade
+        // Associa o corpo e o fixture à entidade
         bodyComponent.body.setUserData(entity);
+        FixtureTag.attach(bodyComponent.body.getFixtureList().first(), CollisionLayer.PLAYER, entity);
+        addFootSensor(bodyComponent.body, entity);
 
         return entity;
     }
 
+    // Acrescenta o sensor dos pés: uma faixa fina na base da caixa do jogador, que só toca no chão
+    private static void addFootSensor(Body body, Entity entity) {
+        PolygonShape shape = new PolygonShape();
+        shape.setAsBox(30f, 4f, new Vector2(0f, -40f), 0f);
+
+        FixtureDef fixtureDef = new FixtureDef();
+        fixtureDef.shape = shape;
+        fixtureDef.isSensor = true;
+        CollisionLayer.FOOT.applyTo(fixtureDef);
+
+        Fixture fixture = body.createFixture(fixtureDef);
+        FixtureTag.attach(fixture, CollisionLayer.FOOT, entity);
+
+        shape.dispose();
+    }
+
     // Cria o corpo físico do jogador com Box2D
     public static BodyComponent createBody(Vector2 position, World world) {
         BodyDef bodyDef = new BodyDef();
@@ -86,6 +109,7 @@ public class PlayerFactory {
         fixtureDef.density = 1.0f;
         fixtureDef.friction = 0.5f;
         fixtureDef.restitution = 0.3f;
+        CollisionLayer.PLAYER.applyTo(fixtureDef);
 
         body.createFixture(fixtureDef);
 
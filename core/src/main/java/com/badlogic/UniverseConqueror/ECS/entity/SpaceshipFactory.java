@@ -1,5 +1,7 @@
 package com.badlogic.UniverseConqueror.ECS.entity;
 
+import com.badlogic.UniverseConqueror.ContactListener.CollisionLayer;
+import com.badlogic.UniverseConqueror.ContactListener.FixtureTag;
 import com.badlogic.UniverseConqueror.ECS.components.*;
 import com.badlogic.UniverseConqueror.Utils.AssetPaths;
 import com.badlogic.ashley.core.Engine;
@@ -65,9 +67,10 @@ public class SpaceshipFactory {
         FixtureDef fixtureDef = new FixtureDef();
         fixtureDef.shape = shape;
         fixtureDef.isSensor = true;
+        CollisionLayer.SPACESHIP.applyTo(fixtureDef);
 
         Fixture fixture = body.createFixture(fixtureDef);
-        fixture.setUserData("spaceship");
+        FixtureTag.attach(fixture, CollisionLayer.SPACESHIP, entity);
         body.setUserData(entity);
 
         shape.dispose();
@@ -2,23 +2,45 @@ package com.badlogic.UniverseConqueror.ECS.systems;
 
 import com.badlogic.UniverseConqueror.ECS.components.*;
 import com.badlogic.UniverseConqueror.ECS.utils.ComponentMappers;
+import com.badlogic.UniverseConqueror.ECS.utils.SystemAccess;
+import com.badlogic.UniverseConqueror.Interfaces.ScheduledSystem;
 import com.badlogic.ashley.core.Entity;
 import com.badlogic.ashley.core.Family;
+import com.badlogic.gdx.graphics.OrthographicCamera;
 
 // Sistema responsável por aplicar lógica de IA às entidades com AIComponent
-public class AISystem extends BaseIteratingSystem {
+public class AISystem extends BaseIteratingSystem implements ScheduledSystem {
 
     // Cria o sistema e define que ele processa entidades com AI, Posição e Velocidade
     public AISystem() {
         super(Family.all(AIComponent.class, PositionComponent.class, VelocityComponent.class).get());
     }
 
+    // As estratégias leem as posições já sincronizadas pelo PhysicsSystem (nunca os corpos: o Box2D só é usado
+    // na thread do jogo), o campo de fluxo e a câmera, e escrevem velocidade e estado; a velocidade chega aos
+    // corpos no applyVelocities do frame seguinte
+    @Override
+    public void declareAccess(SystemAccess access) {
+        access.reads(KnockbackComponent.class, PositionComponent.class, PhysicsComponent.class, HealthComponent.class,
+                FlowFieldComponent.class, UfoComponent.class, OrthographicCamera.class)
+            .writes(AIComponent.class, VelocityComponent.class, StateComponent.class, DormantComponent.class);
+    }
+
     // Processa cada entidade com IA a cada frame
     @Override
     protected void processEntity(Entity entity, float deltaTime) {
         KnockbackComponent knockback = ComponentMappers.knockback.get(entity);
         if (knockback != null) return; // Ignora AI enquanto sofre knockback
 
+        // Entidades dormentes (longe da câmera) só pensam a cada tick grosso, com o tempo acumulado
+        DormantComponent dormant = ComponentMappers.dormant.get(entity);
+        if (dormant != null) {
+            dormant.aiTimer += deltaTime;
+            if (dormant.aiTimer < DormantComponent.COARSE_TICK) return;
+            deltaTime = dormant.aiTimer;
+            dormant.aiTimer = 0f;
+        }
+
         AIComponent ai = ComponentMappers.ai.get(entity);
         PositionComponent position = ComponentMappers.position.get(entity);
         VelocityComponent velocity = ComponentMappers.velocity.get(entity);
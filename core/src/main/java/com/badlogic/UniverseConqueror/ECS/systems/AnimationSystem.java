@@ -1,6 +1,7 @@
 package com.badlogic.UniverseConqueror.ECS.systems;
 
 import com.badlogic.UniverseConqueror.ECS.components.AnimationComponent;
+import com.badlogic.UniverseConqueror.ECS.components.DormantComponent;
 import com.badlogic.UniverseConqueror.ECS.components.StateComponent;
 import com.badlogic.UniverseConqueror.ECS.utils.ComponentMappers;
 import com.badlogic.ashley.core.Entity;
@@ -22,6 +23,15 @@ public class AnimationSystem extends BaseIteratingSystem {
         StateComponent state = ComponentMappers.state.get(entity);
         AnimationComponent anim = ComponentMappers.animation.get(entity);
 
+        // Entidades dormentes não estão no ecrã: a animação só avança a cada tick grosso
+        DormantComponent dormant = ComponentMappers.dormant.get(entity);
+        if (dormant != null) {
+            dormant.animationTimer += deltaTime;
+            if (dormant.animationTimer < DormantComponent.COARSE_TICK) return;
+            deltaTime = dormant.animationTimer;
+            dormant.animationTimer = 0f;
+        }
+
         // Atualiza os tempos acumulados
         state.timeInState += deltaTime;
         anim.stateTime += deltaTime;
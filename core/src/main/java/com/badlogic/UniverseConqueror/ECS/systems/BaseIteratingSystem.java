@@ -1,5 +1,6 @@
 package com.badlogic.UniverseConqueror.ECS.systems;
 
+import com.badlogic.UniverseConqueror.Utils.FrameProfiler;
 import com.badlogic.ashley.core.Entity;
 import com.badlogic.ashley.systems.IteratingSystem;
 
@@ -8,11 +9,35 @@ import com.badlogic.ashley.systems.IteratingSystem;
  * Pode ser extendido por qualquer sistema que queira
  * acesso fácil a mappers comuns.
  */
-public abstract class BaseIteratingSystem extends IteratingSystem {
+public abstract class BaseIteratingSystem extends IteratingSystem implements ScheduledMember {
+
+    // Grupo paralelo do SystemScheduler a que o sistema pertence (null quando corre em série pelo engine)
+    private SystemGroup schedulerGroup;
+
     public BaseIteratingSystem(com.badlogic.ashley.core.Family family) {
         super(family);
     }
 
     @Override
     protected abstract void processEntity(Entity entity, float deltaTime);
+
+    // Num grupo, o engine não chama update(): o primeiro membro corre o grupo inteiro quando é visitado.
+    // Marca também o início da vez do sistema para o FrameProfiler.
+    @Override
+    public boolean checkProcessing() {
+        FrameProfiler.get().mark(this);
+        if (schedulerGroup == null) return super.checkProcessing();
+        schedulerGroup.visit(this);
+        return false;
+    }
+
+    @Override
+    public boolean isProcessingEnabled() {
+        return super.checkProcessing();
+    }
+
+    @Override
+    public void setSchedulerGroup(SystemGroup schedulerGroup) {
+        this.schedulerGroup = schedulerGroup;
+    }
 }
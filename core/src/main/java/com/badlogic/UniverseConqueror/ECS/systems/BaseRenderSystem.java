@@ -1,11 +1,10 @@
 package com.badlogic.UniverseConqueror.ECS.systems;
 
 import com.badlogic.ashley.core.Family;
-import com.badlogic.ashley.systems.IteratingSystem;
 import com.badlogic.gdx.graphics.OrthographicCamera;
 import com.badlogic.gdx.graphics.g2d.SpriteBatch;
 
-public abstract class BaseRenderSystem extends IteratingSystem {
+public abstract class BaseRenderSystem extends BaseIteratingSystem {
 
     protected final SpriteBatch batch;
     protected final OrthographicCamera camera;
@@ -0,0 +1,43 @@
+package com.badlogic.UniverseConqueror.ECS.systems;
+
+import com.badlogic.UniverseConqueror.Utils.FrameProfiler;
+import com.badlogic.ashley.core.EntitySystem;
+
+/**
+ * EntitySystem base dos sistemas que não iteram uma família.
+ * Marca o início da sua vez no engine para o FrameProfiler e pode entrar num grupo paralelo do
+ * SystemScheduler, tal como o BaseIteratingSystem.
+ */
+public abstract class BaseSystem extends EntitySystem implements ScheduledMember {
+
+    // Grupo paralelo do SystemScheduler a que o sistema pertence (null quando corre em série pelo engine)
+    private SystemGroup schedulerGroup;
+
+    public BaseSystem() {
+        super();
+    }
+
+    public BaseSystem(int priority) {
+        super(priority);
+    }
+
+    // O engine chama checkProcessing() imediatamente antes de update(); num grupo, o primeiro membro
+    // corre o grupo inteiro quando é visitado
+    @Override
+    public boolean checkProcessing() {
+        FrameProfiler.get().mark(this);
+        if (schedulerGroup == null) return super.checkProcessing();
+        schedulerGroup.visit(this);
+        return false;
+    }
+
+    @Override
+    public boolean isProcessingEnabled() {
+        return super.checkProcessing();
+    }
+
+    @Override
+    public void setSchedulerGroup(SystemGroup schedulerGroup) {
+        this.schedulerGroup = schedulerGroup;
+    }
+}
@@ -1,19 +1,26 @@
 package com.badlogic.UniverseConqueror.ECS.systems;
 
-import com.badlogic.ashley.core.EntitySystem;
+import com.badlogic.ashley.core.Engine;
 import com.badlogic.gdx.physics.box2d.Body;
 import com.badlogic.gdx.physics.box2d.World;
 import com.badlogic.gdx.utils.Array;
 
-public class BodyRemovalSystem extends EntitySystem {
+public class BodyRemovalSystem extends BaseSystem {
     private final World world;
     private final Array<Body> bodiesToDestroy = new Array<>();
+    private PhysicsSystem physicsSystem;
 
     // Construtor recebe o mundo Box2D como parâmetro
     public BodyRemovalSystem(World world) {
         this.world = world;
     }
 
+    // Com a física em thread própria, a destruição passa pela fila de comandos do PhysicsSystem
+    @Override
+    public void addedToEngine(Engine engine) {
+        physicsSystem = engine.getSystem(PhysicsSystem.class);
+    }
+
     // Marca um corpo para remoção no próximo update
     public void markForRemoval(Body body) {
         bodiesToDestroy.add(body);
@@ -23,7 +30,8 @@ public class BodyRemovalSystem extends EntitySystem {
     @Override
     public void update(float deltaTime) {
         for (Body body : bodiesToDestroy) {
-            world.destroyBody(body);
+            if (physicsSystem != null) physicsSystem.destroyBody(body);
+            else world.destroyBody(body);
         }
         bodiesToDestroy.clear();
     }
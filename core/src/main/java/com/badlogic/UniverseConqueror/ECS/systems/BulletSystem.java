@@ -4,71 +4,56 @@ import com.badlogic.UniverseConqueror.Audio.SoundManager;
 import com.badlogic.UniverseConqueror.ECS.components.*;
 import com.badlogic.UniverseConqueror.ECS.entity.BulletFactory;
 import com.badlogic.UniverseConqueror.ECS.events.*;
+import com.badlogic.UniverseConqueror.Interfaces.ProfiledSystem;
 import com.badlogic.UniverseConqueror.ECS.utils.ComponentMappers;
 import com.badlogic.ashley.core.*;
-import com.badlogic.gdx.assets.AssetManager;
-import com.badlogic.gdx.graphics.OrthographicCamera;
 import com.badlogic.gdx.math.Vector2;
 import com.badlogic.gdx.physics.box2d.World;
 import com.badlogic.gdx.utils.Array;
 import com.badlogic.gdx.physics.box2d.Body;
 
-public class BulletSystem extends EntitySystem {
+public class BulletSystem extends BaseSystem implements ProfiledSystem {
 
-    private final OrthographicCamera camera;
+    // Margem à volta da área visível a partir da qual um projétil é descartado
+    private static final float OUT_OF_VIEW_MARGIN = 3000f;
+
+    private final SpatialIndexSystem spatialIndex;
     private final PooledEngine engine;
     private final BulletFactory bulletFactory;
     private final Array<Entity> activeBullets = new Array<>();
     private final World world;
 
-    public BulletSystem(World world, OrthographicCamera camera, AssetManager assetManager, PooledEngine engine) {
+    public BulletSystem(World world, SpatialIndexSystem spatialIndex, BulletFactory bulletFactory, PooledEngine engine) {
         this.world = world;
-        this.camera = camera;
+        this.spatialIndex = spatialIndex;
         this.engine = engine;
-        this.bulletFactory = new BulletFactory(assetManager, engine);
+        this.bulletFactory = bulletFactory;
     }
 
     @Override
     public void update(float deltaTime) {
         for (int i = activeBullets.size - 1; i >= 0; i--) {
             Entity bullet = activeBullets.get(i);
-            PositionComponent position = ComponentMappers.position.get(bullet);
-            VelocityComponent velocity = ComponentMappers.velocity.get(bullet);
-            PhysicsComponent physics = ComponentMappers.physics.get(bullet);
+            ProjectileComponent projectile = ComponentMappers.projectile.get(bullet);
 
-            if (position == null || velocity == null) {
+            // Já devolvida ao pool (por exemplo, pelo listener de colisões)
+            if (projectile == null || !projectile.inUse) {
                 activeBullets.removeIndex(i);
                 continue;
             }
 
-            if (physics != null && physics.body != null) {
-                position.position.set(physics.body.getPosition());
-            }
+            // A posição vem da sincronização do PhysicsSystem (ou do RaycastProjectileSystem, sem corpo)
+            PositionComponent position = ComponentMappers.position.get(bullet);
 
             if (isOutOfBounds(position)) {
-                if (physics != null && physics.body != null) {
-                    physics.body.setActive(false);
-                }
-                engine.removeEntity(bullet);
                 activeBullets.removeIndex(i);
                 bulletFactory.free(bullet);
             }
         }
-
-        // Verificação defensiva de integridade
-        for (Entity bullet : activeBullets) {
-            if (ComponentMappers.enemy.get(bullet) != null) {
-                System.err.println("[ERRO FATAL] Bullet ainda tem EnemyComponent! ID: " + bullet.hashCode());
-            }
-        }
     }
 
     private boolean isOutOfBounds(PositionComponent position) {
-        float margin = 3000f;
-        return position.position.x < camera.position.x - camera.viewportWidth / 2 - margin ||
-            position.position.x > camera.position.x + camera.viewportWidth / 2 + margin ||
-            position.position.y < camera.position.y - camera.viewportHeight / 2 - margin ||
-            position.position.y > camera.position.y + camera.viewportHeight / 2 + margin;
+        return !spatialIndex.isInView(position.position, OUT_OF_VIEW_MARGIN);
     }
 
     public void spawnProjectile(float x, float y, Vector2 target, Body body, ProjectileComponent.ProjectileType type) {
@@ -119,9 +104,6 @@ public class BulletSystem extends EntitySystem {
         float bulletX = playerX + offsetX;
         float bulletY = playerY + offsetY;
 
-        Vector2 bulletStartPosition = new Vector2(bulletX, bulletY);
-        Vector2 target = new Vector2(mousePosition);
-
         ProjectileComponent.ProjectileType type = fireball
             ? ProjectileComponent.ProjectileType.FIREBALL
             : ProjectileComponent.ProjectileType.BULLET;
@@ -144,9 +126,13 @@ public class BulletSystem extends EntitySystem {
 
         attack.remainingAttackPower = Math.max(attack.remainingAttackPower, 0);
 
-        Entity bullet = bulletFactory.obtainProjectile(world, bulletStartPosition.x, bulletStartPosition.y, target, type);
+        Entity bullet = bulletFactory.obtainProjectile(world, bulletX, bulletY, mousePosition, type);
         spawnedFromFactory(bullet);
 
         EventBus.get().notify(new AttackStartedEvent(attacker, fireball));
     }
+
+    // Projéteis ativos acompanhados por este sistema
+    @Override
+    public int getEntityCount() { return activeBullets.size; }
 }
@@ -9,7 +9,7 @@ import com.badlogic.gdx.graphics.OrthographicCamera;
 import com.badlogic.gdx.math.MathUtils;
 import com.badlogic.gdx.math.Vector3;
 
-public class CameraInputSystem extends EntitySystem {
+public class CameraInputSystem extends BaseSystem {
 
     // Câmera usada para navegação e zoom
     private OrthographicCamera camera;
@@ -7,7 +7,7 @@ import com.badlogic.ashley.utils.ImmutableArray;
 import com.badlogic.gdx.graphics.OrthographicCamera;
 import com.badlogic.gdx.math.Vector3;
 
-public class CameraSystem extends EntitySystem {
+public class CameraSystem extends BaseSystem {
 
     // Lista de entidades com componentes de câmera e transformação
     private ImmutableArray<Entity> entities;
@@ -19,6 +19,9 @@ public class CameraSystem extends EntitySystem {
     private ComponentMapper<TransformComponent> tm = ComponentMapper.getFor(TransformComponent.class);
     private ComponentMapper<CameraComponent> cm = ComponentMapper.getFor(CameraComponent.class);
 
+    // Posição alvo da câmera, reutilizada a cada frame
+    private final Vector3 targetPos = new Vector3();
+
     // Dimensões do mapa
     private float mapWidth;
     private float mapHeight;
@@ -48,7 +51,7 @@ public class CameraSystem extends EntitySystem {
 
         // Se estiver em modo "seguir jogador", move a câmera suavemente
         if (camComp.followPlayer) {
-            Vector3 targetPos = new Vector3(transform.position.x, transform.position.y, 0);
+            targetPos.set(transform.position.x, transform.position.y, 0);
 
             // Interpola suavemente a posição da câmera até a do jogador
             camera.position.lerp(targetPos, 0.1f);
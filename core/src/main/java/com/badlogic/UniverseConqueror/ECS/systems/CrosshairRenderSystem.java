@@ -1,7 +1,8 @@
 package com.badlogic.UniverseConqueror.ECS.systems;
 
+import com.badlogic.UniverseConqueror.ECS.utils.SystemAccess;
+import com.badlogic.UniverseConqueror.Interfaces.ScheduledSystem;
 import com.badlogic.UniverseConqueror.Utils.AssetPaths;
-import com.badlogic.ashley.core.EntitySystem;
 import com.badlogic.gdx.Gdx;
 import com.badlogic.gdx.assets.AssetManager;
 import com.badlogic.gdx.graphics.OrthographicCamera;
@@ -10,7 +11,7 @@ import com.badlogic.gdx.graphics.g2d.SpriteBatch;
 import com.badlogic.gdx.math.Vector2;
 import com.badlogic.gdx.math.Vector3;
 
-public class CrosshairRenderSystem extends EntitySystem {
+public class CrosshairRenderSystem extends BaseSystem implements ScheduledSystem {
 
     private final SpriteBatch batch;
     private final OrthographicCamera camera;
@@ -31,6 +32,14 @@ public class CrosshairRenderSystem extends EntitySystem {
         this.height = crosshairTexture.getHeight() * scale;
     }
 
+    // Desenha com o batch partilhado, por isso fica na thread do jogo
+    @Override
+    public void declareAccess(SystemAccess access) {
+        access.mainThread()
+            .reads(OrthographicCamera.class)
+            .writes(SpriteBatch.class);
+    }
+
     @Override
     public void update(float deltaTime) {
         crosshairPosition.set(Gdx.input.getX(), Gdx.input.getY());
@@ -8,7 +8,7 @@ import com.badlogic.ashley.utils.ImmutableArray;
 
 import java.util.function.Consumer;
 
-public class EnemyCleanupSystem extends EntitySystem {
+public class EnemyCleanupSystem extends BaseSystem {
 
     private final PooledEngine engine;
     private final BodyRemovalSystem bodyRemovalSystem;
@@ -2,6 +2,8 @@ package com.badlogic.UniverseConqueror.ECS.systems;
 
 import com.badlogic.UniverseConqueror.ECS.components.*;
 import com.badlogic.UniverseConqueror.ECS.utils.ComponentMappers;
+import com.badlogic.UniverseConqueror.ECS.utils.SystemAccess;
+import com.badlogic.UniverseConqueror.Interfaces.ScheduledSystem;
 import com.badlogic.ashley.core.*;
 import com.badlogic.gdx.graphics.Color;
 import com.badlogic.gdx.graphics.OrthographicCamera;
@@ -9,7 +11,7 @@ import com.badlogic.gdx.graphics.glutils.ShapeRenderer;
 import com.badlogic.gdx.math.Vector2;
 
 // Sistema responsável por desenhar barras de vida sobre os inimigos
-public class EnemyHealthBarSystem extends BaseIteratingSystem {
+public class EnemyHealthBarSystem extends BaseIteratingSystem implements ScheduledSystem {
 
     private final ShapeRenderer shapeRenderer;
     private final OrthographicCamera camera;
@@ -22,6 +24,13 @@ public class EnemyHealthBarSystem extends BaseIteratingSystem {
         this.shapeRenderer = new ShapeRenderer();
     }
 
+    // Só lê a vida e a posição; desenha com um ShapeRenderer próprio, na thread do jogo
+    @Override
+    public void declareAccess(SystemAccess access) {
+        access.mainThread()
+            .reads(EnemyComponent.class, HealthComponent.class, PositionComponent.class, OrthographicCamera.class);
+    }
+
     // Chamado a cada frame para atualizar e desenhar as barras
     @Override
     public void update(float deltaTime) {
@@ -0,0 +1,53 @@
+package com.badlogic.UniverseConqueror.ECS.systems;
+
+import com.badlogic.UniverseConqueror.ECS.components.FlowFieldComponent;
+import com.badlogic.UniverseConqueror.ECS.components.PlayerComponent;
+import com.badlogic.UniverseConqueror.ECS.components.PositionComponent;
+import com.badlogic.UniverseConqueror.ECS.utils.ComponentMappers;
+import com.badlogic.UniverseConqueror.Pathfinding.FlowField;
+import com.badlogic.UniverseConqueror.Pathfinding.MapGraphBuilder;
+import com.badlogic.ashley.core.Engine;
+import com.badlogic.ashley.core.Entity;
+import com.badlogic.ashley.core.Family;
+import com.badlogic.ashley.utils.ImmutableArray;
+import com.badlogic.gdx.math.Vector2;
+
+// Mantém um único campo de fluxo em direção ao jogador, partilhado por todos os inimigos que o perseguem.
+// O campo só é reconstruído quando o jogador muda de tile ou quando a grelha muda.
+public class FlowFieldSystem extends BaseSystem {
+
+    private final MapGraphBuilder mapGraphBuilder;
+    private final FlowField field;
+    private final Family playerFamily = Family.all(PlayerComponent.class, PositionComponent.class).get();
+    private ImmutableArray<Entity> players;
+
+    public FlowFieldSystem(MapGraphBuilder mapGraphBuilder) {
+        this.mapGraphBuilder = mapGraphBuilder;
+        this.field = new FlowField(mapGraphBuilder.getNavGrid());
+    }
+
+    @Override
+    public void addedToEngine(Engine engine) {
+        players = engine.getEntitiesFor(playerFamily);
+    }
+
+    @Override
+    public void update(float deltaTime) {
+        if (players.size() == 0) return;
+        Entity player = players.first();
+
+        // Liga o campo ao jogador na primeira vez (e depois de um restauro de estado)
+        FlowFieldComponent flow = ComponentMappers.flowField.get(player);
+        if (flow == null || flow.field != field) {
+            player.add(new FlowFieldComponent(field, mapGraphBuilder));
+        }
+
+        Vector2 position = ComponentMappers.position.get(player).position;
+        int tile = mapGraphBuilder.toTileIndex(position.x, position.y);
+        if (tile >= 0 && field.needsRebuild(tile)) {
+            field.build(tile);
+        }
+    }
+
+    public FlowField getField() { return field; }
+}
@@ -1,5 +1,7 @@
 package com.badlogic.UniverseConqueror.ECS.systems;
 
+import com.badlogic.UniverseConqueror.ContactListener.CollisionLayer;
+import com.badlogic.UniverseConqueror.ContactListener.FixtureTag;
 import com.badlogic.UniverseConqueror.ECS.components.*;
 import com.badlogic.UniverseConqueror.ECS.events.EventBus;
 import com.badlogic.UniverseConqueror.ECS.events.IdleEvent;
@@ -8,10 +10,21 @@ import com.badlogic.gdx.math.Vector2;
 import com.badlogic.gdx.physics.box2d.*;
 import com.badlogic.ashley.core.*;
 
-// Sistema responsável por aplicar lógica de pulo no personagem
-public class JumpSystem extends BaseIteratingSystem {
+// Sistema responsável por aplicar lógica de pulo no personagem.
+// O estado "no chão" vem do sensor dos pés (JumpComponent.groundContacts, mantido pelo FootContactListener),
+// sem consultas ao mundo por frame. Entidades sem sensor, ou o modo de recurso ligado, usam um raycast curto
+// que só aceita fixtures com que o sensor dos pés colidiria (mapa e tiles saltáveis).
+public class JumpSystem extends BaseIteratingSystem implements RayCastCallback {
+
+    // Comprimento do raycast de recurso, para baixo a partir do centro do corpo
+    private static final float GROUND_RAY_LENGTH = 0.1f;
 
     private final World world; // Mundo Box2D necessário para raycast e aplicar força de pulo
+    private boolean raycastFallback;
+
+    // Estado do raycast em curso (o callback é o próprio sistema, para não alocar)
+    private Body rayOwner;
+    private boolean rayHit;
 
     public JumpSystem(World world) {
         super(Family.all(JumpComponent.class, BodyComponent.class, StateComponent.class).get());
@@ -25,11 +38,12 @@ public class JumpSystem extends BaseIteratingSystem {
         BodyComponent body = ComponentMappers.body.get(entity);
         StateComponent state = ComponentMappers.state.get(entity);
 
-        boolean isOnGround = isPlayerOnGround(body); // Verifica se está no chão via raycast
+        boolean isOnGround = isOnGround(jump, body); // Verifica se está no chão pelo sensor dos pés
 
         // Se o jogador iniciou pulo e está autorizado a pular, aplica o impulso
         if (jump.isJumping && jump.canJump && isOnGround) {
-            body.body.applyLinearImpulse(new Vector2(0, jump.jumpForce), body.body.getWorldCenter(), true);
+            Vector2 center = body.body.getWorldCenter();
+            body.body.applyLinearImpulse(0f, jump.jumpForce, center.x, center.y, true);
             jump.isJumping = false;
             jump.canJump = false;
             state.set(StateComponent.State.JUMP);
@@ -56,19 +70,36 @@ public class JumpSystem extends BaseIteratingSystem {
         }
     }
 
-    // Verifica se há chão embaixo da entidade usando um raycast curto para baixo
-    private boolean isPlayerOnGround(BodyComponent bodyComponent) {
-        final boolean[] grounded = {false};
+    // Com sensor nos pés basta o contador de contactos; sem ele (ou em modo de recurso) faz o raycast
+    private boolean isOnGround(JumpComponent jump, BodyComponent bodyComponent) {
+        if (jump.hasFootSensor && !raycastFallback) return jump.groundContacts > 0;
+        return raycastGround(bodyComponent.body);
+    }
 
-        Vector2 start = bodyComponent.body.getPosition();
-        Vector2 end = new Vector2(start.x, start.y - 0.1f);
+    // Verifica se há chão embaixo da entidade usando um raycast curto para baixo
+    private boolean raycastGround(Body body) {
+        Vector2 start = body.getPosition();
+        rayOwner = body;
+        rayHit = false;
+        world.rayCast(this, start.x, start.y, start.x, start.y - GROUND_RAY_LENGTH); // Executa raycast no mundo Box2D
+        rayOwner = null;
+        return rayHit;
+    }
 
-        RayCastCallback callback = (fixture, point, normal, fraction) -> {
-            grounded[0] = true;
-            return 0;
-        };
+    // Ignora o próprio corpo e tudo o que não seja chão (balas, itens, inimigos, sensores de outras camadas)
+    @Override
+    public float reportRayFixture(Fixture fixture, Vector2 point, Vector2 normal, float fraction) {
+        if (fixture.getBody() == rayOwner) return -1f;
+        FixtureTag tag = FixtureTag.of(fixture);
+        if (tag == null || !CollisionLayer.FOOT.collidesWith(tag.layer)) return -1f;
+        rayHit = true;
+        return 0f;
+    }
 
-        world.rayCast(callback, start, end); // Executa raycast no mundo Box2D
-        return grounded[0];
+    // Liga o raycast de recurso para todas as entidades, mesmo as que têm sensor nos pés
+    public void setRaycastFallback(boolean raycastFallback) {
+        this.raycastFallback = raycastFallback;
     }
+
+    public boolean isRaycastFallback() { return raycastFallback; }
 }
@@ -2,43 +2,47 @@ package com.badlogic.UniverseConqueror.ECS.systems;
 
 import com.badlogic.UniverseConqueror.ECS.components.*;
 import com.badlogic.UniverseConqueror.ECS.utils.ComponentMappers;
+import com.badlogic.UniverseConqueror.ECS.utils.TransformStore;
+import com.badlogic.UniverseConqueror.Interfaces.ProfiledSystem;
 import com.badlogic.ashley.core.Entity;
-import com.badlogic.ashley.core.Family;
 
-// Sistema que move entidades com base na velocidade e atualiza posição lógica
-public class MovementSystem extends BaseIteratingSystem {
+// Sistema que orienta as animações pela velocidade pedida.
+// Percorre os slots do TransformStore do PhysicsSystem (entidades com física e TransformComponent); a
+// velocidade é passada aos corpos e as posições são lidas só uma vez, na sincronização do PhysicsSystem.
+// Corre logo a seguir ao PhysicsSystem e lê as velocidades que ele já copiou dos componentes neste frame,
+// por isso o armazenamento só é preenchido uma vez por frame.
+public class MovementSystem extends BaseSystem implements ProfiledSystem {
 
-    public MovementSystem() {
-        super(Family.all(PhysicsComponent.class, VelocityComponent.class, TransformComponent.class).get());
+    private final TransformStore store;
+
+    public MovementSystem(TransformStore store) {
+        this.store = store;
     }
 
     @Override
-    protected void processEntity(Entity entity, float deltaTime) {
-        PhysicsComponent physics = ComponentMappers.physics.get(entity);
-        VelocityComponent velocity = ComponentMappers.velocity.get(entity);
-        TransformComponent transform = ComponentMappers.transform.get(entity);
-        AnimationComponent animation = ComponentMappers.animation.get(entity);
-
-        if (physics.body != null && velocity != null) {
+    public void update(float deltaTime) {
+        for (int slot = 0; slot < store.size(); slot++) {
+            if (!store.hasTransform(slot)) continue;
+            Entity entity = store.getEntity(slot);
 
-            physics.body.setLinearVelocity(velocity.velocity);
+            // Corpos dormentes (PhysicsLodSystem) estão fora da simulação
+            if (store.getPhysics(slot).body == null || ComponentMappers.dormant.has(entity)) continue;
 
+            float vx = store.getVelocityX(slot);
 
+            AnimationComponent animation = ComponentMappers.animation.get(entity);
             if (animation != null) {
-                float vx = velocity.velocity.x;
                 if (vx > 0.01f) {
                     animation.facingRight = true;
                 } else if (vx < -0.01f) {
                     animation.facingRight = false;
                 }
             }
-
-
-            transform.position.set(
-                physics.body.getPosition().x,
-                physics.body.getPosition().y,
-                transform.position.z
-            );
+            // A posição de renderização (TransformComponent) é escrita pelo PhysicsSystem, já interpolada
         }
     }
+
+    // Slots percorridos (inclui os sem TransformComponent, que são saltados)
+    @Override
+    public int getEntityCount() { return store.size(); }
 }
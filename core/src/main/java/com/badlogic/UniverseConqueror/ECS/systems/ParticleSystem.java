@@ -4,13 +4,15 @@ import com.badlogic.UniverseConqueror.ECS.utils.ComponentMappers;
 import com.badlogic.UniverseConqueror.ECS.components.ParticleComponent;
 import com.badlogic.UniverseConqueror.ECS.components.PositionComponent;
 import com.badlogic.UniverseConqueror.ECS.components.VelocityComponent;
+import com.badlogic.UniverseConqueror.ECS.utils.SystemAccess;
+import com.badlogic.UniverseConqueror.Interfaces.ScheduledSystem;
 import com.badlogic.ashley.core.Entity;
 import com.badlogic.ashley.core.Family;
 import com.badlogic.gdx.graphics.OrthographicCamera;
 import com.badlogic.gdx.graphics.g2d.SpriteBatch;
 
 // Sistema responsável por renderizar efeitos de partículas associados a entidades
-public class ParticleSystem extends BaseIteratingSystem {
+public class ParticleSystem extends BaseIteratingSystem implements ScheduledSystem {
 
     private final SpriteBatch batch;
     private final OrthographicCamera camera;
@@ -22,6 +24,14 @@ public class ParticleSystem extends BaseIteratingSystem {
         this.camera = camera;
     }
 
+    // Atualiza e desenha os efeitos no SpriteBatch partilhado, na thread do jogo
+    @Override
+    public void declareAccess(SystemAccess access) {
+        access.mainThread()
+            .reads(PositionComponent.class, VelocityComponent.class, OrthographicCamera.class)
+            .writes(ParticleComponent.class, SpriteBatch.class);
+    }
+
     // Inicia o batch antes de processar entidades
     @Override
     public void update(float deltaTime) {
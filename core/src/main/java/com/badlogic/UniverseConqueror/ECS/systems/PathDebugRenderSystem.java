@@ -9,18 +9,19 @@ import com.badlogic.gdx.graphics.OrthographicCamera;
 import com.badlogic.gdx.graphics.glutils.ShapeRenderer;
 import com.badlogic.gdx.graphics.Color;
 import com.badlogic.gdx.math.Vector2;
+import com.badlogic.gdx.utils.Queue;
 
-import java.util.Queue;
-import java.util.List;
-import java.util.ArrayList;
-
-public class PathDebugRenderSystem extends EntitySystem {
+public class PathDebugRenderSystem extends BaseSystem {
 
     private final ShapeRenderer shapeRenderer;
     private final OrthographicCamera camera;
 
     private final Family pathFamily = Family.all(PathComponent.class, PositionComponent.class).get();
-    private Engine engine;
+    private ImmutableArray<Entity> entities;
+
+    // Cores reutilizadas; só o alfa muda de waypoint para waypoint
+    private final Color spaceshipColor = new Color(1f, 1f, 0f, 1f);
+    private final Color enemyColor = new Color(1f, 0f, 0f, 1f);
 
     public PathDebugRenderSystem(OrthographicCamera camera) {
         super(-1000);
@@ -30,30 +31,23 @@ public class PathDebugRenderSystem extends EntitySystem {
 
     @Override
     public void addedToEngine(Engine engine) {
-        this.engine = engine;
+        entities = engine.getEntitiesFor(pathFamily);
     }
 
     @Override
     public void update(float deltaTime) {
-        ImmutableArray<Entity> entities = engine.getEntitiesFor(pathFamily);
-
         shapeRenderer.setProjectionMatrix(camera.combined);
         shapeRenderer.begin(ShapeRenderer.ShapeType.Filled);
 
-        for (Entity entity : entities) {
-            PathComponent path = ComponentMappers.path.get(entity);
-            Queue<Vector2> waypointsQueue = path.waypoints;
-            List<Vector2> waypoints = new ArrayList<>(waypointsQueue);
+        for (int e = 0; e < entities.size(); e++) {
+            PathComponent path = ComponentMappers.path.get(entities.get(e));
+            Queue<Vector2> waypoints = path.waypoints;
+            Color color = (path.type == PathComponent.PathType.SPACESHIP) ? spaceshipColor : enemyColor;
 
-            int total = waypoints.size();
+            int total = waypoints.size;
             for (int i = 0; i < total; i++) {
                 Vector2 waypoint = waypoints.get(i);
-                float alpha = 1f - ((float) i / total);
-
-                Color color = (path.type == PathComponent.PathType.SPACESHIP)
-                    ? new Color(1f, 1f, 0f, alpha)
-                    : new Color(1f, 0f, 0f, alpha);
-
+                color.a = 1f - ((float) i / total);
                 shapeRenderer.setColor(color);
                 shapeRenderer.circle(waypoint.x, waypoint.y, 10f);
             }
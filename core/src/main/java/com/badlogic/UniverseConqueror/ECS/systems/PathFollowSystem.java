@@ -3,22 +3,37 @@ package com.badlogic.UniverseConqueror.ECS.systems;
 import com.badlogic.UniverseConqueror.Audio.SoundManager;
 import com.badlogic.UniverseConqueror.ECS.components.*;
 import com.badlogic.UniverseConqueror.ECS.utils.ComponentMappers;
+import com.badlogic.UniverseConqueror.ECS.utils.SystemAccess;
+import com.badlogic.UniverseConqueror.Interfaces.ScheduledSystem;
+import com.badlogic.UniverseConqueror.Utils.Constants;
 import com.badlogic.ashley.core.ComponentMapper;
 import com.badlogic.ashley.core.Entity;
 import com.badlogic.ashley.core.Family;
-import com.badlogic.ashley.systems.IteratingSystem;
 import com.badlogic.gdx.Gdx;
+
+import java.util.EnumSet;
 import com.badlogic.gdx.Input;
 import com.badlogic.gdx.math.Vector2;
+import com.badlogic.gdx.physics.box2d.World;
 
-import java.util.EnumSet;
+public class PathFollowSystem extends BaseIteratingSystem implements ScheduledSystem {
 
-public class PathFollowSystem extends IteratingSystem {
+    // Vetor de trabalho reutilizado entre entidades e frames
+    private final Vector2 direction = new Vector2();
 
     public PathFollowSystem() {
         super(Family.all(PathComponent.class, PositionComponent.class, VelocityComponent.class).get());
     }
 
+    // Lê a posição do corpo, toca o som do waypoint e lê o teclado, por isso fica na thread do jogo
+    @Override
+    public void declareAccess(SystemAccess access) {
+        access.mainThread()
+            .reads(PositionComponent.class, PhysicsComponent.class)
+            .writes(PathComponent.class, VelocityComponent.class, StateComponent.class, AnimationComponent.class,
+                World.class, SoundManager.class);
+    }
+
     @Override
     protected void processEntity(Entity entity, float deltaTime) {
         PathComponent path = ComponentMappers.path.get(entity);
@@ -32,22 +47,22 @@ public class PathFollowSystem extends IteratingSystem {
         }
 
         // Obtém o próximo waypoint para onde a entidade deve ir
-        Vector2 target = path.waypoints.peek();
+        Vector2 target = path.waypoints.first();
 
         // Obtém a posição atual da entidade pelo corpo físico Box2D
         Vector2 currentPos = physics.body.getPosition();
 
         // Calcula vetor direção e distância entre posição atual e alvo
-        Vector2 direction = new Vector2(target).sub(currentPos);
+        direction.set(target).sub(currentPos);
         float distance = direction.len();
 
         // Se estiver perto o suficiente do waypoint
         if (distance < 50f) {
             SoundManager.getInstance().play("wayPoint");
-            path.waypoints.poll();
+            path.waypoints.removeFirst();
             velocity.velocity.setZero();
         } else {
-            velocity.velocity.set(direction.nor().scl(100f));
+            velocity.velocity.set(direction.nor().scl(Constants.SPEED_PATH_FOLLOW));
             StateComponent state = entity.getComponent(StateComponent.class);
             if (state != null) {
                 boolean isFollowingPath = Gdx.input.isKeyPressed(Input.Keys.F) || Gdx.input.isKeyPressed(Input.Keys.H);
@@ -0,0 +1,132 @@
+package com.badlogic.UniverseConqueror.ECS.systems;
+
+import com.badlogic.UniverseConqueror.ECS.components.PathComponent;
+import com.badlogic.UniverseConqueror.ECS.components.PathTrackingComponent;
+import com.badlogic.UniverseConqueror.ECS.components.PositionComponent;
+import com.badlogic.UniverseConqueror.ECS.utils.ComponentMappers;
+import com.badlogic.UniverseConqueror.Pathfinding.DStarLite;
+import com.badlogic.UniverseConqueror.Pathfinding.MapGraphBuilder;
+import com.badlogic.UniverseConqueror.Pathfinding.NavGrid;
+import com.badlogic.UniverseConqueror.Pathfinding.PathSmoother;
+import com.badlogic.ashley.core.Engine;
+import com.badlogic.ashley.core.Entity;
+import com.badlogic.ashley.core.EntityListener;
+import com.badlogic.ashley.core.Family;
+import com.badlogic.gdx.math.Vector2;
+import com.badlogic.gdx.utils.IntArray;
+
+// Mantém os caminhos seguidos (PathTrackingComponent) atualizados a cada frame com D* Lite.
+// Só volta a extrair waypoints quando o alvo muda de tile, quando a grelha muda ou quando a entidade
+// sai do caminho planeado; avançar ao longo do caminho não custa nada.
+public class PathReplanSystem extends BaseIteratingSystem {
+
+    private static final Family TRACKING_FAMILY = Family.all(PathTrackingComponent.class, PositionComponent.class).get();
+
+    private final MapGraphBuilder mapGraphBuilder;
+    private final NavGrid grid;
+    private final PathSmoother pathSmoother;
+    private final IntArray smoothedPath = new IntArray();
+
+    // Liberta o planeador quando a entidade sai da engine com o seguimento ainda ativo
+    private final EntityListener trackingListener = new EntityListener() {
+        @Override
+        public void entityAdded(Entity entity) {}
+
+        @Override
+        public void entityRemoved(Entity entity) {
+            PathTrackingComponent tracking = ComponentMappers.pathTracking.get(entity);
+            if (tracking != null) tracking.disposePlanner();
+        }
+    };
+
+    public PathReplanSystem(MapGraphBuilder mapGraphBuilder) {
+        super(TRACKING_FAMILY);
+        this.mapGraphBuilder = mapGraphBuilder;
+        this.grid = mapGraphBuilder.getNavGrid();
+        this.pathSmoother = new PathSmoother(grid);
+    }
+
+    @Override
+    public void addedToEngine(Engine engine) {
+        super.addedToEngine(engine);
+        engine.addEntityListener(TRACKING_FAMILY, trackingListener);
+    }
+
+    @Override
+    public void removedFromEngine(Engine engine) {
+        for (Entity entity : getEntities()) {
+            ComponentMappers.pathTracking.get(entity).disposePlanner();
+        }
+        engine.removeEntityListener(trackingListener);
+        super.removedFromEngine(engine);
+    }
+
+    @Override
+    protected void processEntity(Entity entity, float deltaTime) {
+        PathTrackingComponent tracking = ComponentMappers.pathTracking.get(entity);
+
+        // O alvo foi recolhido ou destruído: deixa de seguir
+        PositionComponent targetPosition = tracking.target != null ? ComponentMappers.position.get(tracking.target) : null;
+        if (targetPosition == null || tracking.target.isScheduledForRemoval()) {
+            stopTracking(entity, tracking);
+            return;
+        }
+
+        Vector2 position = ComponentMappers.position.get(entity).position;
+        int start = mapGraphBuilder.toTileIndex(position.x, position.y);
+        int goal = mapGraphBuilder.toTileIndex(targetPosition.position.x, targetPosition.position.y);
+        if (start < 0 || goal < 0) return;
+
+        boolean replan;
+        if (tracking.planner == null) {
+            tracking.planner = new DStarLite(grid);
+            tracking.planner.reset(start, goal);
+            replan = true;
+        } else {
+            boolean goalMoved = goal != tracking.lastGoal;
+            boolean offPath = start != tracking.lastStart && !tracking.path.contains(start);
+            boolean gridChanged = grid.getVersion() != tracking.gridVersion;
+            if (start != tracking.lastStart) tracking.planner.setStart(start);
+            if (goalMoved) tracking.planner.setGoal(goal);
+            replan = goalMoved || offPath || gridChanged;
+        }
+
+        tracking.lastStart = start;
+        tracking.lastGoal = goal;
+        tracking.gridVersion = grid.getVersion();
+
+        // Chegou ao tile do alvo: os waypoints que restam levam-no ao centro
+        if (start == goal) {
+            stopTracking(entity, tracking);
+            return;
+        }
+
+        if (replan) {
+            boolean found = tracking.planner.plan(tracking.path);
+            applyWaypoints(entity, tracking, start, found);
+        }
+    }
+
+    // Reescreve os waypoints do PathComponent com o caminho reparado (já reduzido aos cantos)
+    private void applyWaypoints(Entity entity, PathTrackingComponent tracking, int start, boolean found) {
+        PathComponent pathComponent = ComponentMappers.path.get(entity);
+        if (pathComponent == null) {
+            pathComponent = new PathComponent();
+            entity.add(pathComponent);
+        }
+        pathComponent.type = tracking.type;
+        pathComponent.waypoints.clear();
+        if (!found) return;
+
+        pathSmoother.smooth(start, tracking.path, smoothedPath);
+        for (int i = 0; i < smoothedPath.size; i++) {
+            int index = smoothedPath.get(i);
+            pathComponent.waypoints.addLast(mapGraphBuilder.toWorldPosition(grid.x(index), grid.y(index), new Vector2()));
+        }
+    }
+
+    private void stopTracking(Entity entity, PathTrackingComponent tracking) {
+        tracking.disposePlanner();
+        entity.remove(PathTrackingComponent.class);
+    }
+}
@@ -5,28 +5,50 @@ import com.badlogic.UniverseConqueror.ECS.utils.ComponentMappers;
 import com.badlogic.UniverseConqueror.Pathfinding.*;
 import com.badlogic.ashley.core.*;
 import com.badlogic.ashley.utils.ImmutableArray;
+import com.badlogic.gdx.Application;
 import com.badlogic.gdx.Gdx;
 import com.badlogic.gdx.Input;
 import com.badlogic.gdx.math.Vector2;
+import com.badlogic.gdx.utils.IntArray;
 
-import java.util.List;
+public class PathRequestSystem extends BaseSystem {
 
-public class PathRequestSystem extends EntitySystem {
+    // Pedidos do jogador têm prioridade máxima na fila do serviço
+    private static final int PLAYER_PRIORITY = 0;
 
-    private final MapGraphBuilder mapGraphBuilder;
-    private final AStarPathfinder pathfinder;
+    // Orçamento de integração de resultados por frame
+    private static final int MAX_RESULTS_PER_FRAME = 4;
+    private static final long INTEGRATION_BUDGET_NANOS = 1_000_000L;
 
+    private final MapGraphBuilder mapGraphBuilder;
+    private final PathRequestService pathService;
+    private final PathCache pathCache;
+    private final IntArray cachedPath = new IntArray();
+    private final PathSmoother pathSmoother;
+    private final IntArray smoothedPath = new IntArray();
 
     private final Family playerFamily = Family.all(PlayerComponent.class, PositionComponent.class).get();
     private final Family itemFamily = Family.all(ItemComponent.class, PositionComponent.class).get();
     private final Family spaceshipFamily = Family.all(TargetComponent.class, PositionComponent.class).get();
 
     private Engine engine;
+    private PathfinderType pathfinderType;
 
-    // Construtor recebe as referências do construtor do grafo e do pathfinder
-    public PathRequestSystem(MapGraphBuilder mapGraphBuilder, AStarPathfinder pathfinder) {
+    // Com o seguimento ativo (tecla T), F e H passam a perseguir o alvo com replaneamento incremental
+    private boolean trackingEnabled;
+
+    // Construtor recebe as referências do construtor do grafo e do serviço de pedidos de caminho
+    public PathRequestSystem(MapGraphBuilder mapGraphBuilder, PathRequestService pathService) {
+        this(mapGraphBuilder, pathService, PathfinderType.JPS);
+    }
+
+    // Construtor que escolhe o motor de busca usado nos pedidos
+    public PathRequestSystem(MapGraphBuilder mapGraphBuilder, PathRequestService pathService, PathfinderType pathfinderType) {
         this.mapGraphBuilder = mapGraphBuilder;
-        this.pathfinder = pathfinder;
+        this.pathService = pathService;
+        this.pathfinderType = pathfinderType;
+        this.pathCache = new PathCache(mapGraphBuilder.getNavGrid(), PathCache.DEFAULT_CAPACITY);
+        this.pathSmoother = new PathSmoother(mapGraphBuilder.getNavGrid());
     }
 
     @Override
@@ -34,92 +56,156 @@ public class PathRequestSystem extends EntitySystem {
         this.engine = engine;
     }
 
+    @Override
+    public void removedFromEngine(Engine engine) {
+        pathCache.detach();
+    }
+
     @Override
     public void update(float deltaTime) {
 
-        PathComponent pathComponent = new PathComponent();
+        // Tecla T alterna entre caminhos pontuais e seguimento contínuo do alvo
+        if (Gdx.input.isKeyJustPressed(Input.Keys.T)) {
+            setTrackingEnabled(!trackingEnabled);
+            Gdx.app.log("PathRequestSystem", "Seguimento contínuo " + (trackingEnabled ? "ativo" : "desligado"));
+        }
 
         // Se tecla F foi pressionada, caminho até a spaceship
         if (Gdx.input.isKeyJustPressed(Input.Keys.F)) {
-
-            pathComponent.type = PathComponent.PathType.SPACESHIP;
-
             // Obtém o player e a spaceship
             ImmutableArray<Entity> players = engine.getEntitiesFor(playerFamily);
             ImmutableArray<Entity> spaceships = engine.getEntitiesFor(spaceshipFamily);
 
-            if (players.size() == 0 || spaceships.size() == 0) return;
-
-            Entity player = players.first();
-            Entity spaceship = spaceships.first();
+            if (players.size() > 0 && spaceships.size() > 0) {
+                followTarget(players.first(), spaceships.first(), PathComponent.PathType.SPACESHIP);
+            }
+        }
 
-            Vector2 playerPos = ComponentMappers.position.get(player).position;
-            Vector2 spaceshipPos = ComponentMappers.position.get(spaceship).position;
+        // Se tecla H foi pressionada,  caminho até o item mais próximo
+        if (Gdx.input.isKeyJustPressed(Input.Keys.H)) {
+            ImmutableArray<Entity> players = engine.getEntitiesFor(playerFamily);
+            ImmutableArray<Entity> items = engine.getEntitiesFor(itemFamily);
 
-            // Obtém os nodes do grafo para as posições do player e da spaceship
-            Node startNode = mapGraphBuilder.getNodeAtWorldPosition(playerPos.x, playerPos.y);
-            Node endNode = mapGraphBuilder.getNodeAtWorldPosition(spaceshipPos.x, spaceshipPos.y);
+            if (players.size() > 0 && items.size() > 0) {
+                Entity player = players.first();
+                Entity targetItem = findClosestItem(player, items);
+                if (targetItem != null) {
+                    followTarget(player, targetItem, PathComponent.PathType.ITEM);
+                }
+            }
+        }
 
-            if (startNode == null || endNode == null) return;
+        integrateResults();
+    }
 
-            // Executa A* para encontrar o caminho
-            List<Node> path = pathfinder.findPath(startNode, endNode);
+    // Pedido pontual ou, com o seguimento ativo, perseguição contínua tratada pelo PathReplanSystem
+    private void followTarget(Entity player, Entity target, PathComponent.PathType type) {
+        if (!trackingEnabled) {
+            stopTracking(player);
+            requestPath(player, target, type);
+            return;
+        }
 
-            if (!path.isEmpty()) {
-                // Converte nodes para posições do mundo e adiciona à fila do caminho
-                for (Node node : path) {
-                    pathComponent.waypoints.add(mapGraphBuilder.toWorldPosition(node));
-                }
+        pathService.cancelAll(player);
+        stopTracking(player);
+        player.add(new PathTrackingComponent(target, type));
+    }
 
-                player.remove(PathComponent.class); // Remove caminho antigo se houver
-                player.add(pathComponent); // Adiciona novo caminho ao player
+    // Remove o seguimento anterior e liberta o seu planeador
+    private void stopTracking(Entity player) {
+        PathTrackingComponent previous = player.remove(PathTrackingComponent.class);
+        if (previous != null) previous.disposePlanner();
+    }
 
-            }
-        }
+    // Usa o caminho em cache quando existe; caso contrário submete o pedido ao serviço.
+    // Em ambos os casos um pedido anterior do mesmo jogador é cancelado.
+    private void requestPath(Entity player, Entity target, PathComponent.PathType type) {
+        Vector2 playerPos = ComponentMappers.position.get(player).position;
+        Vector2 targetPos = ComponentMappers.position.get(target).position;
 
-        // Se tecla H foi pressionada,  caminho até o item mais próximo
-        if (Gdx.input.isKeyJustPressed(Input.Keys.H)) {
-            pathComponent.type = PathComponent.PathType.ITEM;
+        // Obtém os nodes do grafo para as posições do player e do destino
+        Node startNode = mapGraphBuilder.getNodeAtWorldPosition(playerPos.x, playerPos.y);
+        Node endNode = mapGraphBuilder.getNodeAtWorldPosition(targetPos.x, targetPos.y);
 
-            ImmutableArray<Entity> players = engine.getEntitiesFor(playerFamily);
-            ImmutableArray<Entity> items = engine.getEntitiesFor(itemFamily);
+        if (startNode == null || endNode == null) return;
 
-            if (players.size() == 0 || items.size() == 0) return;
+        NavGrid grid = mapGraphBuilder.getNavGrid();
+        int start = grid.index(startNode.x, startNode.y);
+        int goal = grid.index(endNode.x, endNode.y);
 
-            Entity player = players.first();
-            Entity targetItem = findClosestItem(player, items);
-            if (targetItem == null) return;
+        if (pathCache.get(start, goal, cachedPath)) {
+            pathService.cancelAll(player);
+            if (cachedPath.notEmpty()) applyPath(player, start, cachedPath, type);
+            return;
+        }
+        pathService.submit(pathfinderType, start, goal, PLAYER_PRIORITY, player, type);
+    }
 
-            Vector2 playerPos = ComponentMappers.position.get(player).position;
-            Vector2 targetPos = ComponentMappers.position.get(targetItem).position;
+    // Recolhe os caminhos prontos dentro do orçamento do frame e converte-os em waypoints
+    private void integrateResults() {
+        long startTime = System.nanoTime();
+        int integrated = 0;
 
+        while (integrated < MAX_RESULTS_PER_FRAME && System.nanoTime() - startTime < INTEGRATION_BUDGET_NANOS) {
+            PathRequest request = pathService.pollCompleted();
+            if (request == null) break;
+            integrated++;
 
-            Node startNode = mapGraphBuilder.getNodeAtWorldPosition(playerPos.x, playerPos.y);
-            Node endNode = mapGraphBuilder.getNodeAtWorldPosition(targetPos.x, targetPos.y);
+            // O dono saiu da engine ou passou a outro caminho entretanto: o resultado já não serve
+            if (!isCurrent(request)) continue;
 
-            if (startNode == null || endNode == null) {
-                return;
+            // O mapa mudou durante o cálculo: volta a pedir com a grelha atual
+            if (request.getGridVersion() != mapGraphBuilder.getNavGrid().getVersion()) {
+                pathService.submit(request.type, request.start, request.goal, request.priority, request.owner, request.tag);
+                continue;
             }
 
-            List<Node> path = pathfinder.findPath(startNode, endNode);
+            if (!request.isSuccessful() || request.path.isEmpty()) continue;
+            // Os caminhos do HPA* são quase ótimos: ficam em cache, mas não servem sufixos
+            pathCache.put(request.start, request.goal, request.path, request.type != PathfinderType.HPA);
+            applyPath((Entity) request.owner, request.start, request.path, (PathComponent.PathType) request.tag);
 
-            if (!path.isEmpty()) {
-                for (Node node : path) {
-                    pathComponent.waypoints.add(mapGraphBuilder.toWorldPosition(node));
-                }
+            if (Gdx.app.getLogLevel() >= Application.LOG_DEBUG) {
+                Gdx.app.debug("PathRequestSystem", "Caminho com " + request.path.size + " tiles em "
+                    + request.getLatencyNanos() / 1_000_000f + " ms (fila: " + pathService.getQueueDepth() + ")");
+            }
+        }
+    }
 
-                if (player.getComponent(PathComponent.class) != null) {
-                    player.remove(PathComponent.class);
-                }
-                player.add(pathComponent);
+    // O dono do pedido continua na engine como jogador e não recebeu, desde que o pedido foi feito, outro
+    // pedido ou um caminho em cache (ambos cancelam este) nem passou a seguimento contínuo
+    private boolean isCurrent(PathRequest request) {
+        if (request.isCancelled() || !(request.owner instanceof Entity owner)) return false;
+        if (owner.isScheduledForRemoval() || !engine.getEntitiesFor(playerFamily).contains(owner, true)) return false;
+        return !ComponentMappers.pathTracking.has(owner);
+    }
 
-            }
+    // Substitui o caminho atual da entidade pelos waypoints do resultado, já reduzidos aos cantos
+    private void applyPath(Entity entity, int start, IntArray path, PathComponent.PathType type) {
+        PathComponent pathComponent = new PathComponent();
+        pathComponent.type = type;
+        pathSmoother.smooth(start, path, smoothedPath);
+
+        // Converte tiles para posições do mundo e adiciona à fila do caminho
+        NavGrid grid = mapGraphBuilder.getNavGrid();
+        for (int i = 0; i < smoothedPath.size; i++) {
+            int index = smoothedPath.get(i);
+            pathComponent.waypoints.addLast(mapGraphBuilder.toWorldPosition(grid.x(index), grid.y(index), new Vector2()));
         }
+
+        entity.remove(PathComponent.class); // Remove caminho antigo se houver
+        entity.add(pathComponent); // Adiciona novo caminho ao player
     }
 
-    // Método para encontrar o item mais próximo do jogador
+    // Método para encontrar o item mais próximo do jogador; usa o índice espacial quando existe
     private Entity findClosestItem(Entity player, ImmutableArray<Entity> items) {
         Vector2 playerPos = ComponentMappers.position.get(player).position;
+        SpatialIndexSystem spatialIndex = engine.getSystem(SpatialIndexSystem.class);
+        if (spatialIndex != null) {
+            Entity nearest = spatialIndex.getGrid().nearest(playerPos.x, playerPos.y, Float.MAX_VALUE, itemFamily);
+            if (nearest != null && !nearest.isScheduledForRemoval()) return nearest;
+        }
+
         Entity closest = null;
         float minDistance = Float.MAX_VALUE;
 
@@ -135,4 +221,22 @@ public class PathRequestSystem extends EntitySystem {
 
         return closest;
     }
+
+    public boolean isTrackingEnabled() { return trackingEnabled; }
+
+    // Ao desligar, os seguimentos em curso terminam e os waypoints atuais são mantidos
+    public void setTrackingEnabled(boolean trackingEnabled) {
+        this.trackingEnabled = trackingEnabled;
+        if (!trackingEnabled && engine != null) {
+            for (Entity player : engine.getEntitiesFor(playerFamily)) stopTracking(player);
+        }
+    }
+
+    public PathRequestService getPathService() { return pathService; }
+
+    public PathCache getPathCache() { return pathCache; }
+
+    public PathfinderType getPathfinderType() { return pathfinderType; }
+
+    public void setPathfinderType(PathfinderType pathfinderType) { this.pathfinderType = pathfinderType; }
 }
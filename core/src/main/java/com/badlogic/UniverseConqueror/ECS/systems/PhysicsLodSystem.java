@@ -0,0 +1,139 @@
+package com.badlogic.UniverseConqueror.ECS.systems;
+
+import com.badlogic.UniverseConqueror.ECS.components.*;
+import com.badlogic.UniverseConqueror.ECS.utils.ComponentMappers;
+import com.badlogic.UniverseConqueror.Interfaces.ProfiledSystem;
+import com.badlogic.ashley.core.Engine;
+import com.badlogic.ashley.core.Entity;
+import com.badlogic.ashley.core.Family;
+import com.badlogic.ashley.utils.ImmutableArray;
+import com.badlogic.gdx.graphics.OrthographicCamera;
+import com.badlogic.gdx.math.Vector2;
+import com.badlogic.gdx.physics.box2d.Body;
+
+// Nível de detalhe da física por distância à câmera.
+// Inimigos e itens para lá do raio ficam dormentes: o corpo é desativado (sai do broad-phase e não gera
+// contactos), a velocidade e o estado de sono são guardados num DormantComponent, e a IA e a animação
+// passam a um tick grosso. Ao voltarem para dentro do raio (com histerese, para não oscilarem na fronteira)
+// o corpo é reativado com o estado guardado.
+public class PhysicsLodSystem extends BaseSystem implements ProfiledSystem {
+
+    // Raio por omissão, bem para lá da área visível com o zoom normal
+    public static final float DEFAULT_RADIUS = 2500f;
+
+    // Fração do raio abaixo da qual uma entidade dormente acorda
+    private static final float WAKE_FACTOR = 0.85f;
+
+    private final OrthographicCamera camera;
+    private float radius;
+    private Engine engine;
+    private ImmutableArray<Entity> entities;
+
+    private int activeCount;
+    private int dormantCount;
+
+    public PhysicsLodSystem(OrthographicCamera camera) {
+        this(camera, DEFAULT_RADIUS);
+    }
+
+    public PhysicsLodSystem(OrthographicCamera camera, float radius) {
+        this.camera = camera;
+        this.radius = radius;
+    }
+
+    @Override
+    public void addedToEngine(Engine engine) {
+        this.engine = engine;
+        entities = engine.getEntitiesFor(Family.all(PositionComponent.class)
+            .one(EnemyComponent.class, ItemComponent.class)
+            .get());
+    }
+
+    @Override
+    public void update(float deltaTime) {
+        float sleepRadius2 = radius * radius;
+        float wakeRadius = radius * WAKE_FACTOR;
+        float wakeRadius2 = wakeRadius * wakeRadius;
+        float cameraX = camera.position.x, cameraY = camera.position.y;
+
+        activeCount = 0;
+        dormantCount = 0;
+        for (int i = 0; i < entities.size(); i++) {
+            Entity entity = entities.get(i);
+            Body body = bodyOf(entity);
+            if (body == null) continue;
+
+            Vector2 position = ComponentMappers.position.get(entity).position;
+            float dx = position.x - cameraX, dy = position.y - cameraY;
+            float distance2 = dx * dx + dy * dy;
+            DormantComponent dormant = ComponentMappers.dormant.get(entity);
+
+            if (dormant == null && distance2 > sleepRadius2) {
+                sleep(entity, body);
+                dormant = ComponentMappers.dormant.get(entity);
+            } else if (dormant != null && distance2 < wakeRadius2) {
+                wake(entity, body, dormant);
+                dormant = null;
+            }
+
+            if (dormant != null) dormantCount++;
+            else activeCount++;
+        }
+    }
+
+    // Guarda o estado do corpo e tira-o da simulação
+    private void sleep(Entity entity, Body body) {
+        // Vem do pool do PooledEngine: todos os campos são repostos aqui
+        DormantComponent dormant = engine.createComponent(DormantComponent.class);
+        dormant.linearVelocity.set(body.getLinearVelocity());
+        dormant.angularVelocity = body.getAngularVelocity();
+        dormant.awake = body.isAwake();
+        dormant.aiTimer = 0f;
+        dormant.animationTimer = 0f;
+        body.setLinearVelocity(0f, 0f);
+        body.setActive(false);
+
+        // Deixa a posição de renderização no sítio em que o corpo parou
+        VelocityComponent velocity = ComponentMappers.velocity.get(entity);
+        if (velocity != null) velocity.velocity.setZero();
+        PhysicsComponent physics = ComponentMappers.physics.get(entity);
+        if (physics != null) physics.previousPosition.set(body.getPosition());
+
+        entity.add(dormant);
+    }
+
+    // Devolve o corpo à simulação com o estado que tinha ao adormecer
+    private void wake(Entity entity, Body body, DormantComponent dormant) {
+        body.setActive(true);
+        body.setLinearVelocity(dormant.linearVelocity);
+        body.setAngularVelocity(dormant.angularVelocity);
+        body.setAwake(dormant.awake);
+
+        VelocityComponent velocity = ComponentMappers.velocity.get(entity);
+        if (velocity != null) velocity.velocity.set(dormant.linearVelocity);
+
+        entity.remove(DormantComponent.class);
+    }
+
+    // Inimigos têm PhysicsComponent; itens só BodyComponent
+    private Body bodyOf(Entity entity) {
+        PhysicsComponent physics = ComponentMappers.physics.get(entity);
+        if (physics != null && physics.body != null) return physics.body;
+        BodyComponent bodyComponent = ComponentMappers.body.get(entity);
+        return bodyComponent != null ? bodyComponent.body : null;
+    }
+
+    public float getRadius() { return radius; }
+
+    public void setRadius(float radius) { this.radius = radius; }
+
+    // Corpos simulados no último frame (inimigos e itens)
+    public int getActiveCount() { return activeCount; }
+
+    // Corpos dormentes no último frame
+    public int getDormantCount() { return dormantCount; }
+
+    // Inimigos e itens avaliados no último frame
+    @Override
+    public int getEntityCount() { return activeCount + dormantCount; }
+}
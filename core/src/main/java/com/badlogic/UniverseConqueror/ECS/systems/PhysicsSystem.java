@@ -1,43 +1,413 @@
 package com.badlogic.UniverseConqueror.ECS.systems;
 
+import com.badlogic.UniverseConqueror.ContactListener.ContactListenerWrapper;
 import com.badlogic.UniverseConqueror.ECS.components.*;
 import com.badlogic.UniverseConqueror.ECS.utils.ComponentMappers;
+import com.badlogic.UniverseConqueror.ECS.utils.PhysicsSnapshot;
+import com.badlogic.UniverseConqueror.ECS.utils.TransformStore;
+import com.badlogic.UniverseConqueror.Interfaces.ProfiledSystem;
+import com.badlogic.UniverseConqueror.Utils.Constants;
+import com.badlogic.UniverseConqueror.Utils.FrameProfiler;
+import com.badlogic.gdx.math.Vector2;
 import com.badlogic.gdx.physics.box2d.*;
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.GdxRuntimeException;
+import com.badlogic.gdx.utils.ObjectIntMap;
+import com.badlogic.ashley.core.Engine;
 import com.badlogic.ashley.core.Entity;
+import com.badlogic.ashley.core.EntityListener;
 import com.badlogic.ashley.core.Family;
+import com.badlogic.ashley.utils.ImmutableArray;
+
+import java.util.concurrent.Semaphore;
+
+// Sistema responsável por atualizar a física do Box2D.
+// É o único dono do world.step: acumula o delta real do frame e avança o mundo em passos fixos,
+// com um limite de subpassos por frame para não entrar numa espiral de atraso depois de um pico.
+// A PositionComponent fica com o estado do último passo; a TransformComponent (usada para desenhar)
+// é interpolada entre os dois últimos passos, para o movimento ficar suave a qualquer taxa de refresh.
+// Os contactos registados durante os passos são entregues de uma vez no fim, já fora do world.step.
+// Posição, velocidade e transformação das entidades com física vivem num TransformStore (arrays contíguos
+// por slot): os laços de velocidade e de sincronização correm sobre ele e os componentes são escritos no fim.
+// Este é o único sítio onde o estado dos corpos passa para o ECS e a velocidade passa para os corpos: a
+// sincronização corre logo a seguir aos passos, lê cada corpo acordado uma vez e salta os que continuam a
+// dormir ou são estáticos (a posição guardada continua certa), contando as chamadas JNI poupadas.
+//
+// Em modo threaded (opcional), os passos do frame correm numa thread própria: o GameScreen chama startStep()
+// depois de engine.update e awaitStep() antes do seguinte, e todo o código de jogo corre com o mundo parado.
+// Só o HUD, o stage e o mapa do frame seguinte se sobrepõem ao passo; os sistemas que desenham entidades
+// correm dentro de engine.update, depois do awaitStep, e continuam a somar-se ao tempo da física. A thread de física publica as posições e velocidades num PhysicsSnapshot
+// com dois buffers, de onde este sistema e o RenderSystem leem; pedidos feitos com o passo a decorrer
+// (criar, ativar ou destruir corpos) passam por execute() e ficam numa fila aplicada entre passos.
+public class PhysicsSystem extends BaseSystem implements ProfiledSystem {
+
+    // Dois passos por frame a 60 Hz, como o jogo dava antes (um no GameScreen e outro aqui): o Box2D limita
+    // o deslocamento de um corpo a 2 unidades (pixels) por passo, e com 1/60 s as fireballs e o sprint
+    // ficavam presos a 120 px/s. As velocidades das Constants estão afinadas para este passo.
+    public static final float TIME_STEP = 1 / 120f;
+    public static final int MAX_SUBSTEPS = 10;
+    private static final int VELOCITY_ITERATIONS = 6;
+    private static final int POSITION_ITERATIONS = 2;
+
+    // Deslocamentos maiores do que isto num passo são teletransportes (pool, respawn) e não se interpolam
+    private static final float SNAP_DISTANCE = 256f;
+
+    private static final Family FAMILY = Family.all(PhysicsComponent.class, VelocityComponent.class, PositionComponent.class).get();
 
-//Sistema responsável por atualizar a física do Box2D
-public class PhysicsSystem extends BaseIteratingSystem {
     private final World world;
+    private final TransformStore store = new TransformStore();
     private final Box2DDebugRenderer debugRenderer = new Box2DDebugRenderer();
+    private ContactListenerWrapper contactListener;
+
+    private float accumulator;
+    private float alpha;
+    private int lastSubsteps;
+    private long stepCount;
 
+    // Chamadas JNI feitas e poupadas pela sincronização no último frame (sem contar os world.step)
+    private int jniCalls;
+    private int jniCallsSaved;
+
+    // Fase "world.step" do FrameProfiler: só os passos, na thread do jogo ou na thread de física
+    private final FrameProfiler profiler = FrameProfiler.get();
+    private final int stepPhase;
+    private long workerStepNanos;
+
+    // Modo threaded: a thread de física espera por stepRequested, dá os subpassos e liberta stepFinished.
+    // Os semáforos garantem a visibilidade entre threads do mundo, do snapshot e dos campos abaixo.
+    private boolean threaded;
+    private Thread worker;
+    private volatile boolean running;
+    private final Semaphore stepRequested = new Semaphore(0);
+    private final Semaphore stepFinished = new Semaphore(0);
+    private int requestedSubsteps;
+    private RuntimeException stepFailure;
+    private boolean stepping;  // Só lido e escrito na thread do jogo
+
+    private final PhysicsSnapshot snapshot = new PhysicsSnapshot();
+    private final ObjectIntMap<Entity> snapshotSlots = new ObjectIntMap<>();
+    private final Array<Runnable> commandQueue = new Array<>(false, 16);
+
+    // Cada entidade com física ocupa um slot do TransformStore e um do snapshot enquanto estiver na engine.
+    // O store só é usado na thread do jogo; o snapshot é lido pela thread de física, por isso espera pelo passo.
+    private final EntityListener storeListener = new EntityListener() {
+        @Override
+        public void entityAdded(Entity entity) {
+            store.add(entity);
+            if (stepping) commandQueue.add(() -> track(entity));
+            else track(entity);
+        }
+
+        @Override
+        public void entityRemoved(Entity entity) {
+            store.remove(entity);
+            if (stepping) commandQueue.add(() -> untrack(entity));
+            else untrack(entity);
+        }
+    };
 
     public PhysicsSystem(World world) {
-        super(Family.all(PhysicsComponent.class, VelocityComponent.class, PositionComponent.class).get());
         this.world = world;
+        this.threaded = Constants.THREADED_PHYSICS;
+        this.stepPhase = profiler.phase("world.step");
     }
 
-    // Atualiza o mundo físico e processa entidades
     @Override
-    public void update(float deltaTime) {
-        world.step(1 / 60f, 6, 2);
-        super.update(deltaTime);
+    public void addedToEngine(Engine engine) {
+        engine.addEntityListener(FAMILY, storeListener);
+        ImmutableArray<Entity> existing = engine.getEntitiesFor(FAMILY);
+        for (int i = 0; i < existing.size(); i++) {
+            storeListener.entityAdded(existing.get(i));
+        }
+    }
+
+    @Override
+    public void removedFromEngine(Engine engine) {
+        dispose();
+        engine.removeEntityListener(storeListener);
     }
 
-    // Lógica aplicada a cada entidade com os componentes necessários
+    // Avança o mundo os passos fixos que cabem no tempo acumulado e sincroniza as entidades
     @Override
-    protected void processEntity(Entity entity, float deltaTime) {
-        PhysicsComponent physics = ComponentMappers.physics.get(entity);
-        VelocityComponent velocity = ComponentMappers.velocity.get(entity);
-        PositionComponent position = ComponentMappers.position.get(entity);
-        TransformComponent transform = ComponentMappers.transform.get(entity);
+    public void update(float deltaTime) {
+        if (threaded) {
+            updateThreaded(deltaTime);
+            return;
+        }
+
+        jniCalls = 0;
+        jniCallsSaved = 0;
+        applyVelocities();
+
+        accumulator += deltaTime;
+        int substeps = 0;
+        while (accumulator >= TIME_STEP && substeps < MAX_SUBSTEPS) {
+            capturePreviousPositions();
+            profiler.begin(stepPhase);
+            world.step(TIME_STEP, VELOCITY_ITERATIONS, POSITION_ITERATIONS);
+            profiler.end(stepPhase);
+            accumulator -= TIME_STEP;
+            substeps++;
+        }
+
+        // Atingiu o limite: descarta o atraso em vez de o arrastar para os frames seguintes
+        if (accumulator >= TIME_STEP) accumulator %= TIME_STEP;
+
+        lastSubsteps = substeps;
+        stepCount += substeps;
+        alpha = accumulator / TIME_STEP;
+        syncTransforms();
+
+        // Efeitos de jogo dos contactos (dano, itens, balas) com o mundo já desbloqueado
+        if (contactListener != null) contactListener.dispatchPending();
+    }
+
+    // A velocidade pedida pelos sistemas de jogo vale para todos os passos deste frame.
+    // Um corpo a dormir com velocidade pedida nula não muda (o Box2D só o acordaria com velocidade não nula).
+    private void applyVelocities() {
+        store.pullVelocities();
+        for (int slot = 0; slot < store.size(); slot++) {
+            Body body = store.getPhysics(slot).body;
+            if (body == null) continue;
+            float vx = store.getVelocityX(slot), vy = store.getVelocityY(slot);
+            if (store.isAsleep(slot) && vx == 0f && vy == 0f) {
+                jniCallsSaved += 2;
+                continue;
+            }
+            jniCalls++;
+            if (body.isActive()) {
+                body.setLinearVelocity(vx, vy);
+                jniCalls++;
+            }
+        }
+    }
+
+    // Posição antes do subpasso; um corpo que dormia na última leitura ainda está na posição guardada
+    private void capturePreviousPositions() {
+        for (int slot = 0; slot < store.size(); slot++) {
+            PhysicsComponent physics = store.getPhysics(slot);
+            if (physics.body == null) continue;
+            if (store.isAsleep(slot)) {
+                physics.previousPosition.set(store.getPositionX(slot), store.getPositionY(slot));
+                jniCallsSaved++;
+            } else {
+                physics.previousPosition.set(physics.body.getPosition());
+                jniCalls++;
+            }
+        }
+    }
+
+    // Modo threaded: o mundo já está parado (awaitStep); os subpassos deste frame ficam pedidos para startStep()
+    private void updateThreaded(float deltaTime) {
+        awaitStep();
+        jniCalls = 0;
+        jniCallsSaved = 0;
+
+        // Contactos do passo assíncrono anterior, agora que o mundo pode ser alterado
+        if (contactListener != null) contactListener.dispatchPending();
+        applyVelocities();
+
+        accumulator += deltaTime;
+        int substeps = Math.min((int) (accumulator / TIME_STEP), MAX_SUBSTEPS);
+        accumulator -= substeps * TIME_STEP;
+        if (accumulator >= TIME_STEP) accumulator %= TIME_STEP;
+
+        requestedSubsteps = substeps;
+        lastSubsteps = substeps;
+        stepCount += substeps;
+        alpha = accumulator / TIME_STEP;
+        syncTransforms();
+    }
+
+    // Etapa de sincronização: copia o estado simulado para a posição lógica e interpola a posição de
+    // renderização, slot a slot, e só depois escreve os componentes (apenas os que mudaram)
+    private void syncTransforms() {
+        for (int slot = 0; slot < store.size(); slot++) {
+            PhysicsComponent physics = store.getPhysics(slot);
+            Body body = threaded ? physics.body : store.refreshBody(slot);
+            if (body == null) continue;
+
+            float currentX, currentY;
+            Vector2 previous = physics.previousPosition;
+            if (threaded) {
+                // Até o primeiro passo a publicar, mantém a posição dada pela fábrica
+                int snapshotSlot = store.getSnapshotSlot(slot);
+                if (!snapshot.isValid(snapshotSlot)) continue;
+                currentX = snapshot.getX(snapshotSlot);
+                currentY = snapshot.getY(snapshotSlot);
+                previous.set(snapshot.getPreviousX(snapshotSlot), snapshot.getPreviousY(snapshotSlot));
+            } else {
+                // Continua a dormir (estático, fora da simulação pelo PhysicsLodSystem ou adormecido pelo Box2D):
+                // não se mexeu desde a última leitura. Um corpo não consegue acordar, mexer-se e voltar a dormir
+                // dentro de um frame, por isso a posição guardada está certa.
+                boolean parked = store.isStaticBody(slot) || ComponentMappers.dormant.has(store.getEntity(slot));
+                boolean sleeping = parked || !body.isAwake();
+                if (!parked) jniCalls++;
+                if (sleeping && store.isAsleep(slot)) {
+                    jniCallsSaved++;
+                    settle(slot);
+                    continue;
+                }
+                store.setAsleep(slot, sleeping);
+
+                Vector2 current = body.getPosition();
+                jniCalls++;
+                currentX = current.x;
+                currentY = current.y;
+            }
+            store.setPosition(slot, currentX, currentY);
 
-        Body body = physics.body;
-        if (body != null) {
-            body.setLinearVelocity(velocity.velocity);
-            position.position.set(body.getPosition().x, body.getPosition().y);
-            transform.position.set(body.getPosition().x, body.getPosition().y, 0);
+            if (previous.dst2(currentX, currentY) > SNAP_DISTANCE * SNAP_DISTANCE) previous.set(currentX, currentY);
+
+            store.setTransform(slot,
+                previous.x + (currentX - previous.x) * alpha,
+                previous.y + (currentY - previous.y) * alpha);
         }
+        store.pushPositions();
+    }
+
+    // Corpo parado: a interpolação acaba na posição atual
+    private void settle(int slot) {
+        float x = store.getPositionX(slot), y = store.getPositionY(slot);
+        if (store.getTransformX(slot) != x || store.getTransformY(slot) != y) store.setTransform(slot, x, y);
+    }
+
+    // Entrega à thread de física os subpassos pedidos no último update; chamado depois de engine.update
+    public void startStep() {
+        if (!threaded || stepping || requestedSubsteps == 0) return;
+        if (worker == null) startWorker();
+        stepping = true;
+        stepRequested.release();
+    }
+
+    // Espera que o passo em curso termine, publica o snapshot e aplica os comandos que ficaram na fila
+    public void awaitStep() {
+        if (!stepping) return;
+        stepFinished.acquireUninterruptibly();
+        stepping = false;
+        requestedSubsteps = 0;
+        if (stepFailure != null) {
+            RuntimeException failure = stepFailure;
+            stepFailure = null;
+            throw new GdxRuntimeException("Falha no passo da física", failure);
+        }
+        snapshot.swap();
+        profiler.record(stepPhase, workerStepNanos);
+
+        for (int i = 0; i < commandQueue.size; i++) {
+            commandQueue.get(i).run();
+        }
+        commandQueue.clear();
+    }
+
+    // Executa já o comando se o mundo estiver parado; senão guarda-o para o fim do passo em curso
+    public void execute(Runnable command) {
+        if (stepping) commandQueue.add(command);
+        else command.run();
+    }
+
+    // Destrói um corpo através da fila de comandos
+    public void destroyBody(Body body) {
+        if (stepping) commandQueue.add(() -> world.destroyBody(body));
+        else world.destroyBody(body);
+    }
+
+    private void startWorker() {
+        running = true;
+        worker = new Thread(this::runWorker, "physics");
+        worker.setDaemon(true);
+        worker.start();
+    }
+
+    // Ciclo da thread de física: dá os subpassos pedidos e publica o resultado no buffer de trás
+    private void runWorker() {
+        while (true) {
+            stepRequested.acquireUninterruptibly();
+            if (!running) return;
+            try {
+                long start = System.nanoTime();
+                for (int i = 0; i < requestedSubsteps; i++) {
+                    if (i == requestedSubsteps - 1) snapshot.capturePrevious();
+                    world.step(TIME_STEP, VELOCITY_ITERATIONS, POSITION_ITERATIONS);
+                }
+                workerStepNanos = System.nanoTime() - start;
+                snapshot.publish();
+            } catch (RuntimeException e) {
+                stepFailure = e;
+            }
+            stepFinished.release();
+        }
+    }
+
+    // Liga ou desliga o modo threaded; ao desligar, espera pelo passo em curso e termina a thread
+    public void setThreaded(boolean threaded) {
+        if (this.threaded == threaded) return;
+        if (!threaded) dispose();
+        this.threaded = threaded;
     }
 
+    public boolean isThreaded() { return threaded; }
+
+    // Indica se a thread de física está a meio de um passo (o mundo não pode ser tocado)
+    public boolean isStepping() { return stepping; }
+
+    // Termina a thread de física, depois de acabar o passo em curso
+    public void dispose() {
+        awaitStep();
+        if (worker == null) return;
+        running = false;
+        stepRequested.release();
+        try {
+            worker.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        worker = null;
+    }
+
+    private void track(Entity entity) {
+        int slot = snapshot.track(ComponentMappers.physics.get(entity));
+        snapshotSlots.put(entity, slot);
+        store.setSnapshotSlot(entity, slot);
+    }
+
+    private void untrack(Entity entity) {
+        int slot = snapshotSlots.remove(entity, -1);
+        if (slot >= 0) snapshot.untrack(slot);
+        store.setSnapshotSlot(entity, -1);
+    }
+
+    // Posição, velocidade e transformação das entidades com física, em arrays contíguos
+    public TransformStore getTransformStore() { return store; }
+
+    // Estado publicado pela thread de física (só tem dados em modo threaded)
+    public PhysicsSnapshot getSnapshot() { return snapshot; }
+
+    // Slot do snapshot da entidade, ou -1
+    public int getSnapshotSlot(Entity entity) { return snapshotSlots.get(entity, -1); }
+
+    // Liga o listener de colisões ao mundo; os contactos passam a ser entregues por este sistema
+    public void setContactListener(ContactListenerWrapper contactListener) {
+        this.contactListener = contactListener;
+        world.setContactListener(contactListener);
+    }
+
+    // Fração do passo seguinte já decorrida (0..1), usada na interpolação
+    public float getAlpha() { return alpha; }
+
+    // Entidades com física no TransformStore
+    @Override
+    public int getEntityCount() { return store.size(); }
+
+    // Chamadas JNI aos corpos feitas pela sincronização no último frame
+    public int getJniCalls() { return jniCalls; }
+
+    // Chamadas JNI evitadas no último frame por corpos a dormir ou estáticos (as verificações isAwake contam em getJniCalls)
+    public int getJniCallsSaved() { return jniCallsSaved; }
+
+    // Passos de física dados no último frame
+    public int getLastSubsteps() { return lastSubsteps; }
+
+    // Total de passos desde o início
+    public long getStepCount() { return stepCount; }
 }
@@ -26,6 +26,10 @@ public class PlayerInputSystem extends BaseIteratingSystem {
 
     private Entity player;
 
+    // Vetores de trabalho da mira; o evento é tratado de forma síncrona, por isso o alvo pode ser reutilizado
+    private final Vector3 mouse = new Vector3();
+    private final Vector2 aim = new Vector2();
+
     // Construtor
     public PlayerInputSystem(World world, Joystick joystick, BulletSystem bulletSystem,
                              OrthographicCamera camera, PooledEngine engine, BulletFactory bulletFactory) {
@@ -119,7 +123,7 @@ public class PlayerInputSystem extends BaseIteratingSystem {
         if (health != null && health.currentHealth >= 25f) {
             if (Gdx.input.isKeyJustPressed(Input.Keys.SPACE) && jump.canJump) {
                 jump.isJumping = true;
-                physics.body.applyForceToCenter(new Vector2(0, Constants.JUMP_FORCE), true);
+                physics.body.applyForceToCenter(0f, Constants.JUMP_FORCE, true);
                 EventBus.get().notify(new JumpEvent(entity));
                 return;
             }
@@ -151,10 +155,9 @@ public class PlayerInputSystem extends BaseIteratingSystem {
     private void fireBullet(Entity entity, boolean fireball) {
         AttackComponent attack = ComponentMappers.attack.get(entity);
         if (attack.remainingAttackPower > 0) {
-            Vector3 mouse = new Vector3(Gdx.input.getX(), Gdx.input.getY(), 0);
-            Vector3 worldPos = camera.unproject(mouse);
-            Vector2 direction = new Vector2(worldPos.x, worldPos.y);
-            EventBus.get().notify(new ProjectileFiredEvent(entity, direction, fireball));
+            camera.unproject(mouse.set(Gdx.input.getX(), Gdx.input.getY(), 0));
+            aim.set(mouse.x, mouse.y);
+            EventBus.get().notify(new ProjectileFiredEvent(entity, aim, fireball));
         }
     }
 }
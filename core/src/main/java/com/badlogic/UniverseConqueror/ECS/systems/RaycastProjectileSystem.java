@@ -0,0 +1,171 @@
+package com.badlogic.UniverseConqueror.ECS.systems;
+
+import com.badlogic.UniverseConqueror.ContactListener.BulletContactListener;
+import com.badlogic.UniverseConqueror.ContactListener.CollisionLayer;
+import com.badlogic.UniverseConqueror.ContactListener.FixtureTag;
+import com.badlogic.UniverseConqueror.ECS.components.*;
+import com.badlogic.UniverseConqueror.ECS.entity.BulletFactory;
+import com.badlogic.UniverseConqueror.ECS.events.DamageTakenEvent;
+import com.badlogic.UniverseConqueror.ECS.events.EventBus;
+import com.badlogic.UniverseConqueror.ECS.utils.ComponentMappers;
+import com.badlogic.ashley.core.Entity;
+import com.badlogic.ashley.core.Family;
+import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.math.Vector2;
+import com.badlogic.gdx.physics.box2d.Fixture;
+import com.badlogic.gdx.physics.box2d.QueryCallback;
+import com.badlogic.gdx.physics.box2d.RayCastCallback;
+import com.badlogic.gdx.physics.box2d.World;
+
+// Sistema que simula os projéteis em modo raycast, sem corpo Box2D.
+// A cada frame o projétil avança analiticamente (posição + velocidade * delta) e o segmento percorrido
+// é testado com World.rayCast: o primeiro inimigo ou tile do mapa no caminho é o impacto. Os inimigos
+// recebem o mesmo DamageTakenEvent do BulletContactListener e o projétil volta ao pool.
+// Para acertar no mesmo que a fixture circular do modo com corpo: antes do raio, o círculo do projétil é
+// testado contra as fixtures onde já está (o rayCast do Box2D ignora as que contêm o ponto de partida, como
+// um tiro à queima-roupa), e o segmento é varrido por três raios paralelos, o central e um em cada borda.
+public class RaycastProjectileSystem extends BaseIteratingSystem implements RayCastCallback, QueryCallback {
+
+    // Pontos do contorno do círculo testados na sobreposição inicial (direções unitárias a 45 graus)
+    private static final float DIAGONAL = 0.70710677f;
+    private static final float[] RIM_X = {1f, DIAGONAL, 0f, -DIAGONAL, -1f, -DIAGONAL, 0f, DIAGONAL};
+    private static final float[] RIM_Y = {0f, DIAGONAL, 1f, DIAGONAL, 0f, -DIAGONAL, -1f, -DIAGONAL};
+
+    private final World world;
+    private final BulletFactory bulletFactory;
+
+    // Resultado do raycast em curso (o callback é este próprio sistema, para não alocar por projétil)
+    private FixtureTag closestHit;
+    private float closestFraction;
+
+    // Círculo do projétil em teste na sobreposição inicial
+    private float circleX, circleY, circleRadius;
+
+    private int raysCast;
+    private int hitCount;
+
+    public RaycastProjectileSystem(World world, BulletFactory bulletFactory) {
+        super(Family.all(ProjectileComponent.class, PositionComponent.class, VelocityComponent.class)
+            .exclude(PhysicsComponent.class)
+            .get());
+        this.world = world;
+        this.bulletFactory = bulletFactory;
+    }
+
+    @Override
+    public void update(float deltaTime) {
+        raysCast = 0;
+        hitCount = 0;
+        super.update(deltaTime);
+    }
+
+    // Avança o projétil e verifica se o segmento percorrido neste frame atingiu alguma coisa
+    @Override
+    protected void processEntity(Entity entity, float deltaTime) {
+        ProjectileComponent projectile = ComponentMappers.projectile.get(entity);
+        if (!projectile.raycast || !projectile.inUse) return;
+
+        PositionComponent position = ComponentMappers.position.get(entity);
+        Vector2 velocity = ComponentMappers.velocity.get(entity).velocity;
+        float dx = velocity.x * deltaTime, dy = velocity.y * deltaTime;
+        if (dx == 0f && dy == 0f) return;
+
+        // O círculo fica no centro da textura, com o raio da fixture circular do corpo dinâmico
+        Texture texture = projectile.texture;
+        float offsetX = texture != null ? texture.getWidth() / 2f : 0f;
+        float offsetY = texture != null ? texture.getHeight() / 2f : 0f;
+        float radius = texture != null ? Math.min(texture.getWidth(), texture.getHeight()) / 2f : 0f;
+        float fromX = position.position.x + offsetX, fromY = position.position.y + offsetY;
+
+        closestHit = null;
+        closestFraction = 1f;
+        queryOverlap(fromX, fromY, radius);
+        if (closestHit == null) sweep(fromX, fromY, dx, dy, radius);
+
+        if (closestHit == null) {
+            position.position.add(dx, dy);
+            projectile.position.set(position.position);
+            TransformComponent transform = ComponentMappers.transform.get(entity);
+            if (transform != null) transform.position.set(position.position.x, position.position.y, 0);
+            return;
+        }
+
+        hitCount++;
+        if (closestHit.is(CollisionLayer.ENEMY) && closestHit.entity != null) {
+            Entity enemy = closestHit.entity;
+            EventBus.get().notify(new DamageTakenEvent(enemy, entity, BulletContactListener.damageFor(entity, enemy)));
+        }
+        bulletFactory.free(entity);
+    }
+
+    // Fixtures que o círculo já toca no início do frame; um inimigo ganha a um tile do mapa
+    private void queryOverlap(float x, float y, float radius) {
+        circleX = x;
+        circleY = y;
+        circleRadius = radius;
+        world.QueryAABB(this, x - radius, y - radius, x + radius, y + radius);
+    }
+
+    // Raio central e, com raio de projétil, um raio em cada borda, perpendiculares ao movimento
+    private void sweep(float fromX, float fromY, float dx, float dy, float radius) {
+        world.rayCast(this, fromX, fromY, fromX + dx, fromY + dy);
+        raysCast++;
+        if (radius <= 0f) return;
+
+        float length = (float) Math.sqrt(dx * dx + dy * dy);
+        float sideX = -dy / length * radius, sideY = dx / length * radius;
+        world.rayCast(this, fromX + sideX, fromY + sideY, fromX + sideX + dx, fromY + sideY + dy);
+        world.rayCast(this, fromX - sideX, fromY - sideY, fromX - sideX + dx, fromY - sideY + dy);
+        raysCast += 2;
+    }
+
+    // Candidata da QueryAABB: conta se o centro ou algum ponto do contorno do círculo estiver dentro dela
+    @Override
+    public boolean reportFixture(Fixture fixture) {
+        FixtureTag tag = hittableTag(fixture);
+        if (tag == null || !overlapsCircle(fixture)) return true;
+
+        if (closestHit == null || tag.is(CollisionLayer.ENEMY)) {
+            closestHit = tag;
+            closestFraction = 0f;
+        }
+        // Com um inimigo encontrado, a pesquisa pode parar
+        return !tag.is(CollisionLayer.ENEMY);
+    }
+
+    private boolean overlapsCircle(Fixture fixture) {
+        if (fixture.testPoint(circleX, circleY)) return true;
+        if (circleRadius <= 0f) return false;
+        for (int i = 0; i < RIM_X.length; i++) {
+            if (fixture.testPoint(circleX + RIM_X[i] * circleRadius, circleY + RIM_Y[i] * circleRadius)) return true;
+        }
+        return false;
+    }
+
+    // Etiqueta da fixture se um projétil colidir com ela, ou null
+    private static FixtureTag hittableTag(Fixture fixture) {
+        if (fixture.isSensor()) return null;
+        FixtureTag tag = FixtureTag.of(fixture);
+        if (tag == null || !CollisionLayer.PROJECTILE.collidesWith(tag.layer)) return null;
+        return tag;
+    }
+
+    // Guarda a fixture mais próxima que um dos raios atingiria; devolver a fração corta esse raio nesse ponto
+    @Override
+    public float reportRayFixture(Fixture fixture, Vector2 point, Vector2 normal, float fraction) {
+        FixtureTag tag = hittableTag(fixture);
+        if (tag == null) return -1f;
+
+        if (fraction < closestFraction) {
+            closestFraction = fraction;
+            closestHit = tag;
+        }
+        return fraction;
+    }
+
+    // Raycasts feitos no último frame
+    public int getRaysCast() { return raysCast; }
+
+    // Impactos no último frame
+    public int getHitCount() { return hitCount; }
+}
@@ -2,18 +2,27 @@ package com.badlogic.UniverseConqueror.ECS.systems;
 
 import com.badlogic.UniverseConqueror.ECS.components.*;
 import com.badlogic.UniverseConqueror.ECS.utils.ComponentMappers;
+import com.badlogic.UniverseConqueror.ECS.utils.SystemAccess;
+import com.badlogic.UniverseConqueror.Interfaces.ScheduledSystem;
 import com.badlogic.ashley.core.Entity;
 import com.badlogic.ashley.core.Family;
 import com.badlogic.gdx.graphics.OrthographicCamera;
 import com.badlogic.gdx.graphics.g2d.SpriteBatch;
 
 // Sistema responsável por renderizar a nave espacial (spaceship) na tela
-public class RenderSpaceshipSystem extends BaseRenderSystem {
+public class RenderSpaceshipSystem extends BaseRenderSystem implements ScheduledSystem {
 
     public RenderSpaceshipSystem(SpriteBatch batch, OrthographicCamera camera) {
         super(Family.all(TextureComponent.class, TransformComponent.class, EndLevelComponent.class).get(), batch, camera);
     }
 
+    @Override
+    public void declareAccess(SystemAccess access) {
+        access.mainThread()
+            .reads(TextureComponent.class, TransformComponent.class, EndLevelComponent.class, OrthographicCamera.class)
+            .writes(SpriteBatch.class);
+    }
+
     @Override
     protected void processEntity(Entity entity, float deltaTime) {
         TextureComponent texture = ComponentMappers.texture.get(entity);
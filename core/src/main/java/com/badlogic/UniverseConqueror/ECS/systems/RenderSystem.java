@@ -12,16 +12,19 @@ import com.badlogic.gdx.math.Vector2;
 import static com.badlogic.UniverseConqueror.Utils.Constants.MIN_FLIP_THRESHOLD;
 
 // Sistema que renderiza entidades com animações, exceto UFOs.
+// Com a física em thread própria, a velocidade usada para virar o sprite vem do snapshot publicado pelo PhysicsSystem.
 public class RenderSystem extends BaseRenderSystem {
 
+    private final PhysicsSystem physicsSystem;
 
-    public RenderSystem(SpriteBatch batch, OrthographicCamera camera) {
+    public RenderSystem(SpriteBatch batch, OrthographicCamera camera, PhysicsSystem physicsSystem) {
         super(
             Family.all(TransformComponent.class, AnimationComponent.class, BodyComponent.class)
                 .exclude(UfoComponent.class).get(),
             batch,
             camera
         );
+        this.physicsSystem = physicsSystem;
     }
 
     @Override
@@ -40,7 +43,7 @@ public class RenderSystem extends BaseRenderSystem {
                 anim.facingRight = dir.x < 0;
             }
         } else {
-            float velocityX = body.body.getLinearVelocity().x;
+            float velocityX = velocityX(entity, body);
             if (Math.abs(velocityX) > MIN_FLIP_THRESHOLD) {
                 anim.facingRight = velocityX > 0;
             }
@@ -59,4 +62,14 @@ public class RenderSystem extends BaseRenderSystem {
         batch.draw(frame, drawX, y - h / 2f, drawW, h);
     }
 
+    // Velocidade horizontal do último passo publicado, ou a do corpo quando a física corre nesta thread
+    private float velocityX(Entity entity, BodyComponent body) {
+        if (physicsSystem != null && physicsSystem.isThreaded()) {
+            int slot = physicsSystem.getSnapshotSlot(entity);
+            if (physicsSystem.getSnapshot().isValid(slot)) return physicsSystem.getSnapshot().getVelocityX(slot);
+            return 0f;
+        }
+        return body.body.getLinearVelocity().x;
+    }
+
 }
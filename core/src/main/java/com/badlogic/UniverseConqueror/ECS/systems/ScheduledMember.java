@@ -0,0 +1,11 @@
+package com.badlogic.UniverseConqueror.ECS.systems;
+
+// Sistema que o SystemScheduler pode pôr num grupo paralelo (BaseSystem e BaseIteratingSystem).
+// Num grupo, checkProcessing() entrega a vez ao grupo em vez de deixar o engine chamar update().
+interface ScheduledMember {
+
+    // Estado de processamento do próprio sistema, ignorando o grupo
+    boolean isProcessingEnabled();
+
+    void setSchedulerGroup(SystemGroup schedulerGroup);
+}
@@ -3,17 +3,25 @@ package com.badlogic.UniverseConqueror.ECS.systems;
 import com.badlogic.UniverseConqueror.Audio.SoundManager;
 import com.badlogic.UniverseConqueror.ECS.utils.ComponentMappers;
 import com.badlogic.UniverseConqueror.ECS.components.SoundComponent;
+import com.badlogic.UniverseConqueror.ECS.utils.SystemAccess;
+import com.badlogic.UniverseConqueror.Interfaces.ScheduledSystem;
 import com.badlogic.ashley.core.Entity;
 import com.badlogic.ashley.core.Family;
 
 // Sistema que reproduz sons únicos a partir do componente SoundComponent.
 // Quando `play` é true, o som correspondente à `soundKey` é tocado uma vez.
-public class SoundSystem extends BaseIteratingSystem {
+public class SoundSystem extends BaseIteratingSystem implements ScheduledSystem {
 
     public SoundSystem() {
         super(Family.all(SoundComponent.class).get());
     }
 
+    // O SoundManager (mapas sem sincronização e OpenAL) só é usado na thread do jogo
+    @Override
+    public void declareAccess(SystemAccess access) {
+        access.mainThread().writes(SoundComponent.class, SoundManager.class);
+    }
+
     @Override
     protected void processEntity(Entity entity, float deltaTime) {
         SoundComponent sound = ComponentMappers.sound.get(entity);
@@ -0,0 +1,72 @@
+package com.badlogic.UniverseConqueror.ECS.systems;
+
+import com.badlogic.UniverseConqueror.ECS.components.PositionComponent;
+import com.badlogic.UniverseConqueror.ECS.utils.ComponentMappers;
+import com.badlogic.UniverseConqueror.ECS.utils.SpatialGrid;
+import com.badlogic.ashley.core.Engine;
+import com.badlogic.ashley.core.Entity;
+import com.badlogic.ashley.core.Family;
+import com.badlogic.ashley.utils.ImmutableArray;
+import com.badlogic.gdx.graphics.OrthographicCamera;
+import com.badlogic.gdx.math.Rectangle;
+import com.badlogic.gdx.math.Vector2;
+
+// Reconstrói uma vez por frame o índice espacial partilhado com as posições de todas as entidades.
+// Deve ser o primeiro sistema adicionado à engine, para que os restantes consultem o índice já atualizado.
+// A área visível é lida da câmera no momento da consulta: este sistema corre antes do CameraSystem, e uma
+// área guardada aqui seria a do frame anterior.
+public class SpatialIndexSystem extends BaseSystem {
+
+    // Células da ordem do alcance das consultas mais comuns (perseguição, recolha de itens)
+    public static final float DEFAULT_CELL_SIZE = 256f;
+
+    private final OrthographicCamera camera;
+    private final SpatialGrid grid;
+    private final Rectangle view = new Rectangle();
+    private ImmutableArray<Entity> entities;
+
+    public SpatialIndexSystem(OrthographicCamera camera) {
+        this(camera, DEFAULT_CELL_SIZE);
+    }
+
+    public SpatialIndexSystem(OrthographicCamera camera, float cellSize) {
+        this.camera = camera;
+        this.grid = new SpatialGrid(cellSize);
+    }
+
+    @Override
+    public void addedToEngine(Engine engine) {
+        entities = engine.getEntitiesFor(Family.all(PositionComponent.class).get());
+    }
+
+    @Override
+    public void update(float deltaTime) {
+        grid.clear();
+        for (int i = 0; i < entities.size(); i++) {
+            Entity entity = entities.get(i);
+            Vector2 position = ComponentMappers.position.get(entity).position;
+            grid.add(entity, position.x, position.y);
+        }
+        grid.build();
+    }
+
+    // Verifica se a posição está dentro da área visível da câmera, alargada por margin em cada lado
+    public boolean isInView(Vector2 position, float margin) {
+        float halfW = camera.viewportWidth * 0.5f * camera.zoom + margin;
+        float halfH = camera.viewportHeight * 0.5f * camera.zoom + margin;
+        return Math.abs(position.x - camera.position.x) <= halfW && Math.abs(position.y - camera.position.y) <= halfH;
+    }
+
+    public boolean isInView(Vector2 position) {
+        return isInView(position, 0f);
+    }
+
+    public SpatialGrid getGrid() { return grid; }
+
+    // Área visível da câmera no momento da chamada; o retângulo é reutilizado entre chamadas
+    public Rectangle getView() {
+        float halfW = camera.viewportWidth * 0.5f * camera.zoom;
+        float halfH = camera.viewportHeight * 0.5f * camera.zoom;
+        return view.set(camera.position.x - halfW, camera.position.y - halfH, halfW * 2f, halfH * 2f);
+    }
+}
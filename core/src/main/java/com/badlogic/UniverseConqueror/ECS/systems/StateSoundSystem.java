@@ -4,20 +4,27 @@ import com.badlogic.UniverseConqueror.Audio.SoundManager;
 import com.badlogic.UniverseConqueror.ECS.components.*;
 import com.badlogic.UniverseConqueror.ECS.events.*;
 import com.badlogic.UniverseConqueror.ECS.utils.ComponentMappers;
-import com.badlogic.gdx.graphics.OrthographicCamera;
-import com.badlogic.gdx.math.Vector2;
+import com.badlogic.UniverseConqueror.ECS.utils.SystemAccess;
+import com.badlogic.UniverseConqueror.Interfaces.ScheduledSystem;
 import com.badlogic.ashley.core.Entity;
 import com.badlogic.ashley.core.Family;
 
 // Sistema responsável por tocar sons e notificar eventos com base em mudanças de estado
-public class StateSoundSystem extends BaseIteratingSystem {
+public class StateSoundSystem extends BaseIteratingSystem implements ScheduledSystem {
 
-    private final OrthographicCamera camera;
+    private final SpatialIndexSystem spatialIndex;
 
-    // Construtor recebe a câmera para verificar visibilidade de inimigos
-    public StateSoundSystem(OrthographicCamera camera) {
+    // Construtor recebe o índice espacial, que guarda a área visível da câmera no frame atual
+    public StateSoundSystem(SpatialIndexSystem spatialIndex) {
         super(Family.all(StateComponent.class).get());
-        this.camera = camera;
+        this.spatialIndex = spatialIndex;
+    }
+
+    // A verificação de visibilidade só lê, mas as mudanças de estado notificam eventos cujos observadores
+    // correm na mesma thread e criam projéteis e mexem na UI: fica como barreira
+    @Override
+    public void declareAccess(SystemAccess access) {
+        access.exclusive();
     }
 
     // Processa cada entidade
@@ -112,12 +119,6 @@ public class StateSoundSystem extends BaseIteratingSystem {
     // Verifica se a entidade está dentro da área visível pela câmera
     private boolean isInCameraView(Entity entity) {
         if (!ComponentMappers.position.has(entity)) return false;
-        Vector2 position = ComponentMappers.position.get(entity).position;
-
-        float halfW = camera.viewportWidth * 0.5f * camera.zoom;
-        float halfH = camera.viewportHeight * 0.5f * camera.zoom;
-
-        return position.x >= camera.position.x - halfW && position.x <= camera.position.x + halfW &&
-            position.y >= camera.position.y - halfH && position.y <= camera.position.y + halfH;
+        return spatialIndex.isInView(ComponentMappers.position.get(entity).position);
     }
 }
@@ -0,0 +1,172 @@
+package com.badlogic.UniverseConqueror.ECS.systems;
+
+import com.badlogic.UniverseConqueror.Utils.FrameProfiler;
+import com.badlogic.ashley.core.EntitySystem;
+import com.badlogic.gdx.utils.GdxRuntimeException;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+// Segmento de sistemas consecutivos do engine que o SystemScheduler corre por níveis do grafo de dependências.
+// Os sistemas do mesmo nível não têm conflitos entre si: os presos à thread do jogo correm nela, pela ordem do
+// engine, enquanto os restantes correm no pool. Sem trabalho para a thread do jogo, a última tarefa do nível
+// corre nela em vez de ficar parada à espera; nunca corre antes de um sistema que o engine poria primeiro.
+// O engine não chama update() dos membros: o primeiro membro, ao ser visitado, corre o segmento inteiro.
+// Com o FrameProfiler ligado, cada membro é medido na thread onde corre e o segmento conta como uma fase.
+class SystemGroup {
+
+    private final SystemScheduler scheduler;
+    private final ForkJoinPool pool;
+    private final EntitySystem leader;
+    private final int profilerPhase;
+
+    // Por nível: membros por ordem do engine e a tarefa de cada um (null nos presos à thread do jogo)
+    private final EntitySystem[][] levels;
+    private final SystemTask[][] tasks;
+
+    // leader é o primeiro membro na ordem do engine, a posição em que o segmento corre
+    SystemGroup(SystemScheduler scheduler, ForkJoinPool pool, EntitySystem leader,
+                EntitySystem[][] levels, boolean[][] mainThread) {
+        this.scheduler = scheduler;
+        this.pool = pool;
+        this.leader = leader;
+        this.levels = levels;
+        this.tasks = new SystemTask[levels.length][];
+        this.profilerPhase = FrameProfiler.get().phase("grupo " + leader.getClass().getSimpleName());
+
+        for (int level = 0; level < levels.length; level++) {
+            tasks[level] = new SystemTask[levels[level].length];
+            for (int i = 0; i < levels[level].length; i++) {
+                if (!mainThread[level][i]) tasks[level][i] = new SystemTask(levels[level][i]);
+            }
+        }
+    }
+
+    // Chamado pelo engine através de checkProcessing() de cada membro
+    void visit(EntitySystem member) {
+        if (member == leader) run(scheduler.getFrameDelta());
+    }
+
+    void attach() {
+        for (EntitySystem[] members : levels) {
+            for (EntitySystem member : members) ((ScheduledMember) member).setSchedulerGroup(this);
+        }
+    }
+
+    void detach() {
+        for (EntitySystem[] members : levels) {
+            for (EntitySystem member : members) ((ScheduledMember) member).setSchedulerGroup(null);
+        }
+    }
+
+    private void run(float deltaTime) {
+        FrameProfiler profiler = FrameProfiler.get();
+        boolean timed = profiler.isEnabled();
+        long start = timed ? System.nanoTime() : 0L;
+
+        for (int level = 0; level < levels.length; level++) {
+            runLevel(level, deltaTime, timed, profiler);
+        }
+
+        // Os membros já ficaram com os seus tempos: a vez do líder no engine recomeça depois do segmento
+        if (timed) {
+            profiler.record(profilerPhase, System.nanoTime() - start);
+            profiler.restartInterval();
+        }
+    }
+
+    private void runLevel(int level, float deltaTime, boolean timed, FrameProfiler profiler) {
+        EntitySystem[] members = levels[level];
+        SystemTask[] levelTasks = tasks[level];
+        Throwable failure = null;
+
+        // A thread do jogo fica com a última tarefa só se não tiver sistemas seus no nível
+        boolean mainThreadWork = false;
+        SystemTask inline = null;
+        for (int i = 0; i < members.length; i++) {
+            if (!isProcessingEnabled(members[i])) continue;
+            if (levelTasks[i] == null) mainThreadWork = true;
+            else inline = levelTasks[i];
+        }
+        if (mainThreadWork) inline = null;
+
+        try {
+            for (int i = 0; i < members.length; i++) {
+                SystemTask task = levelTasks[i];
+                if (task != null && task != inline && isProcessingEnabled(members[i])) task.start(pool, deltaTime, timed);
+            }
+
+            for (int i = 0; i < members.length; i++) {
+                if (levelTasks[i] != null || !isProcessingEnabled(members[i])) continue;
+                long start = timed ? System.nanoTime() : 0L;
+                members[i].update(deltaTime);
+                if (timed) profiler.record(members[i], System.nanoTime() - start);
+            }
+            if (inline != null) inline.runInline(deltaTime, timed);
+        } finally {
+            for (SystemTask task : levelTasks) {
+                if (task == null || !task.forked) continue;
+                task.quietlyJoin();
+                task.forked = false;
+                if (failure == null) failure = task.getException();
+            }
+        }
+
+        if (failure != null) {
+            throw new GdxRuntimeException("Falha num sistema em paralelo", failure);
+        }
+
+        // Tempos medidos nas threads do pool, lidos depois do join
+        if (timed) {
+            for (SystemTask task : levelTasks) {
+                if (task == null || !task.ran) continue;
+                profiler.record(task.system, task.nanos);
+                task.ran = false;
+            }
+        }
+    }
+
+    private static boolean isProcessingEnabled(EntitySystem member) {
+        return ((ScheduledMember) member).isProcessingEnabled();
+    }
+
+    // Tarefa reutilizada frame a frame para correr um sistema no pool
+    private static final class SystemTask extends RecursiveAction {
+
+        final EntitySystem system;
+        float deltaTime;
+        boolean forked;
+        boolean timed;
+        boolean ran;
+        long nanos;
+
+        SystemTask(EntitySystem system) {
+            this.system = system;
+        }
+
+        void start(ForkJoinPool pool, float deltaTime, boolean timed) {
+            this.deltaTime = deltaTime;
+            this.timed = timed;
+            reinitialize();
+            forked = true;
+            pool.execute(this);
+        }
+
+        // Corre a tarefa na thread do jogo, sem passar pelo pool
+        void runInline(float deltaTime, boolean timed) {
+            this.deltaTime = deltaTime;
+            this.timed = timed;
+            compute();
+        }
+
+        @Override
+        protected void compute() {
+            long start = timed ? System.nanoTime() : 0L;
+            system.update(deltaTime);
+            if (timed) {
+                nanos = System.nanoTime() - start;
+                ran = true;
+            }
+        }
+    }
+}
@@ -0,0 +1,233 @@
+package com.badlogic.UniverseConqueror.ECS.systems;
+
+import com.badlogic.UniverseConqueror.ECS.utils.SystemAccess;
+import com.badlogic.UniverseConqueror.Interfaces.ScheduledSystem;
+import com.badlogic.UniverseConqueror.Utils.Constants;
+import com.badlogic.ashley.core.Engine;
+import com.badlogic.ashley.core.EntitySystem;
+import com.badlogic.ashley.utils.ImmutableArray;
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.utils.Array;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+
+// Escalonador que corre em paralelo os sistemas independentes do engine.
+// Percorre os sistemas pela ordem do engine e junta em segmentos os consecutivos que declaram os seus acessos
+// (ScheduledSystem); sistemas sem declaração ou exclusivos são barreiras e correm em série, como sempre, com
+// o engine a aplicar as operações pendentes sobre entidades entre cada um. Dentro de um segmento, um sistema
+// depende dos anteriores com que tem conflitos e o segmento corre por níveis num ForkJoinPool; os sistemas
+// de desenho e de Box2D (mainThread) ficam na thread do jogo.
+// É o primeiro sistema do engine (prioridade mínima): guarda o delta do frame e reconstrói o grafo sempre
+// que o número de sistemas muda.
+// Os ecrãs de jogo são trocados sem dispose, por isso todos os escalonadores partilham um único pool, criado
+// no primeiro uso; as threads do ForkJoinPool são daemon e terminam sozinhas quando ficam paradas.
+public class SystemScheduler extends BaseSystem {
+
+    private static ForkJoinPool sharedPool;
+
+    private final ForkJoinPool pool;
+    private final boolean ownsPool;
+    private final Array<SystemGroup> groups = new Array<>();
+    private final StringBuilder graphDump = new StringBuilder();
+
+    private Engine engine;
+    private boolean serial = Constants.SERIAL_SYSTEMS;
+    private int scheduledSystemCount = -1;
+    private float frameDelta;
+
+    // Escalonador sobre o pool partilhado
+    public SystemScheduler() {
+        this(sharedPool(), false);
+    }
+
+    // Escalonador com um pool próprio, terminado no dispose
+    public SystemScheduler(int parallelism) {
+        this(new ForkJoinPool(parallelism), true);
+    }
+
+    private SystemScheduler(ForkJoinPool pool, boolean ownsPool) {
+        super(Integer.MIN_VALUE);
+        this.pool = pool;
+        this.ownsPool = ownsPool;
+    }
+
+    private static synchronized ForkJoinPool sharedPool() {
+        if (sharedPool == null) sharedPool = new ForkJoinPool(Math.max(1, Runtime.getRuntime().availableProcessors() - 1));
+        return sharedPool;
+    }
+
+    @Override
+    public void addedToEngine(Engine engine) {
+        this.engine = engine;
+        scheduledSystemCount = -1;
+    }
+
+    @Override
+    public void removedFromEngine(Engine engine) {
+        clearGroups();
+        this.engine = null;
+    }
+
+    @Override
+    public void update(float deltaTime) {
+        frameDelta = deltaTime;
+        if (engine.getSystems().size() != scheduledSystemCount) rebuild();
+    }
+
+    // Delta do frame em curso, usado pelos grupos (checkProcessing não o recebe)
+    float getFrameDelta() { return frameDelta; }
+
+    // Força a execução em série de todos os sistemas; o grafo continua a ser calculado para o dump
+    public void setSerial(boolean serial) {
+        if (this.serial == serial) return;
+        this.serial = serial;
+        scheduledSystemCount = -1;
+    }
+
+    public boolean isSerial() { return serial; }
+
+    // Grafo de dependências da última reconstrução, em texto
+    public String getGraphDump() { return graphDump.toString(); }
+
+    public int getParallelism() { return pool.getParallelism(); }
+
+    // Larga os grupos; só termina as threads se o pool for deste escalonador (o partilhado fica para o próximo ecrã)
+    public void dispose() {
+        clearGroups();
+        if (!ownsPool) return;
+        pool.shutdown();
+        try {
+            pool.awaitTermination(1, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    // Reparte os sistemas do engine em barreiras e segmentos paralelos
+    private void rebuild() {
+        clearGroups();
+        ImmutableArray<EntitySystem> systems = engine.getSystems();
+        scheduledSystemCount = systems.size();
+
+        graphDump.setLength(0);
+        graphDump.append("Sistemas por ordem do engine (")
+            .append(serial ? "em série" : "paralelo, " + pool.getParallelism() + " threads").append("):\n");
+
+        Array<EntitySystem> segment = new Array<>();
+        Array<SystemAccess> accesses = new Array<>();
+        for (int i = 0; i < systems.size(); i++) {
+            EntitySystem system = systems.get(i);
+            if (system == this) continue;
+
+            String barrier = null;
+            SystemAccess access = null;
+            if (!(system instanceof ScheduledSystem)) {
+                barrier = "sem declaração de acessos";
+            } else if (!(system instanceof ScheduledMember)) {
+                barrier = "não é BaseSystem nem BaseIteratingSystem";
+            } else {
+                access = new SystemAccess();
+                ((ScheduledSystem) system).declareAccess(access);
+                if (access.isExclusive()) barrier = "exclusivo";
+            }
+
+            if (barrier != null) {
+                closeSegment(segment, accesses);
+                graphDump.append("  ").append(nameOf(system)).append(" - série (").append(barrier).append(")\n");
+                continue;
+            }
+            segment.add(system);
+            accesses.add(access);
+        }
+        closeSegment(segment, accesses);
+
+        Gdx.app.debug("SystemScheduler", graphDump.toString());
+    }
+
+    // Calcula os níveis do segmento; só cria um grupo se algum nível tiver trabalho para o pool em paralelo
+    private void closeSegment(Array<EntitySystem> segment, Array<SystemAccess> accesses) {
+        int size = segment.size;
+        if (size == 0) return;
+
+        int[] level = new int[size];
+        String[] dependencies = new String[size];
+        StringBuilder reasons = new StringBuilder();
+        int levelCount = 0;
+        for (int j = 0; j < size; j++) {
+            StringBuilder dependencyList = new StringBuilder();
+            for (int i = 0; i < j; i++) {
+                reasons.setLength(0);
+                if (!accesses.get(j).conflictsWith(accesses.get(i), reasons)) continue;
+                level[j] = Math.max(level[j], level[i] + 1);
+                if (dependencyList.length() > 0) dependencyList.append("; ");
+                dependencyList.append(nameOf(segment.get(i))).append(" (").append(reasons).append(')');
+            }
+            dependencies[j] = dependencyList.toString();
+            levelCount = Math.max(levelCount, level[j] + 1);
+        }
+
+        int[] levelSizes = new int[levelCount];
+        boolean parallel = false;
+        for (int j = 0; j < size; j++) {
+            levelSizes[level[j]]++;
+        }
+        for (int l = 0; l < levelCount && !parallel; l++) {
+            int workers = 0;
+            for (int j = 0; j < size; j++) {
+                if (level[j] == l && !accesses.get(j).isMainThread()) workers++;
+            }
+            parallel = workers > 0 && levelSizes[l] > 1;
+        }
+
+        if (serial || !parallel) {
+            for (int j = 0; j < size; j++) {
+                graphDump.append("  ").append(nameOf(segment.get(j))).append(" - série (")
+                    .append(serial ? "forçado" : "sem paralelismo no segmento").append(")\n");
+            }
+        } else {
+            EntitySystem[][] levels = new EntitySystem[levelCount][];
+            boolean[][] mainThread = new boolean[levelCount][];
+            int[] filled = new int[levelCount];
+            for (int l = 0; l < levelCount; l++) {
+                levels[l] = new EntitySystem[levelSizes[l]];
+                mainThread[l] = new boolean[levelSizes[l]];
+            }
+            for (int j = 0; j < size; j++) {
+                int l = level[j];
+                levels[l][filled[l]] = segment.get(j);
+                mainThread[l][filled[l]] = accesses.get(j).isMainThread();
+                filled[l]++;
+            }
+
+            SystemGroup group = new SystemGroup(this, pool, segment.first(), levels, mainThread);
+            group.attach();
+            groups.add(group);
+
+            graphDump.append("  Grupo paralelo (").append(size).append(" sistemas, corre na posição de ")
+                .append(nameOf(segment.first())).append("):\n");
+            for (int l = 0; l < levelCount; l++) {
+                graphDump.append("    nível ").append(l).append(":\n");
+                for (int j = 0; j < size; j++) {
+                    if (level[j] != l) continue;
+                    graphDump.append("      ").append(nameOf(segment.get(j)))
+                        .append(accesses.get(j).isMainThread() ? " [thread do jogo]" : " [pool]");
+                    if (!dependencies[j].isEmpty()) graphDump.append(" depois de ").append(dependencies[j]);
+                    graphDump.append('\n');
+                }
+            }
+        }
+
+        segment.clear();
+        accesses.clear();
+    }
+
+    private void clearGroups() {
+        for (SystemGroup group : groups) group.detach();
+        groups.clear();
+    }
+
+    private static String nameOf(EntitySystem system) {
+        return system.getClass().getSimpleName();
+    }
+}
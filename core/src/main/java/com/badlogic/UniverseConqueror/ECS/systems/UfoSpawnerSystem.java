@@ -1,10 +1,9 @@
 package com.badlogic.UniverseConqueror.ECS.systems;
 
 import com.badlogic.UniverseConqueror.Interfaces.Spawner;
-import com.badlogic.ashley.core.EntitySystem;
 
 
-public class UfoSpawnerSystem extends EntitySystem {
+public class UfoSpawnerSystem extends BaseSystem {
 
     private final Spawner<Void> ufoSpawner;
     private float spawnTimer = 0f;
@@ -11,13 +11,16 @@ public class ComponentMappers {
     public static final ComponentMapper<BoundsComponent> bounds = ComponentMapper.getFor(BoundsComponent.class);
     public static final ComponentMapper<CameraComponent> camera = ComponentMapper.getFor(CameraComponent.class);
     public static final ComponentMapper<EndLevelComponent> endLevel = ComponentMapper.getFor(EndLevelComponent.class);
+    public static final ComponentMapper<DormantComponent> dormant = ComponentMapper.getFor(DormantComponent.class);
     public static final ComponentMapper<EnemyComponent> enemy = ComponentMapper.getFor(EnemyComponent.class);
+    public static final ComponentMapper<FlowFieldComponent> flowField = ComponentMapper.getFor(FlowFieldComponent.class);
     public static final ComponentMapper<HealthComponent> health = ComponentMapper.getFor(HealthComponent.class);
     public static final ComponentMapper<ItemComponent> item = ComponentMapper.getFor(ItemComponent.class);
     public static final ComponentMapper<JumpComponent> jump = ComponentMapper.getFor(JumpComponent.class);
     public static final ComponentMapper<KnockbackComponent> knockback = ComponentMapper.getFor(KnockbackComponent.class);
     public static final ComponentMapper<ParticleComponent> particle = ComponentMapper.getFor(ParticleComponent.class);
     public static final ComponentMapper<PathComponent> path = ComponentMapper.getFor(PathComponent.class);
+    public static final ComponentMapper<PathTrackingComponent> pathTracking = ComponentMapper.getFor(PathTrackingComponent.class);
     public static final ComponentMapper<PhysicsComponent> physics = ComponentMapper.getFor(PhysicsComponent.class);
     public static final ComponentMapper<PlayerComponent> player = ComponentMapper.getFor(PlayerComponent.class);
     public static final ComponentMapper<PositionComponent> position = ComponentMapper.getFor(PositionComponent.class);
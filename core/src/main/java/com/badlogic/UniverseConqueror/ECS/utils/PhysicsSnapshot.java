@@ -0,0 +1,113 @@
+package com.badlogic.UniverseConqueror.ECS.utils;
+
+import com.badlogic.UniverseConqueror.ECS.components.PhysicsComponent;
+import com.badlogic.gdx.math.Vector2;
+import com.badlogic.gdx.physics.box2d.Body;
+import com.badlogic.gdx.utils.IntArray;
+
+import java.util.Arrays;
+
+// Fotografia das posições e velocidades dos corpos Box2D, com dois buffers.
+// Na física em thread própria, a thread de física escreve o buffer de trás no fim de cada passo enquanto
+// o jogo lê o da frente; swap() troca-os quando o passo termina. Cada entidade com física ocupa um slot
+// fixo (guardado no TransformStore do PhysicsSystem), atribuído e libertado só com o mundo parado. O corpo é lido do
+// componente no momento da escrita, por isso um corpo removido (body = null) deixa simplesmente de ser escrito.
+public class PhysicsSnapshot {
+
+    private PhysicsComponent[] components = new PhysicsComponent[64];
+    private final IntArray freeSlots = new IntArray();
+    private int size;
+
+    // Dois buffers: posição anterior ao último subpasso, posição atual e velocidade; valid indica se o
+    // slot já foi escrito desde que foi atribuído ao corpo atual
+    private final float[][] previousX = new float[2][64];
+    private final float[][] previousY = new float[2][64];
+    private final float[][] x = new float[2][64];
+    private final float[][] y = new float[2][64];
+    private final float[][] velocityX = new float[2][64];
+    private final float[][] velocityY = new float[2][64];
+    private final boolean[][] valid = new boolean[2][64];
+    private int front;
+
+    // Reserva um slot para a entidade; o slot só tem dados depois do próximo passo publicado
+    public int track(PhysicsComponent physics) {
+        int slot = freeSlots.size > 0 ? freeSlots.pop() : size++;
+        if (slot >= components.length) grow(components.length * 2);
+        components[slot] = physics;
+        valid[0][slot] = false;
+        valid[1][slot] = false;
+        return slot;
+    }
+
+    public void untrack(int slot) {
+        components[slot] = null;
+        valid[0][slot] = false;
+        valid[1][slot] = false;
+        freeSlots.add(slot);
+    }
+
+    // Guarda a posição atual de todos os corpos como posição anterior (antes do último subpasso)
+    public void capturePrevious() {
+        int back = 1 - front;
+        for (int slot = 0; slot < size; slot++) {
+            PhysicsComponent physics = components[slot];
+            Body body = physics != null ? physics.body : null;
+            if (body == null) continue;
+            Vector2 position = body.getPosition();
+            previousX[back][slot] = position.x;
+            previousY[back][slot] = position.y;
+        }
+    }
+
+    // Escreve no buffer de trás o estado de todos os corpos (chamado pela thread de física)
+    public void publish() {
+        int back = 1 - front;
+        for (int slot = 0; slot < size; slot++) {
+            PhysicsComponent physics = components[slot];
+            Body body = physics != null ? physics.body : null;
+            if (body == null) continue;
+            Vector2 position = body.getPosition();
+            Vector2 velocity = body.getLinearVelocity();
+            x[back][slot] = position.x;
+            y[back][slot] = position.y;
+            velocityX[back][slot] = velocity.x;
+            velocityY[back][slot] = velocity.y;
+            valid[back][slot] = true;
+        }
+    }
+
+    // Torna visível o último passo publicado
+    public void swap() {
+        front = 1 - front;
+    }
+
+    public boolean isValid(int slot) { return slot >= 0 && valid[front][slot]; }
+
+    public float getPreviousX(int slot) { return previousX[front][slot]; }
+
+    public float getPreviousY(int slot) { return previousY[front][slot]; }
+
+    public float getX(int slot) { return x[front][slot]; }
+
+    public float getY(int slot) { return y[front][slot]; }
+
+    public float getVelocityX(int slot) { return velocityX[front][slot]; }
+
+    public float getVelocityY(int slot) { return velocityY[front][slot]; }
+
+    // Corpos acompanhados neste momento
+    public int getTrackedCount() { return size - freeSlots.size; }
+
+    private void grow(int capacity) {
+        components = Arrays.copyOf(components, capacity);
+        for (int i = 0; i < 2; i++) {
+            previousX[i] = Arrays.copyOf(previousX[i], capacity);
+            previousY[i] = Arrays.copyOf(previousY[i], capacity);
+            x[i] = Arrays.copyOf(x[i], capacity);
+            y[i] = Arrays.copyOf(y[i], capacity);
+            velocityX[i] = Arrays.copyOf(velocityX[i], capacity);
+            velocityY[i] = Arrays.copyOf(velocityY[i], capacity);
+            valid[i] = Arrays.copyOf(valid[i], capacity);
+        }
+    }
+}
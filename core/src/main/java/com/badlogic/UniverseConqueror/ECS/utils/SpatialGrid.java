@@ -0,0 +1,257 @@
+package com.badlogic.UniverseConqueror.ECS.utils;
+
+import com.badlogic.ashley.core.Entity;
+import com.badlogic.ashley.core.Family;
+import com.badlogic.gdx.utils.Array;
+
+import java.util.Arrays;
+
+// Índice espacial em grelha uniforme (hash de células) para consultas de proximidade entre entidades.
+// É reconstruído de raiz a cada frame com add() + build(): uma ordenação por contagem deixa as entradas
+// de cada célula contíguas, sem alocação depois de os arrays crescerem. As consultas (mais próximos,
+// raio e retângulo) só visitam as células que intersectam a área pedida.
+public class SpatialGrid {
+
+    private static final int MIN_TABLE_SIZE = 16;
+
+    private final float cellSize;
+    private final float inverseCellSize;
+
+    // Entradas na ordem de inserção
+    private Entity[] entities = new Entity[64];
+    private float[] xs = new float[64];
+    private float[] ys = new float[64];
+    private int[] bucketOf = new int[64];
+    private int[] stamp = new int[64];
+    private int count;
+
+    // Índices das entradas ordenados por balde; bucketStart[b]..bucketStart[b + 1] delimita o balde b
+    private int[] sorted = new int[64];
+    private int[] bucketStart = new int[MIN_TABLE_SIZE + 1];
+    private int tableMask = MIN_TABLE_SIZE - 1;
+    private int queryStamp;
+
+    // Células ocupadas (limites para as consultas não percorrerem espaço vazio)
+    private int minCellX, minCellY, maxCellX, maxCellY;
+
+    // Resultados parciais da consulta de k mais próximos
+    private int[] nearestIndex = new int[8];
+    private float[] nearestDistance = new float[8];
+
+    public SpatialGrid(float cellSize) {
+        this.cellSize = cellSize;
+        this.inverseCellSize = 1f / cellSize;
+    }
+
+    // Descarta todas as entradas (a memória reservada é reutilizada)
+    public void clear() {
+        Arrays.fill(entities, 0, count, null);
+        count = 0;
+    }
+
+    // Acrescenta uma entidade na posição dada; só fica visível nas consultas depois de build()
+    public void add(Entity entity, float x, float y) {
+        if (count == entities.length) grow(count * 2);
+        entities[count] = entity;
+        xs[count] = x;
+        ys[count] = y;
+        count++;
+    }
+
+    // Distribui as entradas pelos baldes em O(n)
+    public void build() {
+        int tableSize = MIN_TABLE_SIZE;
+        while (tableSize < count * 2) tableSize <<= 1;
+        if (bucketStart.length < tableSize + 1) bucketStart = new int[tableSize + 1];
+        tableMask = tableSize - 1;
+        Arrays.fill(bucketStart, 0, tableSize + 1, 0);
+
+        minCellX = minCellY = Integer.MAX_VALUE;
+        maxCellX = maxCellY = Integer.MIN_VALUE;
+        for (int i = 0; i < count; i++) {
+            int cellX = cell(xs[i]), cellY = cell(ys[i]);
+            if (cellX < minCellX) minCellX = cellX;
+            if (cellX > maxCellX) maxCellX = cellX;
+            if (cellY < minCellY) minCellY = cellY;
+            if (cellY > maxCellY) maxCellY = cellY;
+            int bucket = bucket(cellX, cellY);
+            bucketOf[i] = bucket;
+            bucketStart[bucket + 1]++;
+        }
+        for (int b = 0; b < tableSize; b++) {
+            bucketStart[b + 1] += bucketStart[b];
+        }
+        // bucketStart[b] serve de cursor de escrita e acaba em bucketStart[b + 1]; depois desloca-se de volta
+        for (int i = 0; i < count; i++) {
+            sorted[bucketStart[bucketOf[i]]++] = i;
+        }
+        for (int b = tableSize; b > 0; b--) {
+            bucketStart[b] = bucketStart[b - 1];
+        }
+        bucketStart[0] = 0;
+    }
+
+    // Entidade mais próxima de (x, y) que satisfaz o filtro (null aceita todas), até maxDistance
+    public Entity nearest(float x, float y, float maxDistance, Family filter) {
+        int found = nearest(x, y, 1, maxDistance, filter, null);
+        return found > 0 ? entities[nearestIndex[0]] : null;
+    }
+
+    // Até k entidades mais próximas, por ordem crescente de distância; devolve quantas encontrou.
+    // out pode ser null quando só interessa o número.
+    public int nearest(float x, float y, int k, float maxDistance, Family filter, Array<Entity> out) {
+        if (out != null) out.clear();
+        if (count == 0 || k <= 0) return 0;
+        if (nearestIndex.length < k) {
+            nearestIndex = new int[k];
+            nearestDistance = new float[k];
+        }
+
+        int stampValue = nextStamp();
+        float maxDistance2 = maxDistance * maxDistance;
+        int centerX = cell(x), centerY = cell(y);
+        int found = 0;
+
+        for (int ring = 0; ; ring++) {
+            // As células deste anel ficam pelo menos a (ring - 1) * cellSize do ponto
+            if (ring > 1) {
+                float ringDistance = (ring - 1) * cellSize;
+                if (ringDistance > maxDistance) break;
+                if (found == k && nearestDistance[k - 1] <= ringDistance * ringDistance) break;
+            }
+
+            for (int dy = -ring; dy <= ring; dy++) {
+                int cellY = centerY + dy;
+                if (cellY < minCellY || cellY > maxCellY) continue;
+                // Linhas de topo e base percorrem-se inteiras (dentro dos limites); as restantes só têm as pontas
+                boolean fullRow = dy == -ring || dy == ring;
+                int fromX = fullRow ? Math.max(centerX - ring, minCellX) : centerX - ring;
+                int toX = fullRow ? Math.min(centerX + ring, maxCellX) : centerX + ring;
+                int stepX = fullRow ? 1 : Math.max(1, 2 * ring);
+                for (int cellX = fromX; cellX <= toX; cellX += stepX) {
+                    if (cellX < minCellX || cellX > maxCellX) continue;
+
+                    int bucket = bucket(cellX, cellY);
+                    for (int s = bucketStart[bucket], end = bucketStart[bucket + 1]; s < end; s++) {
+                        int i = sorted[s];
+                        if (stamp[i] == stampValue) continue;
+                        stamp[i] = stampValue;
+                        if (filter != null && !filter.matches(entities[i])) continue;
+
+                        float ex = xs[i] - x, ey = ys[i] - y;
+                        float distance2 = ex * ex + ey * ey;
+                        if (distance2 > maxDistance2) continue;
+                        found = insertNearest(i, distance2, found, k);
+                    }
+                }
+            }
+
+            // O anel já cobre todas as células ocupadas
+            if (centerX - ring <= minCellX && centerX + ring >= maxCellX
+                && centerY - ring <= minCellY && centerY + ring >= maxCellY) break;
+        }
+
+        if (out != null) {
+            for (int i = 0; i < found; i++) out.add(entities[nearestIndex[i]]);
+        }
+        return found;
+    }
+
+    // Entidades a uma distância de (x, y) não superior a radius; devolve quantas acrescentou a out
+    public int queryRadius(float x, float y, float radius, Family filter, Array<Entity> out) {
+        float radius2 = radius * radius;
+        int added = 0;
+        int stampValue = nextStamp();
+
+        int fromX = Math.max(cell(x - radius), minCellX), toX = Math.min(cell(x + radius), maxCellX);
+        int fromY = Math.max(cell(y - radius), minCellY), toY = Math.min(cell(y + radius), maxCellY);
+        for (int cellY = fromY; cellY <= toY; cellY++) {
+            for (int cellX = fromX; cellX <= toX; cellX++) {
+                int bucket = bucket(cellX, cellY);
+                for (int s = bucketStart[bucket], end = bucketStart[bucket + 1]; s < end; s++) {
+                    int i = sorted[s];
+                    if (stamp[i] == stampValue) continue;
+                    stamp[i] = stampValue;
+
+                    float ex = xs[i] - x, ey = ys[i] - y;
+                    if (ex * ex + ey * ey > radius2) continue;
+                    if (filter != null && !filter.matches(entities[i])) continue;
+                    out.add(entities[i]);
+                    added++;
+                }
+            }
+        }
+        return added;
+    }
+
+    // Entidades dentro do retângulo [minX, maxX] x [minY, maxY]; devolve quantas acrescentou a out
+    public int queryRect(float minX, float minY, float maxX, float maxY, Family filter, Array<Entity> out) {
+        int added = 0;
+        int stampValue = nextStamp();
+
+        int fromX = Math.max(cell(minX), minCellX), toX = Math.min(cell(maxX), maxCellX);
+        int fromY = Math.max(cell(minY), minCellY), toY = Math.min(cell(maxY), maxCellY);
+        for (int cellY = fromY; cellY <= toY; cellY++) {
+            for (int cellX = fromX; cellX <= toX; cellX++) {
+                int bucket = bucket(cellX, cellY);
+                for (int s = bucketStart[bucket], end = bucketStart[bucket + 1]; s < end; s++) {
+                    int i = sorted[s];
+                    if (stamp[i] == stampValue) continue;
+                    stamp[i] = stampValue;
+
+                    float ex = xs[i], ey = ys[i];
+                    if (ex < minX || ex > maxX || ey < minY || ey > maxY) continue;
+                    if (filter != null && !filter.matches(entities[i])) continue;
+                    out.add(entities[i]);
+                    added++;
+                }
+            }
+        }
+        return added;
+    }
+
+    // Mantém os k melhores ordenados por distância (inserção direta; k é pequeno)
+    private int insertNearest(int index, float distance2, int found, int k) {
+        if (found == k && distance2 >= nearestDistance[k - 1]) return found;
+        int position = found < k ? found++ : k - 1;
+        while (position > 0 && nearestDistance[position - 1] > distance2) {
+            nearestDistance[position] = nearestDistance[position - 1];
+            nearestIndex[position] = nearestIndex[position - 1];
+            position--;
+        }
+        nearestDistance[position] = distance2;
+        nearestIndex[position] = index;
+        return found;
+    }
+
+    // Marca nova para evitar repetir entradas quando duas células da consulta partilham o balde
+    private int nextStamp() {
+        if (++queryStamp == 0) {
+            Arrays.fill(stamp, 0);
+            queryStamp = 1;
+        }
+        return queryStamp;
+    }
+
+    private int cell(float coordinate) {
+        return (int) Math.floor(coordinate * inverseCellSize);
+    }
+
+    private int bucket(int cellX, int cellY) {
+        int hash = cellX * 73856093 ^ cellY * 19349663;
+        return (hash ^ (hash >>> 16)) & tableMask;
+    }
+
+    private void grow(int capacity) {
+        entities = Arrays.copyOf(entities, capacity);
+        xs = Arrays.copyOf(xs, capacity);
+        ys = Arrays.copyOf(ys, capacity);
+        bucketOf = Arrays.copyOf(bucketOf, capacity);
+        stamp = Arrays.copyOf(stamp, capacity);
+        sorted = Arrays.copyOf(sorted, capacity);
+    }
+
+    public int size() { return count; }
+
+    public float getCellSize() { return cellSize; }
+}
@@ -0,0 +1,61 @@
+package com.badlogic.UniverseConqueror.ECS.utils;
+
+import com.badlogic.gdx.utils.ObjectSet;
+
+// Conjunto de leituras e escritas declarado por um sistema (ver ScheduledSystem).
+// As chaves são classes: componentes (PositionComponent) ou recursos partilhados fora do ECS
+// (SpriteBatch, World, SoundManager, OrthographicCamera). Dois sistemas entram em conflito se um
+// escreve uma chave que o outro lê ou escreve. mainThread() prende o sistema à thread do jogo (GL, Box2D)
+// e exclusive() marca-o como barreira: alterações estruturais ao engine ou eventos com observadores síncronos.
+public class SystemAccess {
+
+    private final ObjectSet<Class<?>> reads = new ObjectSet<>();
+    private final ObjectSet<Class<?>> writes = new ObjectSet<>();
+    private boolean mainThread;
+    private boolean exclusive;
+
+    public SystemAccess reads(Class<?>... types) {
+        reads.addAll(types);
+        return this;
+    }
+
+    public SystemAccess writes(Class<?>... types) {
+        writes.addAll(types);
+        return this;
+    }
+
+    public SystemAccess mainThread() {
+        mainThread = true;
+        return this;
+    }
+
+    public SystemAccess exclusive() {
+        exclusive = true;
+        return this;
+    }
+
+    public boolean isMainThread() { return mainThread; }
+
+    public boolean isExclusive() { return exclusive; }
+
+    // Verifica se os dois sistemas não podem correr ao mesmo tempo; as chaves em conflito vão para reasons
+    public boolean conflictsWith(SystemAccess other, StringBuilder reasons) {
+        if (exclusive || other.exclusive) {
+            reasons.append("exclusivo");
+            return true;
+        }
+        int start = reasons.length();
+        for (Class<?> type : writes) {
+            if (other.writes.contains(type) || other.reads.contains(type)) appendReason(reasons, start, type);
+        }
+        for (Class<?> type : reads) {
+            if (other.writes.contains(type) && !writes.contains(type)) appendReason(reasons, start, type);
+        }
+        return reasons.length() > start;
+    }
+
+    private static void appendReason(StringBuilder reasons, int start, Class<?> type) {
+        if (reasons.length() > start) reasons.append(", ");
+        reasons.append(type.getSimpleName());
+    }
+}
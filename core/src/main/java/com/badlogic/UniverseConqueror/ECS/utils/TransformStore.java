@@ -0,0 +1,218 @@
+package com.badlogic.UniverseConqueror.ECS.utils;
+
+import com.badlogic.UniverseConqueror.ECS.components.PhysicsComponent;
+import com.badlogic.UniverseConqueror.ECS.components.PositionComponent;
+import com.badlogic.UniverseConqueror.ECS.components.TransformComponent;
+import com.badlogic.UniverseConqueror.ECS.components.VelocityComponent;
+import com.badlogic.ashley.core.Entity;
+import com.badlogic.gdx.physics.box2d.Body;
+import com.badlogic.gdx.physics.box2d.BodyDef;
+import com.badlogic.gdx.utils.ObjectIntMap;
+
+import java.util.Arrays;
+
+// Armazenamento denso (structure-of-arrays) da posição, velocidade e transformação das entidades com física.
+// Cada entidade ocupa um slot entre 0 e size() - 1; ao sair, o último slot passa para o lugar dela, por isso
+// os laços de movimento e de sincronização percorrem arrays de floats contíguos em vez de saltar entre
+// componentes. Os componentes continuam a ser a vista usada pelo resto do jogo: pullVelocities() lê as
+// velocidades pedidas pelos sistemas de jogo e pushPositions() escreve de volta Position e Transform, só
+// nos slots alterados desde a última escrita (os restantes podem ter sido mexidos por fora, p. ex. pelos pools).
+// A TransformComponent é opcional e fica a que a entidade tinha ao entrar no armazenamento.
+// Para a sincronização com o Box2D, cada slot lembra o último corpo visto, se é estático e se estava a dormir
+// na última leitura: um corpo que continua a dormir (ou estático) não se mexeu e não precisa de ser lido.
+public class TransformStore {
+
+    private final ObjectIntMap<Entity> slots = new ObjectIntMap<>();
+    private int size;
+
+    // Vista de componentes de cada slot
+    private Entity[] entities = new Entity[64];
+    private PhysicsComponent[] physics = new PhysicsComponent[64];
+    private PositionComponent[] positions = new PositionComponent[64];
+    private VelocityComponent[] velocities = new VelocityComponent[64];
+    private TransformComponent[] transforms = new TransformComponent[64];
+
+    // Dados quentes, por slot
+    private float[] positionX = new float[64];
+    private float[] positionY = new float[64];
+    private float[] velocityX = new float[64];
+    private float[] velocityY = new float[64];
+    private float[] transformX = new float[64];
+    private float[] transformY = new float[64];
+    private int[] snapshotSlots = new int[64];
+    private boolean[] positionDirty = new boolean[64];
+    private boolean[] transformDirty = new boolean[64];
+
+    // Estado do corpo na última sincronização
+    private Body[] bodies = new Body[64];
+    private boolean[] staticBody = new boolean[64];
+    private boolean[] asleep = new boolean[64];
+
+    // Acrescenta a entidade no fim e copia o estado atual dos componentes
+    public int add(Entity entity) {
+        int existing = slots.get(entity, -1);
+        if (existing >= 0) return existing;
+        if (size == entities.length) grow(size * 2);
+
+        int slot = size++;
+        entities[slot] = entity;
+        physics[slot] = ComponentMappers.physics.get(entity);
+        positions[slot] = ComponentMappers.position.get(entity);
+        velocities[slot] = ComponentMappers.velocity.get(entity);
+        transforms[slot] = ComponentMappers.transform.get(entity);
+        snapshotSlots[slot] = -1;
+        positionDirty[slot] = false;
+        transformDirty[slot] = false;
+        bodies[slot] = null;
+        asleep[slot] = false;
+        slots.put(entity, slot);
+
+        positionX[slot] = positions[slot].position.x;
+        positionY[slot] = positions[slot].position.y;
+        velocityX[slot] = velocities[slot].velocity.x;
+        velocityY[slot] = velocities[slot].velocity.y;
+        TransformComponent transform = transforms[slot];
+        transformX[slot] = transform != null ? transform.position.x : positionX[slot];
+        transformY[slot] = transform != null ? transform.position.y : positionY[slot];
+        return slot;
+    }
+
+    // Retira a entidade, movendo o último slot para o lugar dela
+    public void remove(Entity entity) {
+        int slot = slots.remove(entity, -1);
+        if (slot < 0) return;
+
+        int last = --size;
+        if (slot != last) {
+            entities[slot] = entities[last];
+            physics[slot] = physics[last];
+            positions[slot] = positions[last];
+            velocities[slot] = velocities[last];
+            transforms[slot] = transforms[last];
+            positionX[slot] = positionX[last];
+            positionY[slot] = positionY[last];
+            velocityX[slot] = velocityX[last];
+            velocityY[slot] = velocityY[last];
+            transformX[slot] = transformX[last];
+            transformY[slot] = transformY[last];
+            snapshotSlots[slot] = snapshotSlots[last];
+            positionDirty[slot] = positionDirty[last];
+            transformDirty[slot] = transformDirty[last];
+            bodies[slot] = bodies[last];
+            staticBody[slot] = staticBody[last];
+            asleep[slot] = asleep[last];
+            slots.put(entities[slot], slot);
+        }
+        entities[last] = null;
+        physics[last] = null;
+        positions[last] = null;
+        velocities[last] = null;
+        transforms[last] = null;
+        bodies[last] = null;
+    }
+
+    // Copia para os arrays as velocidades escritas nos componentes pelos sistemas de jogo
+    public void pullVelocities() {
+        for (int slot = 0; slot < size; slot++) {
+            VelocityComponent velocity = velocities[slot];
+            velocityX[slot] = velocity.velocity.x;
+            velocityY[slot] = velocity.velocity.y;
+        }
+    }
+
+    // Escreve nos componentes as posições e transformações calculadas nos arrays
+    public void pushPositions() {
+        for (int slot = 0; slot < size; slot++) {
+            if (positionDirty[slot]) {
+                positionDirty[slot] = false;
+                positions[slot].position.set(positionX[slot], positionY[slot]);
+            }
+            if (transformDirty[slot]) {
+                transformDirty[slot] = false;
+                TransformComponent transform = transforms[slot];
+                if (transform != null) transform.position.set(transformX[slot], transformY[slot], 0);
+            }
+        }
+    }
+
+    public int size() { return size; }
+
+    // Slot da entidade, ou -1 se não estiver no armazenamento
+    public int slotOf(Entity entity) { return slots.get(entity, -1); }
+
+    public Entity getEntity(int slot) { return entities[slot]; }
+
+    public PhysicsComponent getPhysics(int slot) { return physics[slot]; }
+
+    public boolean hasTransform(int slot) { return transforms[slot] != null; }
+
+    public float getPositionX(int slot) { return positionX[slot]; }
+
+    public float getPositionY(int slot) { return positionY[slot]; }
+
+    public void setPosition(int slot, float x, float y) {
+        positionX[slot] = x;
+        positionY[slot] = y;
+        positionDirty[slot] = true;
+    }
+
+    public float getVelocityX(int slot) { return velocityX[slot]; }
+
+    public float getVelocityY(int slot) { return velocityY[slot]; }
+
+    public float getTransformX(int slot) { return transformX[slot]; }
+
+    public float getTransformY(int slot) { return transformY[slot]; }
+
+    public void setTransform(int slot, float x, float y) {
+        transformX[slot] = x;
+        transformY[slot] = y;
+        transformDirty[slot] = true;
+    }
+
+    // Corpo atual do slot; se a entidade trocou de corpo (pools, respawn), esquece o estado da última leitura
+    public Body refreshBody(int slot) {
+        Body body = physics[slot].body;
+        if (body != bodies[slot]) {
+            bodies[slot] = body;
+            staticBody[slot] = body != null && body.getType() == BodyDef.BodyType.StaticBody;
+            asleep[slot] = false;
+        }
+        return body;
+    }
+
+    public boolean isStaticBody(int slot) { return staticBody[slot]; }
+
+    // O corpo estava a dormir (ou é estático) na última leitura, e a posição guardada continua certa
+    public boolean isAsleep(int slot) { return asleep[slot]; }
+
+    public void setAsleep(int slot, boolean asleep) { this.asleep[slot] = asleep; }
+
+    // Slot do PhysicsSnapshot da entidade (física em thread própria), ou -1
+    public int getSnapshotSlot(int slot) { return snapshotSlots[slot]; }
+
+    public void setSnapshotSlot(Entity entity, int snapshotSlot) {
+        int slot = slots.get(entity, -1);
+        if (slot >= 0) snapshotSlots[slot] = snapshotSlot;
+    }
+
+    private void grow(int capacity) {
+        entities = Arrays.copyOf(entities, capacity);
+        physics = Arrays.copyOf(physics, capacity);
+        positions = Arrays.copyOf(positions, capacity);
+        velocities = Arrays.copyOf(velocities, capacity);
+        transforms = Arrays.copyOf(transforms, capacity);
+        positionX = Arrays.copyOf(positionX, capacity);
+        positionY = Arrays.copyOf(positionY, capacity);
+        velocityX = Arrays.copyOf(velocityX, capacity);
+        velocityY = Arrays.copyOf(velocityY, capacity);
+        transformX = Arrays.copyOf(transformX, capacity);
+        transformY = Arrays.copyOf(transformY, capacity);
+        snapshotSlots = Arrays.copyOf(snapshotSlots, capacity);
+        positionDirty = Arrays.copyOf(positionDirty, capacity);
+        transformDirty = Arrays.copyOf(transformDirty, capacity);
+        bodies = Arrays.copyOf(bodies, capacity);
+        staticBody = Arrays.copyOf(staticBody, capacity);
+        asleep = Arrays.copyOf(asleep, capacity);
+    }
+}
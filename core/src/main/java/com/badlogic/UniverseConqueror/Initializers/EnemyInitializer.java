@@ -44,7 +44,7 @@ public class EnemyInitializer extends AbstractInitializer {
 
     // Cria a nave e retorna o nó onde ela está
     public Node initializeSpaceship() {
-        Spawner<Node> spaceshipSpawner = new SpaceshipSpawner(engine, world, assetManager, mapGraphBuilder);
+        Spawner<Node> spaceshipSpawner = new SpaceshipSpawner(engine, world, assetManager, mapGraphBuilder, player);
         return spaceshipSpawner.spawn();
     }
 
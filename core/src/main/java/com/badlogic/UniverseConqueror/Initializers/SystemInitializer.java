@@ -30,12 +30,13 @@ public class SystemInitializer extends AbstractInitializer {
     public PlayerInputSystem playerInputSystem;
     public BulletSystem bulletSystem;
     public BulletRenderSystem bulletRenderSystem;
-    public BulletMovementSystem bulletMovementSystem;
     public AttackSystem attackSystem;
     public HealthSystem healthSystem;
     public BodyRemovalSystem bodyRemovalSystem;
     public ItemCollectionSystem itemCollectionSystem;
     public AnimationSystem animationSystem;
+    public SpatialIndexSystem spatialIndexSystem;
+    public PhysicsLodSystem physicsLodSystem;
 
     /**
      * Construtor para inicializar as dependências e preparar o contexto do jogo.
@@ -69,23 +70,35 @@ public class SystemInitializer extends AbstractInitializer {
         int mapWidth = map.getProperties().get("width", Integer.class) * map.getProperties().get("tilewidth", Integer.class);  // Largura do mapa em pixels.
         int mapHeight = map.getProperties().get("height", Integer.class) * map.getProperties().get("tileheight", Integer.class);  // Altura do mapa em pixels.
 
+        // Escalonador antes de todos: corre em paralelo os sistemas independentes que declaram os seus acessos
+        engine.addSystem(new SystemScheduler());
+
+        // Índice espacial primeiro, para os restantes sistemas consultarem as posições do frame atual
+        spatialIndexSystem = new SpatialIndexSystem(camera);
+        engine.addSystem(spatialIndexSystem);
+
+        // Nível de detalhe da física: adormece inimigos e itens longe da câmera antes da IA e da física
+        physicsLodSystem = new PhysicsLodSystem(camera);
+        engine.addSystem(physicsLodSystem);
+
+        // A física é criada já aqui porque o RenderSystem lê o snapshot que ela publica
+        PhysicsSystem physicsSystem = new PhysicsSystem(world);
+
         // Inicializa sistemas de renderização e movimentação da câmera
         engine.addSystem(new CameraSystem(camera, mapWidth, mapHeight));
-        engine.addSystem(new RenderSystem(batch, camera));
+        engine.addSystem(new RenderSystem(batch, camera, physicsSystem));
         engine.addSystem(new UfoRenderSystem(batch, camera));
 
         // Inicializa sistemas de entrada e movimentação do jogador
         cameraInputSystem = new CameraInputSystem(camera);
-        bulletSystem = new BulletSystem(world, camera, assetManager, engine);
+        bulletSystem = new BulletSystem(world, spatialIndexSystem, bulletFactory, engine);
         bulletRenderSystem = new BulletRenderSystem(batch);
-        bulletMovementSystem = new BulletMovementSystem();
         playerInputSystem = new PlayerInputSystem(world, joystick, bulletSystem, camera, engine, bulletFactory);
 
-        engine.addSystem(bulletMovementSystem);
+        engine.addSystem(new RaycastProjectileSystem(world, bulletFactory));
         engine.addSystem(bulletSystem);
         engine.addSystem(bulletRenderSystem);
         engine.addSystem(playerInputSystem);
-        engine.addSystem(new MovementSystem());
         engine.addSystem(new StateSystem());
 
         // Inicializa o sistema de animações
@@ -94,7 +107,10 @@ public class SystemInitializer extends AbstractInitializer {
 
         // Inicializa os sistemas de física e pulo
         engine.addSystem(new JumpSystem(world));
-        engine.addSystem(new PhysicsSystem(world));
+        engine.addSystem(physicsSystem);
+        // Depois da física: lê as velocidades que ela copiou para o TransformStore neste frame
+        engine.addSystem(new MovementSystem(physicsSystem.getTransformStore()));
+        bulletFactory.setPhysicsSystem(physicsSystem);
         engine.addSystem(cameraInputSystem);
 
         // Inicializa o sistema de ataques
@@ -118,7 +134,7 @@ public class SystemInitializer extends AbstractInitializer {
         engine.addSystem(new ParticleSystem(batch, camera));
         engine.addSystem(new CrosshairRenderSystem(batch, camera,assetManager,0.04f));
         engine.addSystem(new SoundSystem());
-        engine.addSystem(new StateSoundSystem(camera));
+        engine.addSystem(new StateSoundSystem(spatialIndexSystem));
         engine.addSystem(new AISystem());
         engine.addSystem(new EnemyHealthBarSystem(camera));
         engine.addSystem(new RenderSpaceshipSystem(batch, camera));
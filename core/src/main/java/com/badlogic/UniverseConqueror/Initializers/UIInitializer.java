@@ -7,6 +7,7 @@ import com.badlogic.UniverseConqueror.Context.GameContext;
 import com.badlogic.UniverseConqueror.Context.HUDContext;
 import com.badlogic.UniverseConqueror.Utils.Joystick;
 import com.badlogic.UniverseConqueror.Utils.Minimap;
+import com.badlogic.UniverseConqueror.Utils.ProfilerOverlay;
 import com.badlogic.gdx.Gdx;
 import com.badlogic.gdx.graphics.Cursor;
 import com.badlogic.gdx.graphics.Texture;
@@ -65,6 +66,7 @@ public class UIInitializer extends AbstractInitializer {
         initializeCameraIcon();
         initializeEnemyCounter();
         initializeMinimap();
+        initializeProfilerOverlay();
     }
 
     /**
@@ -239,4 +241,13 @@ public class UIInitializer extends AbstractInitializer {
 
         context.getStage().addActor(minimap);
     }
+
+    /**
+     * Inicializa o painel do perfilador de frames, escondido até ser ligado com F3.
+     */
+    private void initializeProfilerOverlay() {
+        ProfilerOverlay profilerOverlay = new ProfilerOverlay(context.getFont());
+        context.getHUDContext().setProfilerOverlay(profilerOverlay);
+        context.getStage().addActor(profilerOverlay);
+    }
 }
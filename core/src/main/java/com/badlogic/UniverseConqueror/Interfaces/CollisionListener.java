@@ -1,29 +1,28 @@
 package com.badlogic.UniverseConqueror.Interfaces;
 
-import com.badlogic.gdx.physics.box2d.Contact;
-import com.badlogic.gdx.physics.box2d.Fixture;
+import com.badlogic.UniverseConqueror.ContactListener.FixtureTag;
 
 /**
  * Interface `CollisionListener` que define os métodos necessários para lidar com colisões no jogo.
  * Implementando esta interface, uma classe pode responder aos eventos de colisão entre objetos físicos no mundo do jogo.
+ * Os listeners são registados no wrapper para pares de camadas e chamados depois do passo da física,
+ * por isso podem alterar o mundo (destruir corpos, libertar balas) diretamente.
  */
 public interface CollisionListener {
 
     /**
      * Método chamado quando ocorre o início de uma colisão entre dois objetos.
      *
-     * @param fixtureA O primeiro fixture envolvido na colisão.
-     * @param fixtureB O segundo fixture envolvido na colisão.
-     * @param contact O contato entre os dois objetos, que contém informações sobre a colisão.
+     * @param first A etiqueta da fixture da primeira camada com que o listener foi registado.
+     * @param second A etiqueta da fixture da segunda camada.
      */
-    void beginContact(Fixture fixtureA, Fixture fixtureB, Contact contact);
+    void beginContact(FixtureTag first, FixtureTag second);
 
     /**
      * Método chamado quando a colisão entre dois objetos termina.
      *
-     * @param fixtureA O primeiro fixture envolvido na colisão.
-     * @param fixtureB O segundo fixture envolvido na colisão.
-     * @param contact O contato entre os dois objetos, que contém informações sobre a colisão.
+     * @param first A etiqueta da fixture da primeira camada com que o listener foi registado.
+     * @param second A etiqueta da fixture da segunda camada.
      */
-    void endContact(Fixture fixtureA, Fixture fixtureB, Contact contact);
+    void endContact(FixtureTag first, FixtureTag second);
 }
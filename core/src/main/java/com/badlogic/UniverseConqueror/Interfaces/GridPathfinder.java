@@ -0,0 +1,20 @@
+package com.badlogic.UniverseConqueror.Interfaces;
+
+import com.badlogic.gdx.utils.IntArray;
+
+/**
+ * Interface comum aos motores de busca de caminho sobre a grelha de tiles.
+ * Cada instância mantém estado de trabalho próprio e não deve ser partilhada entre threads.
+ */
+public interface GridPathfinder {
+
+    /**
+     * Procura um caminho entre dois tiles.
+     *
+     * @param start Índice do tile inicial.
+     * @param goal Índice do tile de destino.
+     * @param out Recebe o caminho tile a tile, sem o início e com o destino.
+     * @return true se existir caminho.
+     */
+    boolean findPath(int start, int goal, IntArray out);
+}
@@ -0,0 +1,15 @@
+package com.badlogic.UniverseConqueror.Interfaces;
+
+/**
+ * Interface para sistemas que não iteram uma família do Ashley mas querem mostrar no FrameProfiler
+ * quantas entidades processaram. Os IteratingSystem já são contados pela própria família.
+ */
+public interface ProfiledSystem {
+
+    /**
+     * Número de entidades tratadas pelo sistema no último update.
+     *
+     * @return Contagem de entidades, lida uma vez por frame com o perfilador ligado.
+     */
+    int getEntityCount();
+}
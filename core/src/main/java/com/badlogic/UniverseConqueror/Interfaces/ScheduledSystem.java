@@ -0,0 +1,18 @@
+package com.badlogic.UniverseConqueror.Interfaces;
+
+import com.badlogic.UniverseConqueror.ECS.utils.SystemAccess;
+
+/**
+ * Interface para sistemas que declaram os componentes e recursos partilhados que leem e escrevem,
+ * para o SystemScheduler poder corrê-los em paralelo com outros sistemas independentes.
+ * Um sistema sem esta declaração corre sempre em série, na sua posição do engine.
+ */
+public interface ScheduledSystem {
+
+    /**
+     * Declara os acessos do sistema. Chamado sempre que o escalonador reconstrói o grafo de dependências.
+     *
+     * @param access Conjunto de leituras e escritas a preencher.
+     */
+    void declareAccess(SystemAccess access);
+}
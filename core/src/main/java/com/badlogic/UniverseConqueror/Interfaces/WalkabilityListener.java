@@ -0,0 +1,17 @@
+package com.badlogic.UniverseConqueror.Interfaces;
+
+/**
+ * Interface para quem precisa de reagir a alterações de caminhabilidade na grelha de navegação
+ * (caches de caminhos, grafos hierárquicos, índices de alcance).
+ */
+public interface WalkabilityListener {
+
+    /**
+     * Chamado depois de um tile mudar de caminhável para bloqueado ou vice-versa.
+     *
+     * @param x Coordenada X do tile.
+     * @param y Coordenada Y do tile.
+     * @param walkable Novo estado do tile.
+     */
+    void onWalkabilityChanged(int x, int y, boolean walkable);
+}
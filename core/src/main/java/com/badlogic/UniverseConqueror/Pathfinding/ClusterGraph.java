@@ -0,0 +1,389 @@
+package com.badlogic.UniverseConqueror.Pathfinding;
+
+import com.badlogic.UniverseConqueror.Interfaces.WalkabilityListener;
+import com.badlogic.gdx.utils.IntArray;
+
+import java.util.Arrays;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+// Grafo abstrato do HPA*: a grelha é dividida em clusters quadrados, as passagens entre clusters
+// vizinhos tornam-se nós de entrada e as distâncias entre entradas do mesmo cluster são pré-calculadas.
+// É partilhado por todas as threads de busca; alterações de caminhabilidade marcam os clusters afetados
+// e a reconstrução incremental acontece na próxima consulta.
+public class ClusterGraph implements WalkabilityListener {
+
+    public static final int DEFAULT_CLUSTER_SIZE = 16;
+
+    // Passagens mais largas do que isto ganham duas entradas (uma em cada ponta)
+    private static final int MAX_ENTRANCE_WIDTH = 6;
+
+    // Dados de um cluster: limites [x0, x1) x [y0, y1), entradas ordenadas e matriz de distâncias
+    static final class Cluster {
+        final int x0, y0, x1, y1;
+        IntArray entrances = new IntArray();
+        double[] distances = new double[0];
+
+        Cluster(int x0, int y0, int x1, int y1) {
+            this.x0 = x0;
+            this.y0 = y0;
+            this.x1 = x1;
+            this.y1 = y1;
+        }
+    }
+
+    final NavGrid grid;
+    final int clusterSize;
+    final int clustersX, clustersY;
+    final Cluster[] clusters;
+
+    // Transições (pares de tiles adjacentes em clusters diferentes) por fronteira, indexadas pelo cluster dono:
+    // fronteira este, fronteira norte e o canto nordeste (ligações diagonais entre clusters em diagonal)
+    private final IntArray[] eastTransitions;
+    private final IntArray[] northTransitions;
+    private final IntArray[] cornerTransitions;
+
+    // Nós abstratos globais, recalculados em cada reconstrução
+    int nodeCount;
+    int[] nodeTile = new int[0];
+    int[] nodeCluster = new int[0];
+    int[] clusterOffset;
+    int[] interStart = new int[1];
+    int[] interTarget = new int[0];
+    double[] interCost = new double[0];
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private final boolean[] dirtyClusters;
+    private boolean dirty;
+    private int rebuildCount;
+
+    // Constrói o grafo completo com o tamanho de cluster por omissão
+    public ClusterGraph(NavGrid grid) {
+        this(grid, DEFAULT_CLUSTER_SIZE);
+    }
+
+    // Constrói o grafo completo e passa a observar as alterações da grelha
+    public ClusterGraph(NavGrid grid, int clusterSize) {
+        this.grid = grid;
+        this.clusterSize = clusterSize;
+        this.clustersX = (grid.getWidth() + clusterSize - 1) / clusterSize;
+        this.clustersY = (grid.getHeight() + clusterSize - 1) / clusterSize;
+
+        int count = clustersX * clustersY;
+        clusters = new Cluster[count];
+        eastTransitions = new IntArray[count];
+        northTransitions = new IntArray[count];
+        cornerTransitions = new IntArray[count];
+        clusterOffset = new int[count + 1];
+        dirtyClusters = new boolean[count];
+
+        for (int cy = 0; cy < clustersY; cy++) {
+            for (int cx = 0; cx < clustersX; cx++) {
+                int c = cy * clustersX + cx;
+                clusters[c] = new Cluster(cx * clusterSize, cy * clusterSize,
+                    Math.min(grid.getWidth(), (cx + 1) * clusterSize), Math.min(grid.getHeight(), (cy + 1) * clusterSize));
+                eastTransitions[c] = new IntArray();
+                northTransitions[c] = new IntArray();
+                cornerTransitions[c] = new IntArray();
+            }
+        }
+
+        Arrays.fill(dirtyClusters, true);
+        dirty = true;
+        ensureUpToDate(new GridAStar(grid));
+        grid.addListener(this);
+    }
+
+    // Marca os clusters afetados; a reconstrução fica para a próxima consulta
+    @Override
+    public void onWalkabilityChanged(int x, int y, boolean walkable) {
+        synchronized (dirtyClusters) {
+            dirtyClusters[clusterOf(x, y)] = true;
+            dirty = true;
+        }
+    }
+
+    // Reconstrói os clusters marcados, se houver; chamado pelas buscas antes de obterem o read lock
+    void ensureUpToDate(GridAStar engine) {
+        synchronized (dirtyClusters) {
+            if (!dirty) return;
+        }
+
+        lock.writeLock().lock();
+        try {
+            boolean[] changed;
+            synchronized (dirtyClusters) {
+                if (!dirty) return;
+                changed = dirtyClusters.clone();
+                Arrays.fill(dirtyClusters, false);
+                dirty = false;
+            }
+            rebuild(changed, engine);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    void readLock() { lock.readLock().lock(); }
+
+    void readUnlock() { lock.readLock().unlock(); }
+
+    // Reconstrução incremental: fronteiras que tocam clusters alterados, entradas da vizinhança 3x3
+    // e distâncias apenas onde o interior ou o conjunto de entradas mudou
+    private void rebuild(boolean[] changed, GridAStar engine) {
+        int count = clusters.length;
+        boolean[] borderOwners = new boolean[count];
+        boolean[] entranceClusters = new boolean[count];
+
+        for (int c = 0; c < count; c++) {
+            if (!changed[c]) continue;
+            int cx = c % clustersX, cy = c / clustersX;
+            for (int oy = cy - 1; oy <= cy + 1; oy++) {
+                for (int ox = cx - 1; ox <= cx + 1; ox++) {
+                    if (ox < 0 || oy < 0 || ox >= clustersX || oy >= clustersY) continue;
+                    int neighbor = oy * clustersX + ox;
+                    entranceClusters[neighbor] = true;
+                    // Fronteiras pertencem ao cluster de oeste/sul, por isso só os donos c, W, S e SW
+                    if (ox <= cx && oy <= cy) borderOwners[neighbor] = true;
+                }
+            }
+        }
+
+        for (int c = 0; c < count; c++) {
+            if (borderOwners[c]) computeTransitions(c);
+        }
+
+        IntArray entrances = new IntArray();
+        for (int c = 0; c < count; c++) {
+            if (!entranceClusters[c]) continue;
+            Cluster cluster = clusters[c];
+            collectEntrances(c, entrances);
+            boolean sameEntrances = entrances.equals(cluster.entrances);
+            if (!sameEntrances) {
+                IntArray swap = cluster.entrances;
+                cluster.entrances = entrances;
+                entrances = swap;
+            }
+            if (changed[c] || !sameEntrances) computeDistances(cluster, engine);
+        }
+
+        reindex();
+        rebuildCount++;
+    }
+
+    // Calcula as passagens das três fronteiras que pertencem ao cluster
+    private void computeTransitions(int c) {
+        Cluster cluster = clusters[c];
+        int cx = c % clustersX, cy = c / clustersX;
+        IntArray east = eastTransitions[c];
+        IntArray north = northTransitions[c];
+        IntArray corner = cornerTransitions[c];
+        east.clear();
+        north.clear();
+        corner.clear();
+
+        if (cx + 1 < clustersX) {
+            int xa = cluster.x1 - 1, xb = cluster.x1;
+            addBorderTransitions(east, cluster.y0, cluster.y1, xa, xb, true);
+        }
+        if (cy + 1 < clustersY) {
+            int ya = cluster.y1 - 1, yb = cluster.y1;
+            addBorderTransitions(north, cluster.x0, cluster.x1, ya, yb, false);
+        }
+        if (cx + 1 < clustersX && cy + 1 < clustersY) {
+            int xa = cluster.x1 - 1, xb = cluster.x1, ya = cluster.y1 - 1, yb = cluster.y1;
+            // Passagens pelo canto que não têm alternativa ortogonal
+            if (walkable(xa, ya) && walkable(xb, yb) && !walkable(xb, ya) && !walkable(xa, yb)) {
+                corner.add(grid.index(xa, ya));
+                corner.add(grid.index(xb, yb));
+            }
+            if (walkable(xb, ya) && walkable(xa, yb) && !walkable(xa, ya) && !walkable(xb, yb)) {
+                corner.add(grid.index(xb, ya));
+                corner.add(grid.index(xa, yb));
+            }
+        }
+    }
+
+    // Percorre uma fronteira; "vertical" indica a fronteira este (linha a linha), senão a norte (coluna a coluna).
+    // a é a coordenada do lado do dono, b a do vizinho.
+    private void addBorderTransitions(IntArray out, int from, int to, int a, int b, boolean vertical) {
+        int runStart = -1;
+        for (int i = from; i <= to; i++) {
+            boolean open = i < to && crossing(a, b, i, vertical);
+            if (open && runStart < 0) runStart = i;
+            if (!open && runStart >= 0) {
+                int length = i - runStart;
+                if (length < MAX_ENTRANCE_WIDTH) {
+                    addTransition(out, a, b, runStart + length / 2, runStart + length / 2, vertical);
+                } else {
+                    addTransition(out, a, b, runStart, runStart, vertical);
+                    addTransition(out, a, b, i - 1, i - 1, vertical);
+                }
+                runStart = -1;
+            }
+        }
+
+        // Passagens diagonais ao longo da fronteira sem passagem ortogonal nas linhas envolvidas
+        for (int i = from; i + 1 < to; i++) {
+            if (side(a, i, vertical) && side(b, i + 1, vertical) && !side(b, i, vertical) && !side(a, i + 1, vertical)) {
+                addTransition(out, a, b, i, i + 1, vertical);
+            }
+            if (side(a, i + 1, vertical) && side(b, i, vertical) && !side(a, i, vertical) && !side(b, i + 1, vertical)) {
+                addTransition(out, a, b, i + 1, i, vertical);
+            }
+        }
+    }
+
+    private boolean crossing(int a, int b, int i, boolean vertical) {
+        return side(a, i, vertical) && side(b, i, vertical);
+    }
+
+    private boolean side(int across, int along, boolean vertical) {
+        return vertical ? walkable(across, along) : walkable(along, across);
+    }
+
+    private void addTransition(IntArray out, int a, int b, int alongA, int alongB, boolean vertical) {
+        out.add(vertical ? grid.index(a, alongA) : grid.index(alongA, a));
+        out.add(vertical ? grid.index(b, alongB) : grid.index(alongB, b));
+    }
+
+    // Junta, ordenadas e sem repetição, as entradas do cluster vindas das fronteiras da vizinhança
+    private void collectEntrances(int c, IntArray out) {
+        out.clear();
+        int cx = c % clustersX, cy = c / clustersX;
+        for (int oy = cy - 1; oy <= cy; oy++) {
+            for (int ox = cx - 1; ox <= cx; ox++) {
+                if (ox < 0 || oy < 0) continue;
+                int owner = oy * clustersX + ox;
+                addTilesInCluster(eastTransitions[owner], c, out);
+                addTilesInCluster(northTransitions[owner], c, out);
+                addTilesInCluster(cornerTransitions[owner], c, out);
+            }
+        }
+
+        out.sort();
+        int unique = 0;
+        for (int i = 0; i < out.size; i++) {
+            if (unique == 0 || out.items[unique - 1] != out.items[i]) out.items[unique++] = out.items[i];
+        }
+        out.size = unique;
+    }
+
+    private void addTilesInCluster(IntArray transitions, int c, IntArray out) {
+        for (int i = 0; i < transitions.size; i++) {
+            int tile = transitions.items[i];
+            if (clusterOfTile(tile) == c) out.add(tile);
+        }
+    }
+
+    // Distâncias entre todas as entradas do cluster, com buscas confinadas ao cluster
+    private void computeDistances(Cluster cluster, GridAStar engine) {
+        int n = cluster.entrances.size;
+        if (cluster.distances.length < n * n) cluster.distances = new double[n * n];
+        for (int i = 0; i < n; i++) {
+            engine.expandAll(cluster.entrances.items[i], cluster.x0, cluster.y0, cluster.x1, cluster.y1);
+            for (int j = 0; j < n; j++) {
+                cluster.distances[i * n + j] = i == j ? 0.0 : engine.getCost(cluster.entrances.items[j]);
+            }
+        }
+    }
+
+    // Atribui índices globais aos nós e monta as arestas entre clusters em formato compacto
+    private void reindex() {
+        nodeCount = 0;
+        for (int c = 0; c < clusters.length; c++) {
+            clusterOffset[c] = nodeCount;
+            nodeCount += clusters[c].entrances.size;
+        }
+        clusterOffset[clusters.length] = nodeCount;
+
+        if (nodeTile.length < nodeCount) {
+            nodeTile = new int[nodeCount];
+            nodeCluster = new int[nodeCount];
+        }
+        for (int c = 0; c < clusters.length; c++) {
+            IntArray entrances = clusters[c].entrances;
+            for (int i = 0; i < entrances.size; i++) {
+                nodeTile[clusterOffset[c] + i] = entrances.items[i];
+                nodeCluster[clusterOffset[c] + i] = c;
+            }
+        }
+
+        // Cada transição gera uma aresta em cada sentido
+        int[] degree = new int[nodeCount + 1];
+        int edgeCount = 0;
+        for (int pass = 0; pass < 2; pass++) {
+            for (int c = 0; c < clusters.length; c++) {
+                edgeCount += linkTransitions(eastTransitions[c], degree, pass);
+                edgeCount += linkTransitions(northTransitions[c], degree, pass);
+                edgeCount += linkTransitions(cornerTransitions[c], degree, pass);
+            }
+            if (pass == 0) {
+                if (interStart.length < nodeCount + 1) interStart = new int[nodeCount + 1];
+                interStart[0] = 0;
+                for (int n = 0; n < nodeCount; n++) interStart[n + 1] = interStart[n] + degree[n];
+                if (interTarget.length < edgeCount) {
+                    interTarget = new int[edgeCount];
+                    interCost = new double[edgeCount];
+                }
+                Arrays.fill(degree, 0);
+            }
+        }
+    }
+
+    // Passo 0 conta o grau de cada nó; passo 1 preenche os destinos e custos
+    private int linkTransitions(IntArray transitions, int[] degree, int pass) {
+        for (int i = 0; i < transitions.size; i += 2) {
+            int a = nodeOf(transitions.items[i]);
+            int b = nodeOf(transitions.items[i + 1]);
+            if (pass == 0) {
+                degree[a]++;
+                degree[b]++;
+            } else {
+                double cost = grid.x(nodeTile[a]) != grid.x(nodeTile[b]) && grid.y(nodeTile[a]) != grid.y(nodeTile[b])
+                    ? GridAStar.SQRT2 : 1.0;
+                int slotA = interStart[a] + degree[a]++;
+                interTarget[slotA] = b;
+                interCost[slotA] = cost;
+                int slotB = interStart[b] + degree[b]++;
+                interTarget[slotB] = a;
+                interCost[slotB] = cost;
+            }
+        }
+        return transitions.size;
+    }
+
+    // Índice global do nó de entrada de um tile (procura binária nas entradas do cluster)
+    int nodeOf(int tile) {
+        int c = clusterOfTile(tile);
+        IntArray entrances = clusters[c].entrances;
+        int local = Arrays.binarySearch(entrances.items, 0, entrances.size, tile);
+        return local >= 0 ? clusterOffset[c] + local : -1;
+    }
+
+    // Distância pré-calculada entre dois nós do mesmo cluster
+    double intraDistance(int nodeA, int nodeB) {
+        int c = nodeCluster[nodeA];
+        int n = clusters[c].entrances.size;
+        return clusters[c].distances[(nodeA - clusterOffset[c]) * n + (nodeB - clusterOffset[c])];
+    }
+
+    int clusterOf(int x, int y) {
+        return (y / clusterSize) * clustersX + (x / clusterSize);
+    }
+
+    int clusterOfTile(int tile) {
+        return clusterOf(grid.x(tile), grid.y(tile));
+    }
+
+    private boolean walkable(int x, int y) {
+        return grid.isWalkable(x, y);
+    }
+
+    // Número de nós do grafo abstrato (métrica)
+    public int getNodeCount() { return nodeCount; }
+
+    // Número de reconstruções feitas, incluindo a inicial (métrica)
+    public int getRebuildCount() { return rebuildCount; }
+
+    public NavGrid getGrid() { return grid; }
+}
@@ -0,0 +1,230 @@
+package com.badlogic.UniverseConqueror.Pathfinding;
+
+import com.badlogic.UniverseConqueror.Interfaces.WalkabilityListener;
+import com.badlogic.gdx.utils.IntArray;
+
+import java.util.Arrays;
+
+// Planeador incremental D* Lite sobre a NavGrid, com as regras de movimento do GridAStar.
+// A busca tem raiz no destino (g = custo até ao destino), por isso o início pode avançar sem
+// trabalho extra (só acumula km). Quando um tile muda de caminhabilidade, só os vizinhos são
+// reavaliados; quando o destino muda de tile, a raiz passa para o novo tile (MT-D* Lite básico)
+// e a busca repara apenas os valores afetados. Uma instância por caminho seguido; usar na thread do ECS.
+public class DStarLite implements WalkabilityListener {
+
+    private static final double INFINITY = Double.POSITIVE_INFINITY;
+
+    // Custos em micro-tiles inteiros (√2 arredondado à sexta casa). As somas ficam exatas em double,
+    // por isso os empates de chave (frequentes em terreno aberto) comparam bem e a busca não para cedo
+    private static final double STRAIGHT = 1_000_000.0;
+    private static final double DIAGONAL = 1_414_214.0;
+
+    private final NavGrid grid;
+    private final int width;
+    private final double[] g;
+    private final double[] rhs;
+    private final IndexedMinHeap open;
+
+    private int start = -1;
+    private int goal = -1;
+    private int lastStart = -1;
+    private int pendingGoal = -1;
+    private double km;
+    private boolean initialized;
+
+    // Tiles alterados desde o último plan()
+    private final IntArray changedTiles = new IntArray();
+    private int expandedCount;
+
+    // Construtor que reserva o estado da busca e passa a observar a grelha
+    public DStarLite(NavGrid grid) {
+        this.grid = grid;
+        this.width = grid.getWidth();
+        int size = grid.size();
+        g = new double[size];
+        rhs = new double[size];
+        open = new IndexedMinHeap(size);
+        grid.addListener(this);
+    }
+
+    // Começa um planeamento novo (descarta o estado anterior)
+    public void reset(int start, int goal) {
+        Arrays.fill(g, INFINITY);
+        Arrays.fill(rhs, INFINITY);
+        open.clear();
+        changedTiles.clear();
+        km = 0.0;
+        this.start = start;
+        this.lastStart = start;
+        this.goal = goal;
+        this.pendingGoal = -1;
+
+        rhs[goal] = 0.0;
+        open.push(goal, heuristic(start, goal), 0.0);
+        initialized = true;
+    }
+
+    // A entidade que segue o caminho mudou de tile
+    public void setStart(int tile) {
+        start = tile;
+    }
+
+    // O alvo mudou de tile; aplicado no próximo plan()
+    public void setGoal(int tile) {
+        pendingGoal = tile == goal ? -1 : tile;
+    }
+
+    // Repara a busca com as alterações pendentes e escreve em out o caminho de start até goal
+    // (sem o início, com o destino). Devolve false se não houver caminho.
+    public boolean plan(IntArray out) {
+        out.clear();
+        if (!initialized) return false;
+
+        // Os valores de chave já na fila ficam relativos ao início antigo; km compensa a deslocação
+        if (start != lastStart) {
+            km += heuristic(lastStart, start);
+            lastStart = start;
+        }
+
+        if (pendingGoal >= 0) {
+            int oldGoal = goal;
+            goal = pendingGoal;
+            pendingGoal = -1;
+            updateVertex(oldGoal);
+            rhs[goal] = 0.0;
+            updateVertex(goal);
+        }
+
+        for (int i = 0; i < changedTiles.size; i++) {
+            int tile = changedTiles.items[i];
+            updateVertex(tile);
+            updateNeighbors(tile);
+        }
+        changedTiles.clear();
+
+        if (start == goal) return true;
+        computeShortestPath();
+        return extractPath(out);
+    }
+
+    @Override
+    public void onWalkabilityChanged(int x, int y, boolean walkable) {
+        if (initialized) changedTiles.add(grid.index(x, y));
+    }
+
+    // Deixa de observar a grelha
+    public void dispose() {
+        grid.removeListener(this);
+    }
+
+    private void computeShortestPath() {
+        while (!open.isEmpty()) {
+            double startKey = key1(start), startTie = key2(start);
+            double topKey = open.peekKey(), topTie = open.peekTie();
+            boolean startSettled = topKey > startKey || (topKey == startKey && topTie >= startTie);
+            if (startSettled && rhs[start] == g[start]) break;
+
+            int u = open.peek();
+            double newKey = key1(u), newTie = key2(u);
+            if (topKey < newKey || (topKey == newKey && topTie < newTie)) {
+                // Chave desatualizada por causa de km: reinsere com o valor atual
+                open.push(u, newKey, newTie);
+                continue;
+            }
+
+            open.pop();
+            expandedCount++;
+            // Um tile bloqueado não é sucessor de ninguém, por isso o seu g não afeta os vizinhos
+            boolean walkable = grid.isWalkable(u);
+            if (g[u] > rhs[u]) {
+                g[u] = rhs[u];
+                if (walkable) updateNeighbors(u);
+            } else {
+                g[u] = INFINITY;
+                updateVertex(u);
+                if (walkable) updateNeighbors(u);
+            }
+        }
+    }
+
+    // Segue o gradiente de g a partir do início
+    private boolean extractPath(IntArray out) {
+        if (g[start] == INFINITY) return false;
+
+        int current = start;
+        int limit = grid.size();
+        while (current != goal) {
+            int cx = current % width, cy = current / width;
+            int best = -1;
+            double bestCost = INFINITY;
+            for (int d = 0; d < 8; d++) {
+                int nx = cx + GridAStar.DX[d], ny = cy + GridAStar.DY[d];
+                if (!grid.isWalkable(nx, ny)) continue;
+                int next = ny * width + nx;
+                double cost = (d < 4 ? STRAIGHT : DIAGONAL) + g[next];
+                if (cost < bestCost) {
+                    bestCost = cost;
+                    best = next;
+                }
+            }
+            if (best < 0 || bestCost == INFINITY || --limit < 0) {
+                out.clear();
+                return false;
+            }
+            out.add(best);
+            current = best;
+        }
+        return true;
+    }
+
+    // Recalcula rhs a partir dos sucessores e acerta a presença do tile na fila
+    private void updateVertex(int u) {
+        if (u != goal) {
+            int ux = u % width, uy = u / width;
+            double best = INFINITY;
+            for (int d = 0; d < 8; d++) {
+                int nx = ux + GridAStar.DX[d], ny = uy + GridAStar.DY[d];
+                if (!grid.isWalkable(nx, ny)) continue;
+                double cost = (d < 4 ? STRAIGHT : DIAGONAL) + g[ny * width + nx];
+                if (cost < best) best = cost;
+            }
+            rhs[u] = best;
+        }
+
+        if (g[u] != rhs[u]) open.push(u, key1(u), key2(u));
+        else open.remove(u);
+    }
+
+    // Reavalia os vizinhos de u, que o têm como sucessor quando u é caminhável
+    private void updateNeighbors(int u) {
+        int ux = u % width, uy = u / width;
+        for (int d = 0; d < 8; d++) {
+            int nx = ux + GridAStar.DX[d], ny = uy + GridAStar.DY[d];
+            if (grid.inBounds(nx, ny)) updateVertex(ny * width + nx);
+        }
+    }
+
+    private double key1(int u) {
+        return Math.min(g[u], rhs[u]) + heuristic(start, u) + km;
+    }
+
+    private double key2(int u) {
+        return Math.min(g[u], rhs[u]);
+    }
+
+    // Distância octil nas mesmas unidades inteiras dos custos
+    private double heuristic(int a, int b) {
+        int dx = Math.abs(a % width - b % width);
+        int dy = Math.abs(a / width - b / width);
+        return STRAIGHT * Math.max(dx, dy) + (DIAGONAL - STRAIGHT) * Math.min(dx, dy);
+    }
+
+    public int getStart() { return start; }
+
+    public int getGoal() { return pendingGoal >= 0 ? pendingGoal : goal; }
+
+    // Nós expandidos desde a criação (métrica de custo das reparações)
+    public int getExpandedCount() { return expandedCount; }
+
+    public NavGrid getGrid() { return grid; }
+}
@@ -0,0 +1,112 @@
+package com.badlogic.UniverseConqueror.Pathfinding;
+
+import java.util.Arrays;
+
+// Campo de fluxo sobre a NavGrid: um Dijkstra a partir do alvo guarda, para cada tile, a distância
+// até ao alvo e a direção do próximo passo. Qualquer número de entidades consulta o campo em O(1).
+// Os tiles bloqueados vizinhos de tiles alcançados também recebem direção, para que uma entidade
+// encostada a uma parede consiga sair dela.
+// Cada reconstrução só toca nos tiles que alcança: distância e direção de um tile só valem se o seu carimbo
+// for o da geração atual, por isso não é preciso limpar os arrays inteiros entre reconstruções.
+public class FlowField {
+
+    // Direção oposta a cada uma das oito direções do GridAStar
+    private static final int[] OPPOSITE = {2, 3, 0, 1, 7, 6, 5, 4};
+    private static final byte NO_DIRECTION = -1;
+
+    private final NavGrid grid;
+    private final float[] distance;
+    private final byte[] direction;
+    private final int[] reached;
+    private final IndexedMinHeap open;
+    private int generation;
+
+    private int target = -1;
+    private int builtVersion = -1;
+    private int buildCount;
+
+    // Construtor que reserva os arrays para o tamanho da grelha
+    public FlowField(NavGrid grid) {
+        this.grid = grid;
+        int size = grid.size();
+        distance = new float[size];
+        direction = new byte[size];
+        reached = new int[size];
+        open = new IndexedMinHeap(size);
+    }
+
+    // Recalcula o campo em direção ao tile alvo
+    public void build(int targetTile) {
+        open.clear();
+        generation++;
+        if (generation == Integer.MAX_VALUE) {
+            Arrays.fill(reached, 0);
+            generation = 1;
+        }
+
+        int width = grid.getWidth(), height = grid.getHeight();
+        target = targetTile;
+        builtVersion = grid.getVersion();
+        buildCount++;
+
+        distance[targetTile] = 0f;
+        direction[targetTile] = NO_DIRECTION;
+        reached[targetTile] = generation;
+        open.push(targetTile, 0.0, 0.0);
+
+        while (!open.isEmpty()) {
+            int current = open.pop();
+
+            // Tiles bloqueados só recebem direção; não propagam o campo (exceto o próprio alvo)
+            if (current != targetTile && !grid.isWalkable(current)) continue;
+
+            int cx = current % width, cy = current / width;
+            float currentDistance = distance[current];
+
+            for (int d = 0; d < 8; d++) {
+                int nx = cx + GridAStar.DX[d], ny = cy + GridAStar.DY[d];
+                if (nx < 0 || ny < 0 || nx >= width || ny >= height) continue;
+
+                // Um tile já fechado tem distância menor ou igual à atual, por isso nunca melhora aqui
+                int neighbor = ny * width + nx;
+                float newDistance = currentDistance + (d < 4 ? 1f : (float) GridAStar.SQRT2);
+                if (reached[neighbor] != generation || newDistance < distance[neighbor]) {
+                    reached[neighbor] = generation;
+                    distance[neighbor] = newDistance;
+                    // O vizinho anda no sentido contrário ao da expansão
+                    direction[neighbor] = (byte) OPPOSITE[d];
+                    open.push(neighbor, newDistance, 0.0);
+                }
+            }
+        }
+    }
+
+    // Verdadeiro se o campo ainda não foi construído para este alvo ou se a grelha mudou desde então
+    public boolean needsRebuild(int targetTile) {
+        return targetTile != target || builtVersion != grid.getVersion();
+    }
+
+    // Próximo tile a partir do tile dado, ou -1 se for o alvo ou não houver caminho
+    public int getNextTile(int tile) {
+        if (!isReached(tile)) return -1;
+        byte d = direction[tile];
+        if (d == NO_DIRECTION) return -1;
+        return grid.index(grid.x(tile) + GridAStar.DX[d], grid.y(tile) + GridAStar.DY[d]);
+    }
+
+    // Distância até ao alvo (custo 1 e √2), ou infinito se o tile não alcança o alvo
+    public float getDistance(int tile) {
+        return isReached(tile) ? distance[tile] : Float.POSITIVE_INFINITY;
+    }
+
+    // Verdadeiro se a última reconstrução chegou ao tile (antes da primeira, nenhum tile foi alcançado)
+    private boolean isReached(int tile) {
+        return generation != 0 && reached[tile] == generation;
+    }
+
+    public int getTarget() { return target; }
+
+    public int getBuildCount() { return buildCount; }
+
+    public NavGrid getGrid() { return grid; }
+}
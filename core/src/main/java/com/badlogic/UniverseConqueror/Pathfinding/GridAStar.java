@@ -0,0 +1,146 @@
+package com.badlogic.UniverseConqueror.Pathfinding;
+
+import com.badlogic.UniverseConqueror.Interfaces.GridPathfinder;
+import com.badlogic.gdx.utils.IntArray;
+
+import java.util.Arrays;
+
+// Motor A* sobre índices de tiles da NavGrid.
+// Custos e pais ficam em arrays planos marcados por geração, por isso não há limpeza entre buscas
+// e cada consulta não aloca memória (exceto o crescimento eventual do IntArray de saída).
+public class GridAStar implements GridPathfinder {
+    static final double SQRT2 = Math.sqrt(2.0);
+
+    // Oito direções: primeiro as ortogonais, depois as diagonais
+    static final int[] DX = {0, 1, 0, -1, 1, 1, -1, -1};
+    static final int[] DY = {1, 0, -1, 0, 1, -1, 1, -1};
+
+    private final NavGrid grid;
+    private final double[] gCost;
+    private final int[] parent;
+    private final int[] visited;
+    private final int[] closed;
+    private final IndexedMinHeap open;
+    private int generation;
+    private int expandedCount;
+
+    // Construtor que reserva os arrays de trabalho para o tamanho da grelha
+    public GridAStar(NavGrid grid) {
+        this.grid = grid;
+        int size = grid.size();
+        gCost = new double[size];
+        parent = new int[size];
+        visited = new int[size];
+        closed = new int[size];
+        open = new IndexedMinHeap(size);
+    }
+
+    // Procura o caminho de start até goal (índices de tile).
+    // O resultado em out exclui o início e inclui o destino; devolve false se não houver caminho.
+    @Override
+    public boolean findPath(int start, int goal, IntArray out) {
+        return findPath(start, goal, 0, 0, grid.getWidth(), grid.getHeight(), out);
+    }
+
+    // Igual a findPath, mas a busca fica limitada ao retângulo [minX, maxX) x [minY, maxY)
+    public boolean findPath(int start, int goal, int minX, int minY, int maxX, int maxY, IntArray out) {
+        out.clear();
+        if (start == goal) return true;
+        if (!grid.isWalkable(goal)) return false;
+
+        if (search(start, goal, minX, minY, maxX, maxY)) {
+            retracePath(start, goal, out);
+            return true;
+        }
+        // Se não encontrar caminho, o resultado fica vazio
+        return false;
+    }
+
+    // Dijkstra a partir de source dentro do retângulo, sem destino; os custos ficam disponíveis em getCost
+    public void expandAll(int source, int minX, int minY, int maxX, int maxY) {
+        search(source, -1, minX, minY, maxX, maxY);
+    }
+
+    // Custo da última busca até ao tile, ou infinito se não foi alcançado
+    public double getCost(int index) {
+        return visited[index] == generation ? gCost[index] : Double.POSITIVE_INFINITY;
+    }
+
+    // Núcleo do A*; com goal negativo a heurística é zero e a busca esgota a região
+    private boolean search(int start, int goal, int minX, int minY, int maxX, int maxY) {
+        nextGeneration();
+        int width = grid.getWidth();
+        boolean hasGoal = goal >= 0;
+        int goalX = hasGoal ? grid.x(goal) : 0, goalY = hasGoal ? grid.y(goal) : 0;
+
+        visit(start, 0.0, -1);
+        open.push(start, hasGoal ? heuristic(grid.x(start), grid.y(start), goalX, goalY) : 0.0, 0.0);
+
+        // Enquanto houver nós para explorar
+        while (!open.isEmpty()) {
+            int current = open.pop();
+            if (current == goal) return true;
+            closed[current] = generation;
+            expandedCount++;
+
+            int cx = current % width, cy = current / width;
+            double currentCost = gCost[current];
+
+            for (int d = 0; d < 8; d++) {
+                int nx = cx + DX[d], ny = cy + DY[d];
+                if (nx < minX || ny < minY || nx >= maxX || ny >= maxY) continue;
+                if (!grid.isWalkable(nx, ny)) continue;
+
+                int neighbor = ny * width + nx;
+                if (closed[neighbor] == generation) continue;
+
+                double newCost = currentCost + (d < 4 ? 1.0 : SQRT2);
+                if (visited[neighbor] != generation || newCost < gCost[neighbor]) {
+                    visit(neighbor, newCost, current);
+                    double h = hasGoal ? heuristic(nx, ny, goalX, goalY) : 0.0;
+                    open.push(neighbor, newCost + h, h);
+                }
+            }
+        }
+        return false;
+    }
+
+    // Número de nós expandidos desde a criação (métrica para benchmarks)
+    public int getExpandedCount() { return expandedCount; }
+
+    public NavGrid getGrid() { return grid; }
+
+    // Distância octil: admissível e exata num mapa aberto com custo 1 e √2
+    static double heuristic(int x, int y, int goalX, int goalY) {
+        int dx = Math.abs(x - goalX);
+        int dy = Math.abs(y - goalY);
+        return Math.max(dx, dy) + (SQRT2 - 1.0) * Math.min(dx, dy);
+    }
+
+    private void visit(int index, double cost, int from) {
+        visited[index] = generation;
+        gCost[index] = cost;
+        parent[index] = from;
+    }
+
+    // Avança a geração; na volta do contador os carimbos são reiniciados
+    private void nextGeneration() {
+        open.clear();
+        generation++;
+        if (generation == Integer.MAX_VALUE) {
+            Arrays.fill(visited, 0);
+            Arrays.fill(closed, 0);
+            generation = 1;
+        }
+    }
+
+    // Reconstrói o caminho do destino ao início, invertendo no próprio IntArray
+    private void retracePath(int start, int goal, IntArray out) {
+        int current = goal;
+        while (current != start) {
+            out.add(current);
+            current = parent[current];
+        }
+        out.reverse();
+    }
+}
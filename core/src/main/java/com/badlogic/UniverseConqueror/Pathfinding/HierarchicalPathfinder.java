@@ -0,0 +1,238 @@
+package com.badlogic.UniverseConqueror.Pathfinding;
+
+import com.badlogic.UniverseConqueror.Interfaces.GridPathfinder;
+import com.badlogic.gdx.utils.IntArray;
+
+import java.util.Arrays;
+
+// HPA*: busca no grafo abstrato do ClusterGraph e refina cada segmento com A* confinado a um cluster.
+// Uma instância por thread; o ClusterGraph é partilhado.
+// findAbstractPath + refineSegment permitem refinar só os segmentos necessários à medida que a entidade avança;
+// findPath refina o caminho todo de uma vez.
+public class HierarchicalPathfinder implements GridPathfinder {
+
+    private final ClusterGraph graph;
+    private final NavGrid grid;
+    private final GridAStar local;
+    private final IntArray abstractPath = new IntArray();
+    private final IntArray segment = new IntArray();
+
+    // Estado da busca abstrata, dimensionado ao número de nós + início e destino temporários
+    private double[] gCost = new double[0];
+    private int[] parent = new int[0];
+    private int[] visited = new int[0];
+    private int[] closed = new int[0];
+    private IndexedMinHeap open = new IndexedMinHeap(0);
+    private int generation;
+
+    // Ligações temporárias: nós alcançáveis a partir do início e custos do destino até às entradas do seu cluster
+    private final IntArray startLinks = new IntArray();
+    private double[] startLinkCosts = new double[0];
+    private double[] goalCosts = new double[0];
+    private final IntArray startClusters = new IntArray(4);
+
+    public HierarchicalPathfinder(ClusterGraph graph) {
+        this.graph = graph;
+        this.grid = graph.getGrid();
+        this.local = new GridAStar(grid);
+    }
+
+    @Override
+    public boolean findPath(int start, int goal, IntArray out) {
+        out.clear();
+        if (!findAbstractPath(start, goal, abstractPath)) return false;
+
+        // A grelha pode ter mudado depois da busca abstrata: um segmento sem caminho invalida o caminho todo
+        for (int i = 0; i + 1 < abstractPath.size; i++) {
+            if (!refineSegment(abstractPath.get(i), abstractPath.get(i + 1), segment)) {
+                out.clear();
+                return false;
+            }
+            out.addAll(segment);
+        }
+        return true;
+    }
+
+    // Caminho abstrato como sequência de tiles (início, entradas, destino)
+    public boolean findAbstractPath(int start, int goal, IntArray out) {
+        out.clear();
+        if (start == goal) {
+            out.add(start);
+            return true;
+        }
+        if (!grid.isWalkable(goal)) return false;
+
+        graph.ensureUpToDate(local);
+        graph.readLock();
+        try {
+            return searchAbstract(start, goal, out);
+        } finally {
+            graph.readUnlock();
+        }
+    }
+
+    // Refina um segmento do caminho abstrato: passagem entre clusters ou A* dentro de um cluster.
+    // Devolve false se o segmento deixou de ter caminho (a grelha mudou desde a busca abstrata).
+    public boolean refineSegment(int from, int to, IntArray out) {
+        out.clear();
+        int fx = grid.x(from), fy = grid.y(from), tx = grid.x(to), ty = grid.y(to);
+        if (Math.abs(fx - tx) <= 1 && Math.abs(fy - ty) <= 1 && graph.clusterOf(fx, fy) != graph.clusterOf(tx, ty)) {
+            if (!grid.isWalkable(to)) return false;
+            out.add(to);
+            return true;
+        }
+
+        // O cluster do destino do segmento: um início bloqueado na fronteira pode sair diretamente para o vizinho
+        ClusterGraph.Cluster cluster = graph.clusters[graph.clusterOf(tx, ty)];
+        return local.findPath(from, to, cluster.x0, cluster.y0, cluster.x1, cluster.y1, out);
+    }
+
+    private boolean searchAbstract(int start, int goal, IntArray out) {
+        int nodeCount = graph.nodeCount;
+        int startNode = nodeCount, goalNode = nodeCount + 1;
+        ensureCapacity(nodeCount + 2);
+
+        int goalCluster = graph.clusterOfTile(goal);
+        goalCosts = clusterCosts(goal, graph.clusters[goalCluster], goalCosts);
+        double direct = linkStart(start, goal, goalCluster);
+
+        nextGeneration();
+        int goalX = grid.x(goal), goalY = grid.y(goal);
+        visit(startNode, 0.0, -1);
+        open.push(startNode, heuristic(start, goalX, goalY), 0.0);
+
+        while (!open.isEmpty()) {
+            int current = open.pop();
+            if (current == goalNode) {
+                retrace(start, goal, startNode, goalNode, out);
+                return true;
+            }
+            closed[current] = generation;
+            double cost = gCost[current];
+
+            if (current == startNode) {
+                for (int i = 0; i < startLinks.size; i++) relax(current, startLinks.items[i], cost + startLinkCosts[i], goalX, goalY);
+                if (direct < Double.POSITIVE_INFINITY) relax(current, goalNode, cost + direct, goalX, goalY);
+                continue;
+            }
+
+            // Arestas dentro do cluster
+            int c = graph.nodeCluster[current];
+            int offset = graph.clusterOffset[c];
+            int n = graph.clusters[c].entrances.size;
+            for (int i = 0; i < n; i++) {
+                int other = offset + i;
+                if (other == current) continue;
+                double distance = graph.intraDistance(current, other);
+                if (distance < Double.POSITIVE_INFINITY) relax(current, other, cost + distance, goalX, goalY);
+            }
+
+            // Arestas entre clusters
+            for (int e = graph.interStart[current]; e < graph.interStart[current + 1]; e++) {
+                relax(current, graph.interTarget[e], cost + graph.interCost[e], goalX, goalY);
+            }
+
+            // Ligação ao destino temporário
+            if (c == goalCluster) {
+                double toGoal = goalCosts[current - offset];
+                if (toGoal < Double.POSITIVE_INFINITY) relax(current, goalNode, cost + toGoal, goalX, goalY);
+            }
+        }
+        return false;
+    }
+
+    // Liga o início às entradas alcançáveis do seu cluster e devolve o custo direto até ao destino (ou infinito).
+    // Um início bloqueado não se move dentro do próprio cluster por tiles livres, por isso entra também nos clusters vizinhos.
+    private double linkStart(int start, int goal, int goalCluster) {
+        startLinks.clear();
+        startClusters.clear();
+        int sx = grid.x(start), sy = grid.y(start);
+        startClusters.add(graph.clusterOf(sx, sy));
+        if (!grid.isWalkable(start)) {
+            for (int d = 0; d < 8; d++) {
+                int nx = sx + GridAStar.DX[d], ny = sy + GridAStar.DY[d];
+                if (!grid.inBounds(nx, ny)) continue;
+                int c = graph.clusterOf(nx, ny);
+                if (!startClusters.contains(c)) startClusters.add(c);
+            }
+        }
+
+        double direct = Double.POSITIVE_INFINITY;
+        for (int k = 0; k < startClusters.size; k++) {
+            int c = startClusters.items[k];
+            ClusterGraph.Cluster cluster = graph.clusters[c];
+            local.expandAll(start, cluster.x0, cluster.y0, cluster.x1, cluster.y1);
+
+            int offset = graph.clusterOffset[c];
+            for (int i = 0; i < cluster.entrances.size; i++) {
+                double cost = local.getCost(cluster.entrances.items[i]);
+                if (cost == Double.POSITIVE_INFINITY) continue;
+                if (startLinkCosts.length <= startLinks.size) startLinkCosts = Arrays.copyOf(startLinkCosts, startLinks.size * 2 + 8);
+                startLinkCosts[startLinks.size] = cost;
+                startLinks.add(offset + i);
+            }
+            if (c == goalCluster) direct = Math.min(direct, local.getCost(goal));
+        }
+        return direct;
+    }
+
+    // Dijkstra confinado ao cluster a partir do tile; custo até cada entrada (infinito se inalcançável)
+    private double[] clusterCosts(int tile, ClusterGraph.Cluster cluster, double[] costs) {
+        int n = cluster.entrances.size;
+        if (costs.length < n) costs = new double[n];
+        local.expandAll(tile, cluster.x0, cluster.y0, cluster.x1, cluster.y1);
+        for (int i = 0; i < n; i++) costs[i] = local.getCost(cluster.entrances.items[i]);
+        return costs;
+    }
+
+    private void relax(int from, int to, double newCost, int goalX, int goalY) {
+        if (closed[to] == generation) return;
+        if (visited[to] != generation || newCost < gCost[to]) {
+            visit(to, newCost, from);
+            double h = to == graph.nodeCount + 1 ? 0.0 : heuristic(graph.nodeTile[to], goalX, goalY);
+            open.push(to, newCost + h, h);
+        }
+    }
+
+    private double heuristic(int tile, int goalX, int goalY) {
+        return GridAStar.heuristic(grid.x(tile), grid.y(tile), goalX, goalY);
+    }
+
+    private void retrace(int start, int goal, int startNode, int goalNode, IntArray out) {
+        int current = goalNode;
+        while (current != startNode) {
+            out.add(current == goalNode ? goal : graph.nodeTile[current]);
+            current = parent[current];
+        }
+        out.add(start);
+        out.reverse();
+    }
+
+    private void visit(int node, double cost, int from) {
+        visited[node] = generation;
+        gCost[node] = cost;
+        parent[node] = from;
+    }
+
+    private void nextGeneration() {
+        open.clear();
+        generation++;
+        if (generation == Integer.MAX_VALUE) {
+            Arrays.fill(visited, 0);
+            Arrays.fill(closed, 0);
+            generation = 1;
+        }
+    }
+
+    // O grafo pode crescer depois de uma reconstrução; os arrays acompanham
+    private void ensureCapacity(int size) {
+        if (gCost.length >= size) return;
+        int capacity = Math.max(size, gCost.length * 3 / 2);
+        gCost = new double[capacity];
+        parent = new int[capacity];
+        visited = new int[capacity];
+        closed = new int[capacity];
+        open = new IndexedMinHeap(capacity);
+        generation = 0;
+    }
+}
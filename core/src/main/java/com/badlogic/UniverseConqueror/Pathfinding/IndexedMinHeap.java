@@ -0,0 +1,138 @@
+package com.badlogic.UniverseConqueror.Pathfinding;
+
+import java.util.Arrays;
+
+// Heap binária mínima de índices inteiros com posição indexada, permitindo decrease-key em O(log n).
+// A prioridade é um par (key, tie): compara-se primeiro key e, em caso de empate, tie.
+public class IndexedMinHeap {
+    private final int[] heap;
+    private final int[] position;
+    private final double[] key;
+    private final double[] tie;
+    private int size;
+
+    // Construtor que reserva espaço para itens no intervalo [0, capacity)
+    public IndexedMinHeap(int capacity) {
+        heap = new int[capacity];
+        position = new int[capacity];
+        key = new double[capacity];
+        tie = new double[capacity];
+        Arrays.fill(position, -1);
+    }
+
+    // Esvazia a heap em O(size), sem percorrer toda a capacidade
+    public void clear() {
+        for (int i = 0; i < size; i++) {
+            position[heap[i]] = -1;
+        }
+        size = 0;
+    }
+
+    public boolean isEmpty() { return size == 0; }
+
+    public int size() { return size; }
+
+    // Verifica se o item está atualmente na heap
+    public boolean contains(int item) {
+        return position[item] >= 0;
+    }
+
+    // Insere o item ou atualiza a sua prioridade (para cima ou para baixo)
+    public void push(int item, double itemKey, double itemTie) {
+        int pos = position[item];
+        if (pos < 0) {
+            pos = size++;
+            heap[pos] = item;
+            position[item] = pos;
+            key[item] = itemKey;
+            tie[item] = itemTie;
+            siftUp(pos);
+            return;
+        }
+
+        boolean decreased = less(itemKey, itemTie, key[item], tie[item]);
+        key[item] = itemKey;
+        tie[item] = itemTie;
+        if (decreased) siftUp(pos);
+        else siftDown(pos);
+    }
+
+    // Remove e devolve o item com menor prioridade
+    public int pop() {
+        int top = heap[0];
+        removeAt(0);
+        return top;
+    }
+
+    // Item com menor prioridade, sem o remover
+    public int peek() {
+        return heap[0];
+    }
+
+    // Prioridade principal do topo da heap
+    public double peekKey() {
+        return key[heap[0]];
+    }
+
+    // Prioridade de desempate do topo da heap
+    public double peekTie() {
+        return tie[heap[0]];
+    }
+
+    // Remove um item arbitrário, se presente
+    public void remove(int item) {
+        int pos = position[item];
+        if (pos >= 0) removeAt(pos);
+    }
+
+    private void removeAt(int pos) {
+        int removed = heap[pos];
+        position[removed] = -1;
+        size--;
+        if (pos == size) return;
+
+        int last = heap[size];
+        heap[pos] = last;
+        position[last] = pos;
+        if (pos > 0 && lessItem(last, heap[(pos - 1) >> 1])) siftUp(pos);
+        else siftDown(pos);
+    }
+
+    private void siftUp(int pos) {
+        int item = heap[pos];
+        while (pos > 0) {
+            int parentPos = (pos - 1) >> 1;
+            int parent = heap[parentPos];
+            if (!lessItem(item, parent)) break;
+            heap[pos] = parent;
+            position[parent] = pos;
+            pos = parentPos;
+        }
+        heap[pos] = item;
+        position[item] = pos;
+    }
+
+    private void siftDown(int pos) {
+        int item = heap[pos];
+        int half = size >> 1;
+        while (pos < half) {
+            int child = (pos << 1) + 1;
+            int right = child + 1;
+            if (right < size && lessItem(heap[right], heap[child])) child = right;
+            if (!lessItem(heap[child], item)) break;
+            heap[pos] = heap[child];
+            position[heap[pos]] = pos;
+            pos = child;
+        }
+        heap[pos] = item;
+        position[item] = pos;
+    }
+
+    private boolean lessItem(int a, int b) {
+        return less(key[a], tie[a], key[b], tie[b]);
+    }
+
+    private static boolean less(double keyA, double tieA, double keyB, double tieB) {
+        return keyA < keyB || (keyA == keyB && tieA < tieB);
+    }
+}
@@ -0,0 +1,189 @@
+package com.badlogic.UniverseConqueror.Pathfinding;
+
+import com.badlogic.UniverseConqueror.Interfaces.GridPathfinder;
+import com.badlogic.gdx.utils.IntArray;
+
+import java.util.Arrays;
+
+// Jump Point Search sobre a NavGrid, com as mesmas regras de movimento do GridAStar
+// (8 direções, custo 1 e √2, diagonais permitidas junto a cantos bloqueados).
+// Só os pontos de salto entram na lista aberta; o caminho final é expandido tile a tile,
+// por isso o resultado tem o mesmo comprimento que o do A*.
+public class JumpPointSearch implements GridPathfinder {
+
+    private final NavGrid grid;
+    private final int width;
+    private final double[] gCost;
+    private final int[] parent;
+    private final int[] visited;
+    private final int[] closed;
+    private final IndexedMinHeap open;
+    private int generation;
+    private int expandedCount;
+
+    // Construtor que reserva os arrays de trabalho para o tamanho da grelha
+    public JumpPointSearch(NavGrid grid) {
+        this.grid = grid;
+        this.width = grid.getWidth();
+        int size = grid.size();
+        gCost = new double[size];
+        parent = new int[size];
+        visited = new int[size];
+        closed = new int[size];
+        open = new IndexedMinHeap(size);
+    }
+
+    @Override
+    public boolean findPath(int start, int goal, IntArray out) {
+        out.clear();
+        if (start == goal) return true;
+        if (!grid.isWalkable(goal)) return false;
+
+        nextGeneration();
+        int goalX = grid.x(goal), goalY = grid.y(goal);
+
+        visit(start, 0.0, -1);
+        open.push(start, GridAStar.heuristic(grid.x(start), grid.y(start), goalX, goalY), 0.0);
+
+        while (!open.isEmpty()) {
+            int current = open.pop();
+            if (current == goal) {
+                expandPath(start, goal, out);
+                return true;
+            }
+            closed[current] = generation;
+            expandedCount++;
+
+            int cx = current % width, cy = current / width;
+            int from = parent[current];
+
+            if (from < 0) {
+                // Nó inicial: todas as direções são candidatas
+                for (int d = 0; d < 8; d++) {
+                    tryJump(current, cx, cy, GridAStar.DX[d], GridAStar.DY[d], goal, goalX, goalY);
+                }
+                continue;
+            }
+
+            int dx = Integer.signum(cx - from % width);
+            int dy = Integer.signum(cy - from / width);
+
+            if (dx != 0 && dy != 0) {
+                // Vizinhos naturais da diagonal
+                tryJump(current, cx, cy, dx, 0, goal, goalX, goalY);
+                tryJump(current, cx, cy, 0, dy, goal, goalX, goalY);
+                tryJump(current, cx, cy, dx, dy, goal, goalX, goalY);
+                // Vizinhos forçados
+                if (!walkable(cx - dx, cy)) tryJump(current, cx, cy, -dx, dy, goal, goalX, goalY);
+                if (!walkable(cx, cy - dy)) tryJump(current, cx, cy, dx, -dy, goal, goalX, goalY);
+            } else if (dx != 0) {
+                tryJump(current, cx, cy, dx, 0, goal, goalX, goalY);
+                if (!walkable(cx, cy + 1)) tryJump(current, cx, cy, dx, 1, goal, goalX, goalY);
+                if (!walkable(cx, cy - 1)) tryJump(current, cx, cy, dx, -1, goal, goalX, goalY);
+            } else {
+                tryJump(current, cx, cy, 0, dy, goal, goalX, goalY);
+                if (!walkable(cx + 1, cy)) tryJump(current, cx, cy, 1, dy, goal, goalX, goalY);
+                if (!walkable(cx - 1, cy)) tryJump(current, cx, cy, -1, dy, goal, goalX, goalY);
+            }
+        }
+
+        return false;
+    }
+
+    // Salta na direção dada e, se encontrar um ponto de salto, atualiza-o na lista aberta
+    private void tryJump(int current, int cx, int cy, int dx, int dy, int goal, int goalX, int goalY) {
+        int jumpPoint = (dx != 0 && dy != 0) ? jumpDiagonal(cx, cy, dx, dy, goal) : jumpStraight(cx, cy, dx, dy, goal);
+        if (jumpPoint < 0 || closed[jumpPoint] == generation) return;
+
+        int jx = jumpPoint % width, jy = jumpPoint / width;
+        int steps = Math.max(Math.abs(jx - cx), Math.abs(jy - cy));
+        double newCost = gCost[current] + steps * (dx != 0 && dy != 0 ? GridAStar.SQRT2 : 1.0);
+
+        if (visited[jumpPoint] != generation || newCost < gCost[jumpPoint]) {
+            visit(jumpPoint, newCost, current);
+            double h = GridAStar.heuristic(jx, jy, goalX, goalY);
+            open.push(jumpPoint, newCost + h, h);
+        }
+    }
+
+    // Avança em linha reta até encontrar o destino, um vizinho forçado ou um bloqueio
+    private int jumpStraight(int x, int y, int dx, int dy, int goal) {
+        while (true) {
+            x += dx;
+            y += dy;
+            if (!walkable(x, y)) return -1;
+
+            int index = y * width + x;
+            if (index == goal) return index;
+
+            if (dx != 0) {
+                if ((walkable(x + dx, y + 1) && !walkable(x, y + 1))
+                    || (walkable(x + dx, y - 1) && !walkable(x, y - 1))) return index;
+            } else {
+                if ((walkable(x + 1, y + dy) && !walkable(x + 1, y))
+                    || (walkable(x - 1, y + dy) && !walkable(x - 1, y))) return index;
+            }
+        }
+    }
+
+    // Avança na diagonal; cada tile também lança saltos retos nas duas componentes
+    private int jumpDiagonal(int x, int y, int dx, int dy, int goal) {
+        while (true) {
+            x += dx;
+            y += dy;
+            if (!walkable(x, y)) return -1;
+
+            int index = y * width + x;
+            if (index == goal) return index;
+
+            if ((walkable(x - dx, y + dy) && !walkable(x - dx, y))
+                || (walkable(x + dx, y - dy) && !walkable(x, y - dy))) return index;
+
+            if (jumpStraight(x, y, dx, 0, goal) >= 0 || jumpStraight(x, y, 0, dy, goal) >= 0) return index;
+        }
+    }
+
+    // Número de pontos de salto expandidos desde a criação (métrica para benchmarks)
+    public int getExpandedCount() { return expandedCount; }
+
+    private boolean walkable(int x, int y) {
+        return grid.isWalkable(x, y);
+    }
+
+    private void visit(int index, double cost, int from) {
+        visited[index] = generation;
+        gCost[index] = cost;
+        parent[index] = from;
+    }
+
+    // Avança a geração; na volta do contador os carimbos são reiniciados
+    private void nextGeneration() {
+        open.clear();
+        generation++;
+        if (generation == Integer.MAX_VALUE) {
+            Arrays.fill(visited, 0);
+            Arrays.fill(closed, 0);
+            generation = 1;
+        }
+    }
+
+    // Reconstrói o caminho entre pontos de salto e preenche os tiles intermédios
+    private void expandPath(int start, int goal, IntArray out) {
+        int current = goal;
+        while (current != start) {
+            int from = parent[current];
+            int fx = from % width, fy = from / width;
+            int x = current % width, y = current / width;
+            int dx = Integer.signum(fx - x), dy = Integer.signum(fy - y);
+
+            // Percorre o segmento do ponto atual para trás até ao ponto anterior (exclusivo)
+            while (x != fx || y != fy) {
+                out.add(y * width + x);
+                x += dx;
+                y += dy;
+            }
+            current = from;
+        }
+        out.reverse();
+    }
+}
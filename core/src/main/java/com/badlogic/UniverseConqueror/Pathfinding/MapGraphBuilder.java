@@ -9,6 +9,8 @@ public class MapGraphBuilder {
     private final int tileWidth, tileHeight;
     private final int width, height;
     public final Node[][] nodes;
+    private NavGrid navGrid;
+    private ReachabilityIndex reachability;
 
     private final float originX, originY;
 
@@ -45,31 +47,56 @@ public class MapGraphBuilder {
                 nodes[x][y] = new Node(x, y, walkable);
             }
         }
+        navGrid = NavGrid.fromNodes(nodes);
+        reachability = new ReachabilityIndex(navGrid);
     }
 
-    // Retorna um nó aleatório que seja caminhável
+    // Grelha plana partilhada pelos motores de busca
+    public NavGrid getNavGrid() { return navGrid; }
+
+    // Componentes conexas e lista de tiles caminháveis da grelha
+    public ReachabilityIndex getReachability() { return reachability; }
+
+    // Altera a caminhabilidade de um tile mantendo nós e grelha sincronizados
+    public void setWalkable(int x, int y, boolean walkable) {
+        Node node = getNode(x, y);
+        if (node == null) return;
+        node.walkable = walkable;
+        navGrid.setWalkable(x, y, walkable);
+    }
+
+    // Retorna um nó aleatório que seja caminhável (null só se o mapa não tiver nenhum)
     public Node getRandomWalkableNode() {
-        int width = getWidth();
-        int height = getHeight();
-
-        for (int attempts = 0; attempts < 100; attempts++) {
-            int x = (int)(Math.random() * width);
-            int y = (int)(Math.random() * height);
-            Node node = nodes[x][y];
-            if (node.walkable) return node;
-        }
-        return null;
+        return nodeAtTile(reachability.randomWalkableTile());
+    }
+
+    // Retorna um nó aleatório alcançável a partir da posição mundo (por exemplo, a do jogador).
+    // Se a posição estiver fora do mapa ou cercada de tiles bloqueados, usa a maior região caminhável.
+    public Node getRandomReachableNode(Vector2 worldPosition) {
+        int tile = toTileIndex(worldPosition.x, worldPosition.y);
+        int component = tile >= 0 ? reachability.getComponent(tile) : -1;
+        if (component < 0) component = reachability.getLargestComponent();
+        return nodeAtTile(reachability.randomTileInComponent(component));
+    }
+
+    private Node nodeAtTile(int tile) {
+        return tile >= 0 ? nodes[navGrid.x(tile)][navGrid.y(tile)] : null;
     }
 
     // Converte um nó para posição mundo no sistema isométrico, aplicando ajuste para o centro do tile
     public Vector2 toWorldPosition(Node node) {
-        int rotatedX = node.y;
-        int rotatedY = width - 1 - node.x;
+        return toWorldPosition(node.x, node.y, new Vector2());
+    }
+
+    // Converte coordenadas de tile para posição mundo, escrevendo em out
+    public Vector2 toWorldPosition(int x, int y, Vector2 out) {
+        int rotatedX = y;
+        int rotatedY = width - 1 - x;
 
         float worldX = (rotatedX - rotatedY) * tileWidth / 2f + originX;
         float worldY = (rotatedX + rotatedY) * tileHeight / 2f + originY;
 
-        return new Vector2(worldX + tileWidth / 2f, worldY);
+        return out.set(worldX + tileWidth / 2f, worldY);
     }
 
     // Retorna o nó na matriz
@@ -104,26 +131,20 @@ public class MapGraphBuilder {
 
     // Converte uma posição no mundo para um nó da matriz
     public Node toNode(Vector2 worldPosition) {
-        float halfTileWidth = tileWidth / 2f;
-        float halfTileHeight = tileHeight / 2f;
-
-        float adjustedX = worldPosition.x - originX;
-        float adjustedY = worldPosition.y - originY;
-
-        float rotatedX = (adjustedY / halfTileHeight + adjustedX / halfTileWidth) / 2f;
-        float rotatedY = (adjustedY / halfTileHeight - adjustedX / halfTileWidth) / 2f;
-
-        int y = Math.round(rotatedX);
-        int x = width - 1 - Math.round(rotatedY);
-
-        if (x >= 0 && x < width && y >= 0 && y < height) {
-            return nodes[x][y];
-        }
-        return null;
+        return nodeAtTile(toTileIndex(worldPosition.x, worldPosition.y));
     }
 
     // Retorna o nó correspondente a uma posição mundo se for caminhavel
     public Node getNodeAtWorldPosition(float worldX, float worldY) {
+        int index = toTileIndex(worldX, worldY);
+        if (index < 0) return null;
+
+        Node node = nodes[navGrid.x(index)][navGrid.y(index)];
+        return node.walkable ? node : null;
+    }
+
+    // Converte uma posição mundo para o índice do tile na NavGrid, ou -1 fora do mapa
+    public int toTileIndex(float worldX, float worldY) {
         float halfTileWidth = tileWidth / 2f;
         float halfTileHeight = tileHeight / 2f;
 
@@ -137,12 +158,7 @@ public class MapGraphBuilder {
         int y = Math.round(rotatedX);
         int x = width - 1 - Math.round(rotatedY);
 
-        if (x >= 0 && x < width && y >= 0 && y < height) {
-            Node node = nodes[x][y];
-            if (node.walkable) return node;
-        }
-
-        return null;
+        return x >= 0 && x < width && y >= 0 && y < height ? navGrid.index(x, y) : -1;
     }
 
     // Retorna a largura em tiles
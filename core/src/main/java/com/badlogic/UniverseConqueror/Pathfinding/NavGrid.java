@@ -0,0 +1,119 @@
+package com.badlogic.UniverseConqueror.Pathfinding;
+
+import com.badlogic.UniverseConqueror.Interfaces.WalkabilityListener;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+// Grelha plana de caminhabilidade usada pelos motores de busca.
+// Cada tile é identificado por um índice inteiro (y * width + x), evitando objetos por nó.
+// As threads de busca leem a grelha enquanto a thread do jogo a altera: cada alteração publica uma cópia
+// nova do array pelo campo volatile, e um array publicado nunca volta a ser escrito.
+public class NavGrid {
+    private final int width, height;
+    private volatile boolean[] walkable;
+
+    // Incrementado a cada alteração, depois de publicado o array novo; permite detetar resultados obsoletos
+    private volatile int version;
+
+    // Observadores de alterações; a lista suporta registos feitos a partir das threads de busca
+    private final List<WalkabilityListener> listeners = new CopyOnWriteArrayList<>();
+
+    // Construtor que cria uma grelha totalmente caminhável
+    public NavGrid(int width, int height) {
+        this(width, height, filled(width * height));
+    }
+
+    // Construtor que fica com o array dado (indexado por y * width + x); quem o cria não o deve alterar depois
+    public NavGrid(int width, int height, boolean[] walkable) {
+        if (walkable.length != width * height) throw new IllegalArgumentException("Tamanho da grelha inválido");
+        this.width = width;
+        this.height = height;
+        this.walkable = walkable;
+    }
+
+    private static boolean[] filled(int size) {
+        boolean[] walkable = new boolean[size];
+        Arrays.fill(walkable, true);
+        return walkable;
+    }
+
+    // Cria a grelha a partir da matriz de nós indexada por [x][y]
+    public static NavGrid fromNodes(Node[][] nodes) {
+        int width = nodes.length;
+        int height = width > 0 ? nodes[0].length : 0;
+        boolean[] walkable = new boolean[width * height];
+        for (int x = 0; x < width; x++) {
+            for (int y = 0; y < height; y++) {
+                walkable[y * width + x] = nodes[x][y].walkable;
+            }
+        }
+        return new NavGrid(width, height, walkable);
+    }
+
+    // Converte coordenadas de tile em índice
+    public int index(int x, int y) {
+        return y * width + x;
+    }
+
+    // Coordenada X de um índice
+    public int x(int index) {
+        return index % width;
+    }
+
+    // Coordenada Y de um índice
+    public int y(int index) {
+        return index / width;
+    }
+
+    // Verifica se as coordenadas estão dentro da grelha
+    public boolean inBounds(int x, int y) {
+        return x >= 0 && y >= 0 && x < width && y < height;
+    }
+
+    // Verifica se o tile é caminhável (fora da grelha conta como bloqueado)
+    public boolean isWalkable(int x, int y) {
+        return inBounds(x, y) && walkable[y * width + x];
+    }
+
+    // Verifica se o tile com o índice dado é caminhável
+    public boolean isWalkable(int index) {
+        return walkable[index];
+    }
+
+    // Altera a caminhabilidade de um tile; devolve true se o valor mudou.
+    // Só na thread do jogo: copia o array, altera a cópia e publica-a, para as buscas em curso nunca verem
+    // uma grelha a meio de ser alterada (no pior caso veem a versão anterior e o resultado é descartado).
+    public boolean setWalkable(int x, int y, boolean value) {
+        int index = index(x, y);
+        boolean[] current = walkable;
+        if (current[index] == value) return false;
+        boolean[] next = current.clone();
+        next[index] = value;
+        walkable = next;
+        version++;
+        for (WalkabilityListener listener : listeners) {
+            listener.onWalkabilityChanged(x, y, value);
+        }
+        return true;
+    }
+
+    public void addListener(WalkabilityListener listener) {
+        listeners.add(listener);
+    }
+
+    public void removeListener(WalkabilityListener listener) {
+        listeners.remove(listener);
+    }
+
+    // Versão atual da grelha
+    public int getVersion() { return version; }
+
+    // Retorna a largura em tiles
+    public int getWidth() { return width; }
+    // Retorna a altura em tiles
+    public int getHeight() { return height; }
+    // Número total de tiles
+    public int size() { return walkable.length; }
+}
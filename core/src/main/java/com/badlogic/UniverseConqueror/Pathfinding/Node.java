@@ -3,8 +3,6 @@ package com.badlogic.UniverseConqueror.Pathfinding;
 public class Node {
     public int x, y;
     public boolean walkable;
-    public float gCost, hCost;
-    public Node parent;
 
     // Construtor que inicializa a posição e se é caminhável
     public Node(int x, int y, boolean walkable) {
@@ -13,11 +11,6 @@ public class Node {
         this.walkable = walkable;
     }
 
-    // Custo total F = G + H usado para ordenação no A*
-    public float getFCost() {
-        return gCost + hCost;
-    }
-
     // Comparação de igualdade baseada na posição
     @Override
     public boolean equals(Object o) {
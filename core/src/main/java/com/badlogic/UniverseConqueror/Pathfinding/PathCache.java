@@ -0,0 +1,169 @@
+package com.badlogic.UniverseConqueror.Pathfinding;
+
+import com.badlogic.UniverseConqueror.Interfaces.WalkabilityListener;
+import com.badlogic.gdx.utils.IntArray;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+// Cache LRU de caminhos por (tile inicial, tile destino), com contadores de acertos e falhas.
+// Um pedido que parta de um tile já presente num caminho guardado para o mesmo destino é servido
+// pelo sufixo desse caminho. Só caminhos ótimos (A*, JPS) servem sufixos, porque só o sufixo de um caminho
+// ótimo é ótimo: os do HPA* são quase ótimos e um sufixo deles espalharia o desvio por outros pedidos,
+// por isso só servem o par (início, destino) exato.
+// Observa a NavGrid: bloquear um tile descarta só os caminhos que passam por ele; libertar um tile
+// pode criar atalhos, por isso esvazia a cache. Usar só na thread do ECS.
+public class PathCache implements WalkabilityListener {
+
+    public static final int DEFAULT_CAPACITY = 64;
+
+    private static final class Entry {
+        final int start;
+        final int goal;
+        final IntArray path;
+        final boolean optimal;
+
+        Entry(int start, int goal, IntArray path, boolean optimal) {
+            this.start = start;
+            this.goal = goal;
+            this.path = path;
+            this.optimal = optimal;
+        }
+    }
+
+    private final NavGrid grid;
+    private final int capacity;
+    private final LinkedHashMap<Long, Entry> entries;
+
+    // Entradas por destino, para procurar sufixos sem percorrer a cache inteira
+    private final Map<Integer, List<Entry>> byGoal = new HashMap<>();
+
+    private long hits;
+    private long suffixHits;
+    private long misses;
+    private long invalidations;
+
+    // Construtor que passa logo a observar a grelha
+    public PathCache(NavGrid grid, int capacity) {
+        this.grid = grid;
+        this.capacity = capacity;
+        this.entries = new LinkedHashMap<Long, Entry>(capacity * 4 / 3 + 1, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Long, Entry> eldest) {
+                if (size() <= PathCache.this.capacity) return false;
+                unindex(eldest.getValue());
+                return true;
+            }
+        };
+        grid.addListener(this);
+    }
+
+    // Copia para out o caminho em cache de start até goal (sem o início, com o destino).
+    // Devolve false numa falha; out fica então vazio.
+    public boolean get(int start, int goal, IntArray out) {
+        out.clear();
+        Entry exact = entries.get(key(start, goal));
+        if (exact != null) {
+            hits++;
+            out.addAll(exact.path);
+            return true;
+        }
+
+        List<Entry> candidates = byGoal.get(goal);
+        if (candidates != null) {
+            for (int i = 0; i < candidates.size(); i++) {
+                Entry entry = candidates.get(i);
+                if (!entry.optimal) continue;
+                int position = entry.path.indexOf(start);
+                if (position < 0) continue;
+
+                suffixHits++;
+                entries.get(key(entry.start, entry.goal)); // Conta como uso recente
+                out.addAll(entry.path.items, position + 1, entry.path.size - position - 1);
+                return true;
+            }
+        }
+
+        misses++;
+        return false;
+    }
+
+    // Guarda uma cópia de um caminho ótimo; substitui uma entrada anterior com a mesma chave
+    public void put(int start, int goal, IntArray path) {
+        put(start, goal, path, true);
+    }
+
+    // Guarda uma cópia do caminho; um caminho não ótimo só é servido ao mesmo par (início, destino)
+    public void put(int start, int goal, IntArray path, boolean optimal) {
+        IntArray copy = new IntArray(path.size);
+        copy.addAll(path);
+        Entry entry = new Entry(start, goal, copy, optimal);
+
+        Entry previous = entries.put(key(start, goal), entry);
+        if (previous != null) unindex(previous);
+        byGoal.computeIfAbsent(goal, g -> new ArrayList<>()).add(entry);
+    }
+
+    // Esvazia a cache (os contadores mantêm-se)
+    public void clear() {
+        entries.clear();
+        byGoal.clear();
+    }
+
+    @Override
+    public void onWalkabilityChanged(int x, int y, boolean walkable) {
+        invalidations++;
+        if (walkable) {
+            clear();
+            return;
+        }
+
+        int tile = grid.index(x, y);
+        Iterator<Entry> iterator = entries.values().iterator();
+        while (iterator.hasNext()) {
+            Entry entry = iterator.next();
+            if (entry.path.contains(tile)) {
+                iterator.remove();
+                unindex(entry);
+            }
+        }
+    }
+
+    // Deixa de observar a grelha
+    public void detach() {
+        grid.removeListener(this);
+    }
+
+    private void unindex(Entry entry) {
+        List<Entry> list = byGoal.get(entry.goal);
+        if (list == null) return;
+        list.remove(entry);
+        if (list.isEmpty()) byGoal.remove(entry.goal);
+    }
+
+    private static long key(int start, int goal) {
+        return ((long) start << 32) | (goal & 0xFFFFFFFFL);
+    }
+
+    public int size() { return entries.size(); }
+
+    public int getCapacity() { return capacity; }
+
+    public long getHits() { return hits; }
+
+    public long getSuffixHits() { return suffixHits; }
+
+    public long getMisses() { return misses; }
+
+    public long getInvalidations() { return invalidations; }
+
+    // Fração de pedidos servidos pela cache (exatos e por sufixo)
+    public float getHitRate() {
+        long total = hits + suffixHits + misses;
+        return total == 0 ? 0f : (float) (hits + suffixHits) / total;
+    }
+}
@@ -0,0 +1,66 @@
+package com.badlogic.UniverseConqueror.Pathfinding;
+
+import com.badlogic.gdx.utils.IntArray;
+
+// Pedido de caminho entre dois tiles, processado por uma thread do PathRequestService.
+// Os campos de resultado só devem ser lidos depois de o pedido sair de pollCompleted().
+public class PathRequest implements Runnable, Comparable<PathRequest> {
+
+    // Estados possíveis de um pedido
+    public enum Status { PENDING, DONE, FAILED, CANCELLED }
+
+    public final PathfinderType type;
+    public final int start;
+    public final int goal;
+    public final int priority;
+    public final Object owner;
+    public final Object tag;
+    public final IntArray path = new IntArray();
+
+    final long sequence;
+    final long submitTime;
+    long completeTime;
+    int gridVersion;
+
+    volatile Status status = Status.PENDING;
+    volatile boolean cancelled;
+    private final PathRequestService service;
+
+    PathRequest(PathRequestService service, PathfinderType type, int start, int goal, int priority,
+                Object owner, Object tag, long sequence) {
+        this.service = service;
+        this.type = type;
+        this.start = start;
+        this.goal = goal;
+        this.priority = priority;
+        this.owner = owner;
+        this.tag = tag;
+        this.sequence = sequence;
+        this.submitTime = System.nanoTime();
+    }
+
+    // Executado numa thread de trabalho
+    @Override
+    public void run() {
+        service.process(this);
+    }
+
+    // Menor prioridade primeiro; em empate, o pedido mais antigo
+    @Override
+    public int compareTo(PathRequest other) {
+        if (priority != other.priority) return Integer.compare(priority, other.priority);
+        return Long.compare(sequence, other.sequence);
+    }
+
+    public Status getStatus() { return cancelled ? Status.CANCELLED : status; }
+
+    public boolean isCancelled() { return cancelled; }
+
+    public boolean isSuccessful() { return !cancelled && status == Status.DONE; }
+
+    // Versão da grelha usada no cálculo; se diferir da atual, o caminho pode estar obsoleto
+    public int getGridVersion() { return gridVersion; }
+
+    // Tempo entre a submissão e a conclusão, em nanossegundos
+    public long getLatencyNanos() { return completeTime - submitTime; }
+}
@@ -0,0 +1,202 @@
+package com.badlogic.UniverseConqueror.Pathfinding;
+
+import com.badlogic.UniverseConqueror.Interfaces.GridPathfinder;
+import com.badlogic.gdx.utils.Disposable;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+// Serviço assíncrono de pedidos de caminho.
+// Os sistemas submetem pedidos (início, destino, prioridade) na thread do ECS; threads de trabalho calculam
+// os caminhos e os resultados são recolhidos com pollCompleted() num ponto fixo do frame.
+public class PathRequestService implements Disposable {
+
+    private final NavGrid grid;
+    private final ReachabilityIndex reachability;
+    private final ThreadPoolExecutor executor;
+    private final Supplier<GridPathfinder>[] factories;
+    private final ThreadLocal<GridPathfinder[]> engines;
+    private PathfinderType defaultType = PathfinderType.ASTAR;
+    private final ConcurrentLinkedQueue<PathRequest> completed = new ConcurrentLinkedQueue<>();
+
+    // Último pedido de cada dono; só é acedido na thread do ECS
+    private final Map<Object, PathRequest> latestByOwner = new HashMap<>();
+
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final AtomicLong cancelledCount = new AtomicLong();
+    private long rejectedCount;
+    private long sequence;
+    private long completedCount;
+    private long lastLatencyNanos;
+    private long maxLatencyNanos;
+    private double averageLatencyNanos;
+
+    // Construtor com número de threads adequado ao processador
+    public PathRequestService(NavGrid grid) {
+        this(grid, null);
+    }
+
+    // Construtor que rejeita logo os pedidos entre regiões desligadas do mapa
+    public PathRequestService(NavGrid grid, ReachabilityIndex reachability) {
+        this(grid, reachability, Math.max(1, Math.min(2, Runtime.getRuntime().availableProcessors() - 1)));
+    }
+
+    // Construtor que define o número de threads de trabalho, sem índice de alcance
+    public PathRequestService(NavGrid grid, int workerCount) {
+        this(grid, null, workerCount);
+    }
+
+    // Construtor que define o número de threads de trabalho; reachability pode ser null
+    @SuppressWarnings("unchecked")
+    public PathRequestService(NavGrid grid, ReachabilityIndex reachability, int workerCount) {
+        this.grid = grid;
+        this.reachability = reachability;
+
+        PathfinderType[] types = PathfinderType.values();
+        this.factories = new Supplier[types.length];
+        for (PathfinderType type : types) {
+            factories[type.ordinal()] = type.factory(grid);
+        }
+        this.engines = ThreadLocal.withInitial(() -> new GridPathfinder[types.length]);
+
+        AtomicInteger threadId = new AtomicInteger();
+        ThreadFactory threadFactory = runnable -> {
+            Thread thread = new Thread(runnable, "path-worker-" + threadId.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+        this.executor = new ThreadPoolExecutor(workerCount, workerCount, 0L, TimeUnit.MILLISECONDS,
+            new PriorityBlockingQueue<>(), threadFactory);
+    }
+
+    // Submete um pedido com o motor por omissão
+    public PathRequest submit(int start, int goal, int priority, Object owner, Object tag) {
+        return submit(defaultType, start, goal, priority, owner, tag);
+    }
+
+    // Submete um pedido; um novo pedido do mesmo dono cancela o anterior ainda pendente
+    public PathRequest submit(PathfinderType type, int start, int goal, int priority, Object owner, Object tag) {
+        if (owner != null) {
+            PathRequest previous = latestByOwner.get(owner);
+            if (previous != null) cancel(previous);
+        }
+
+        PathRequest request = new PathRequest(this, type, start, goal, priority, owner, tag, sequence++);
+        if (owner != null) latestByOwner.put(owner, request);
+
+        // Início e destino em componentes diferentes: falha imediata, sem ocupar uma thread
+        if (reachability != null && !reachability.canReach(start, goal)) {
+            rejectedCount++;
+            request.gridVersion = grid.getVersion();
+            request.status = PathRequest.Status.FAILED;
+            request.completeTime = System.nanoTime();
+            completed.add(request);
+            return request;
+        }
+
+        inFlight.incrementAndGet();
+        executor.execute(request);
+        return request;
+    }
+
+    // Cancela um pedido; se ainda estiver na fila não chega a ser calculado
+    public void cancel(PathRequest request) {
+        if (request.cancelled) return;
+        request.cancelled = true;
+        cancelledCount.incrementAndGet();
+        if (request.owner != null && latestByOwner.get(request.owner) == request) {
+            latestByOwner.remove(request.owner);
+        }
+    }
+
+    // Cancela o pedido pendente de um dono, se existir
+    public void cancelAll(Object owner) {
+        PathRequest previous = latestByOwner.get(owner);
+        if (previous != null) cancel(previous);
+    }
+
+    // Devolve o próximo pedido concluído (com ou sem caminho), ou null se não houver nenhum.
+    // Pedidos cancelados são descartados aqui e nunca chegam ao chamador.
+    public PathRequest pollCompleted() {
+        PathRequest request;
+        while ((request = completed.poll()) != null) {
+            if (request.cancelled) continue;
+
+            if (request.owner != null && latestByOwner.get(request.owner) == request) {
+                latestByOwner.remove(request.owner);
+            }
+            recordLatency(request.getLatencyNanos());
+            return request;
+        }
+        return null;
+    }
+
+    // Executado numa thread de trabalho
+    void process(PathRequest request) {
+        try {
+            if (request.cancelled) return;
+
+            GridPathfinder engine = engineFor(request.type);
+            request.gridVersion = grid.getVersion();
+            boolean found = engine.findPath(request.start, request.goal, request.path);
+            request.status = found ? PathRequest.Status.DONE : PathRequest.Status.FAILED;
+            request.completeTime = System.nanoTime();
+            completed.add(request);
+        } finally {
+            inFlight.decrementAndGet();
+        }
+    }
+
+    // Motor da thread atual para o tipo pedido, criado na primeira utilização
+    private GridPathfinder engineFor(PathfinderType type) {
+        GridPathfinder[] threadEngines = engines.get();
+        GridPathfinder engine = threadEngines[type.ordinal()];
+        if (engine == null) {
+            engine = factories[type.ordinal()].get();
+            threadEngines[type.ordinal()] = engine;
+        }
+        return engine;
+    }
+
+    private void recordLatency(long latency) {
+        completedCount++;
+        lastLatencyNanos = latency;
+        if (latency > maxLatencyNanos) maxLatencyNanos = latency;
+        // Média móvel exponencial para suavizar picos isolados
+        averageLatencyNanos = completedCount == 1 ? latency : averageLatencyNanos * 0.9 + latency * 0.1;
+    }
+
+    // Pedidos submetidos que ainda não terminaram o cálculo
+    public int getQueueDepth() { return inFlight.get(); }
+
+    public long getCompletedCount() { return completedCount; }
+
+    public long getCancelledCount() { return cancelledCount.get(); }
+
+    // Pedidos recusados na submissão por não haver ligação entre início e destino
+    public long getRejectedCount() { return rejectedCount; }
+
+    public float getLastLatencyMillis() { return lastLatencyNanos / 1_000_000f; }
+
+    public float getAverageLatencyMillis() { return (float) (averageLatencyNanos / 1_000_000.0); }
+
+    public float getMaxLatencyMillis() { return maxLatencyNanos / 1_000_000f; }
+
+    public NavGrid getGrid() { return grid; }
+
+    public PathfinderType getDefaultType() { return defaultType; }
+
+    public void setDefaultType(PathfinderType defaultType) { this.defaultType = defaultType; }
+
+    // Termina as threads de trabalho e descarta os pedidos pendentes
+    @Override
+    public void dispose() {
+        executor.shutdownNow();
+        completed.clear();
+        latestByOwner.clear();
+    }
+}
@@ -0,0 +1,83 @@
+package com.badlogic.UniverseConqueror.Pathfinding;
+
+import com.badlogic.gdx.utils.IntArray;
+
+// Pós-processamento de caminhos: "string pulling" com teste de linha de visão na NavGrid.
+// Mantém só os tiles de canto onde a linha reta deixa de estar livre. Como a projeção isométrica
+// é linear, uma reta entre centros de tiles continua a ser reta no mundo.
+public class PathSmoother {
+
+    private final NavGrid grid;
+
+    public PathSmoother(NavGrid grid) {
+        this.grid = grid;
+    }
+
+    // Reduz o caminho (sem o início, com o destino, como devolvido pelos motores) aos waypoints de canto.
+    // out pode ser o próprio path.
+    public void smooth(int start, IntArray path, IntArray out) {
+        if (path.size <= 1) {
+            if (out != path) {
+                out.clear();
+                out.addAll(path);
+            }
+            return;
+        }
+
+        // Escreve por cima do próprio array: o índice de escrita nunca ultrapassa o de leitura
+        int[] tiles = path.items;
+        int size = path.size;
+        if (out != path) {
+            out.clear();
+            out.ensureCapacity(size);
+        }
+        int written = 0;
+        int anchor = start;
+
+        for (int i = 0; i < size - 1; i++) {
+            if (!hasLineOfSight(anchor, tiles[i + 1])) {
+                anchor = tiles[i];
+                if (out == path) tiles[written] = anchor; else out.add(anchor);
+                written++;
+            }
+        }
+        int goal = tiles[size - 1];
+        if (out == path) {
+            tiles[written] = goal;
+            path.size = written + 1;
+        } else {
+            out.add(goal);
+        }
+    }
+
+    // Linha de visão entre os centros de dois tiles: todos os tiles atravessados pelo segmento têm de ser
+    // caminháveis (o tile de partida não conta). Quando o segmento passa exatamente por um canto,
+    // os dois tiles laterais têm de estar livres, para que o corpo não raspe na quina.
+    public boolean hasLineOfSight(int from, int to) {
+        int x = grid.x(from), y = grid.y(from);
+        int x1 = grid.x(to), y1 = grid.y(to);
+        int dx = Math.abs(x1 - x), dy = Math.abs(y1 - y);
+        int stepX = x1 > x ? 1 : -1, stepY = y1 > y ? 1 : -1;
+        int error = dx - dy;
+        dx *= 2;
+        dy *= 2;
+
+        for (int remaining = dx / 2 + dy / 2; remaining > 0; remaining--) {
+            if (error > 0) {
+                x += stepX;
+                error -= dy;
+            } else if (error < 0) {
+                y += stepY;
+                error += dx;
+            } else {
+                if (!grid.isWalkable(x + stepX, y) || !grid.isWalkable(x, y + stepY)) return false;
+                x += stepX;
+                y += stepY;
+                error += dx - dy;
+                remaining--;
+            }
+            if (!grid.isWalkable(x, y)) return false;
+        }
+        return true;
+    }
+}
@@ -0,0 +1,36 @@
+package com.badlogic.UniverseConqueror.Pathfinding;
+
+import com.badlogic.UniverseConqueror.Interfaces.GridPathfinder;
+
+import java.util.function.Supplier;
+
+// Motores de busca disponíveis para o PathRequestService
+public enum PathfinderType {
+    ASTAR,
+    JPS,
+    HPA;
+
+    // Cria uma fábrica de motores para a grelha; cada thread de trabalho obtém a sua instância
+    public Supplier<GridPathfinder> factory(NavGrid grid) {
+        switch (this) {
+            case JPS:
+                return () -> new JumpPointSearch(grid);
+            case HPA:
+                return hierarchical(grid);
+            case ASTAR:
+            default:
+                return () -> new GridAStar(grid);
+        }
+    }
+
+    // O ClusterGraph é partilhado pelas instâncias e só é construído quando o primeiro motor HPA é pedido
+    private static Supplier<GridPathfinder> hierarchical(NavGrid grid) {
+        ClusterGraph[] shared = new ClusterGraph[1];
+        return () -> {
+            synchronized (shared) {
+                if (shared[0] == null) shared[0] = new ClusterGraph(grid);
+                return new HierarchicalPathfinder(shared[0]);
+            }
+        };
+    }
+}
@@ -0,0 +1,159 @@
+package com.badlogic.UniverseConqueror.Pathfinding;
+
+import com.badlogic.gdx.math.MathUtils;
+
+import java.util.Arrays;
+
+// Componentes conexas dos tiles caminháveis da NavGrid (8 direções, como os motores de busca).
+// Guarda a lista densa de tiles caminháveis agrupada por componente, por isso sortear um tile
+// (em todo o mapa ou numa componente) é O(1) e saber se dois tiles se ligam também.
+// É recalculado por inteiro na primeira consulta depois de a grelha mudar; usar só na thread do ECS.
+public class ReachabilityIndex {
+
+    private final NavGrid grid;
+
+    // Componente de cada tile, ou -1 se o tile estiver bloqueado
+    private final int[] component;
+
+    // Tiles caminháveis agrupados por componente: a componente c ocupa [componentStart[c], componentStart[c + 1])
+    private final int[] walkableTiles;
+    private int[] componentStart = new int[1];
+    private int walkableCount;
+    private int componentCount;
+    private int largestComponent = -1;
+    private int builtVersion = -1;
+
+    // Construtor que calcula logo as componentes da grelha
+    public ReachabilityIndex(NavGrid grid) {
+        this.grid = grid;
+        this.component = new int[grid.size()];
+        this.walkableTiles = new int[grid.size()];
+        rebuild();
+    }
+
+    // Recalcula as componentes com uma inundação por componente; a própria lista serve de fila
+    private void rebuild() {
+        Arrays.fill(component, -1);
+        int width = grid.getWidth(), height = grid.getHeight();
+        walkableCount = 0;
+        componentCount = 0;
+        largestComponent = -1;
+        int largestSize = 0;
+        builtVersion = grid.getVersion();
+
+        for (int seed = 0; seed < component.length; seed++) {
+            if (component[seed] != -1 || !grid.isWalkable(seed)) continue;
+
+            int c = componentCount++;
+            if (componentStart.length < componentCount + 1) {
+                componentStart = Arrays.copyOf(componentStart, Math.max(componentCount + 1, componentStart.length * 2));
+            }
+            int first = walkableCount;
+            componentStart[c] = first;
+
+            component[seed] = c;
+            walkableTiles[walkableCount++] = seed;
+            for (int head = first; head < walkableCount; head++) {
+                int current = walkableTiles[head];
+                int cx = current % width, cy = current / width;
+                for (int d = 0; d < 8; d++) {
+                    int nx = cx + GridAStar.DX[d], ny = cy + GridAStar.DY[d];
+                    if (nx < 0 || ny < 0 || nx >= width || ny >= height) continue;
+                    int neighbor = ny * width + nx;
+                    if (component[neighbor] != -1 || !grid.isWalkable(neighbor)) continue;
+                    component[neighbor] = c;
+                    walkableTiles[walkableCount++] = neighbor;
+                }
+            }
+
+            int size = walkableCount - first;
+            if (size > largestSize) {
+                largestSize = size;
+                largestComponent = c;
+            }
+        }
+        componentStart[componentCount] = walkableCount;
+    }
+
+    private void ensureUpToDate() {
+        if (builtVersion != grid.getVersion()) rebuild();
+    }
+
+    // Componente do tile; um tile bloqueado herda a componente de um vizinho caminhável
+    // (as buscas aceitam começar num tile bloqueado). Devolve -1 se não houver nenhuma.
+    public int getComponent(int tile) {
+        ensureUpToDate();
+        if (component[tile] != -1) return component[tile];
+
+        int x = grid.x(tile), y = grid.y(tile);
+        for (int d = 0; d < 8; d++) {
+            int nx = x + GridAStar.DX[d], ny = y + GridAStar.DY[d];
+            if (grid.inBounds(nx, ny) && component[grid.index(nx, ny)] != -1) return component[grid.index(nx, ny)];
+        }
+        return -1;
+    }
+
+    // Verdadeiro se existe caminho de start até goal; o destino tem de ser caminhável
+    public boolean canReach(int start, int goal) {
+        if (start == goal) return true;
+        ensureUpToDate();
+        if (component[goal] == -1) return false;
+        if (component[start] != -1) return component[start] == component[goal];
+
+        // Início bloqueado: basta que um dos vizinhos caminháveis esteja na componente do destino
+        int x = grid.x(start), y = grid.y(start);
+        for (int d = 0; d < 8; d++) {
+            int nx = x + GridAStar.DX[d], ny = y + GridAStar.DY[d];
+            if (grid.inBounds(nx, ny) && component[grid.index(nx, ny)] == component[goal]) return true;
+        }
+        return false;
+    }
+
+    // Tile caminhável ao acaso em todo o mapa, ou -1 se não houver nenhum
+    public int randomWalkableTile() {
+        ensureUpToDate();
+        return walkableCount == 0 ? -1 : walkableTiles[MathUtils.random(walkableCount - 1)];
+    }
+
+    // Tile caminhável ao acaso dentro da componente, ou -1 se a componente for inválida
+    public int randomTileInComponent(int c) {
+        ensureUpToDate();
+        if (c < 0 || c >= componentCount) return -1;
+        int start = componentStart[c];
+        return walkableTiles[start + MathUtils.random(componentStart[c + 1] - start - 1)];
+    }
+
+    // Tile caminhável ao acaso alcançável a partir do tile dado
+    public int randomReachableTile(int from) {
+        return randomTileInComponent(getComponent(from));
+    }
+
+    public int getComponentSize(int c) {
+        ensureUpToDate();
+        return componentStart[c + 1] - componentStart[c];
+    }
+
+    public int getComponentCount() {
+        ensureUpToDate();
+        return componentCount;
+    }
+
+    // Maior componente, ou -1 se o mapa não tiver tiles caminháveis
+    public int getLargestComponent() {
+        ensureUpToDate();
+        return largestComponent;
+    }
+
+    public int getWalkableCount() {
+        ensureUpToDate();
+        return walkableCount;
+    }
+
+    // i-ésimo tile caminhável da lista densa (agrupada por componente)
+    public int getWalkableTile(int i) {
+        ensureUpToDate();
+        return walkableTiles[i];
+    }
+
+    public NavGrid getGrid() { return grid; }
+}
@@ -19,6 +19,7 @@ import com.badlogic.UniverseConqueror.State.*;
 import com.badlogic.UniverseConqueror.Utils.*;
 import com.badlogic.gdx.*;
 import com.badlogic.gdx.assets.AssetManager;
+import com.badlogic.gdx.files.FileHandle;
 import com.badlogic.gdx.graphics.*;
 import com.badlogic.gdx.graphics.g2d.TextureRegion;
 import com.badlogic.gdx.maps.tiled.renderers.IsometricTiledMapRenderer;
@@ -41,6 +42,10 @@ public class GameScreen implements Screen, BaseScreen {
     private OrthographicCamera camera;
     private Timer playingTimer;
     private GameStateService gameStateService;
+
+    // Fases do render medidas pelo FrameProfiler (os sistemas do engine são medidos por eles próprios)
+    private final FrameProfiler profiler = FrameProfiler.get();
+    private int mapPhase, awaitStepPhase, hudPhase, debugRenderPhase, stageActPhase, stageDrawPhase;
     public void disposeResources() {
         dispose();
     }
@@ -52,6 +57,8 @@ public class GameScreen implements Screen, BaseScreen {
 
     @Override
     public void show() {
+        resetProfiler();
+        registerProfilerPhases();
         initializeEssentials();
         initializeContext();
         initializeWorld();
@@ -88,6 +95,24 @@ public class GameScreen implements Screen, BaseScreen {
         new ObserverRegistrar(gameContext).initialize();
     }
 
+    //Desliga o perfilador e esquece as entradas de ecrãs anteriores (os seus sistemas e engines).
+    //Os ecrãs de jogo são substituídos sem dispose (pausa, retomar, novo jogo), por isso corre no show e no hide.
+    private void resetProfiler() {
+        profiler.stopCsv();
+        profiler.setEnabled(false);
+        profiler.clear();
+    }
+
+    //Regista as fases do render no perfilador de frames
+    private void registerProfilerPhases() {
+        mapPhase = profiler.phase("map.render");
+        awaitStepPhase = profiler.phase("physics.awaitStep");
+        hudPhase = profiler.phase("hud.update");
+        debugRenderPhase = profiler.phase("box2d.debugRender");
+        stageActPhase = profiler.phase("stage.act");
+        stageDrawPhase = profiler.phase("stage.draw");
+    }
+
     //Criar joystick
     private void createJoystick() {
         Texture base = assetManager.get(AssetPaths.JOYSTICK_BASE, Texture.class);
@@ -104,7 +129,7 @@ public class GameScreen implements Screen, BaseScreen {
             gameContext.getBulletFactory()
         );
         contactListenerWrapper.setOnEndLevel(() -> EventBus.get().notify(new EndGameEvent(player, gameContext.getEnemiesKilledCount())));
-        gameContext.getWorldContext().getWorld().setContactListener(contactListenerWrapper);
+        engine.getSystem(PhysicsSystem.class).setContactListener(contactListenerWrapper);
     }
 
     //Inicializa os componentes essenciais como o motor ECS, a câmera, e o cronômetro.
@@ -129,6 +154,7 @@ public class GameScreen implements Screen, BaseScreen {
     //Inicializa a fábrica de projéteis que cria e gere os projéteis no jogo.
     private void initializeBulletFactory() {
         BulletFactory bulletFactory = new BulletFactory(assetManager, engine);
+        bulletFactory.prewarm(gameContext.getWorldContext().getWorld(), Constants.BULLET_POOL_PREWARM, Constants.FIREBALL_POOL_PREWARM);
         gameContext.setBulletFactory(bulletFactory);
     }
 
@@ -158,7 +184,7 @@ public class GameScreen implements Screen, BaseScreen {
 
         Spawner<Void> itemSpawner = new ItemSpawner(
             engine, gameContext.getWorldContext().getWorld(),
-            assetManager, gameContext.getCamera(), gameContext.getMapGraphBuilder());
+            assetManager, gameContext.getCamera(), gameContext.getMapGraphBuilder(), player);
         itemSpawner.spawn();
     }
 
@@ -190,6 +216,17 @@ public class GameScreen implements Screen, BaseScreen {
                     return true;
                 }
 
+                if (keycode == Input.Keys.F3) {
+                    gameContext.getHUDContext().getProfilerOverlay().toggle();
+                    updateProfilerState();
+                    return true;
+                }
+
+                if (keycode == Input.Keys.F4) {
+                    toggleProfilerCsv();
+                    return true;
+                }
+
                 if (keycode == Input.Keys.C) {
                     CameraInputSystem cameraSystem = gameContext.getSystemContext().getCameraInputSystem();
                     cameraSystem.toggleCameraFollow();
@@ -203,6 +240,24 @@ public class GameScreen implements Screen, BaseScreen {
         };
     }
 
+    //Começa ou termina a gravação do CSV do perfilador, num ficheiro novo por gravação
+    private void toggleProfilerCsv() {
+        if (profiler.isRecording()) {
+            profiler.stopCsv();
+        } else {
+            FileHandle file = Gdx.files.local("profiler/frames-" + System.currentTimeMillis() + ".csv");
+            profiler.startCsv(file);
+            Gdx.app.log("FrameProfiler", "A gravar " + file.path());
+        }
+        updateProfilerState();
+    }
+
+    //O perfilador só mede enquanto o painel estiver visível ou o CSV a gravar
+    private void updateProfilerState() {
+        boolean overlayVisible = gameContext.getHUDContext().getProfilerOverlay().isVisible();
+        profiler.setEnabled(overlayVisible || profiler.isRecording());
+    }
+
     //Atualiza o ícone da câmera dependendo se está seguindo o jogador ou não.
     private void updateCameraIcon(boolean isFollowing) {
         Image cameraIcon = gameContext.getHUDContext().getCameraIconImage();
@@ -233,7 +288,8 @@ public class GameScreen implements Screen, BaseScreen {
             gameContext.getSystemContext().getItemCollectionSystem(),
             gameContext.getPlayingTimer(),
             camera,
-            gameContext.getSystemContext().getPlayerInputSystem()
+            gameContext.getSystemContext().getPlayerInputSystem(),
+            gameContext.getBulletFactory()
         );
         gameStateService.setPlayer(player);
         gameContext.setGameStateService(gameStateService);
@@ -241,10 +297,15 @@ public class GameScreen implements Screen, BaseScreen {
 
     //Inicializa o pathfinding, que é usado para encontrar caminhos entre os pontos no mapa
     private void initializePathfinding() {
-        pathfinder = new AStarPathfinder(gameContext.getMapGraphBuilder().nodes);
+        pathfinder = new AStarPathfinder(gameContext.getMapGraphBuilder());
         gameContext.setPathfinder(pathfinder);
+        PathRequestService pathRequestService = new PathRequestService(gameContext.getMapGraphBuilder().getNavGrid(),
+            gameContext.getMapGraphBuilder().getReachability());
+        gameContext.setPathRequestService(pathRequestService);
         engine.addSystem(new PathFollowSystem());
-        engine.addSystem(new PathRequestSystem(gameContext.getMapGraphBuilder(), pathfinder));
+        engine.addSystem(new PathRequestSystem(gameContext.getMapGraphBuilder(), pathRequestService));
+        engine.addSystem(new PathReplanSystem(gameContext.getMapGraphBuilder()));
+        engine.addSystem(new FlowFieldSystem(gameContext.getMapGraphBuilder()));
         engine.addSystem(new PathDebugRenderSystem(gameContext.getCamera()));
     }
 
@@ -278,10 +339,11 @@ public class GameScreen implements Screen, BaseScreen {
 
     // Atualiza a posição da câmera com base na posição do jogador.
     private void updateCameraPosition() {
-        PositionComponent pos = player.getComponent(PositionComponent.class);
+        // Segue a posição interpolada, a mesma usada para desenhar o jogador
+        TransformComponent transform = player.getComponent(TransformComponent.class);
         CameraInputSystem cameraInputSystem = gameContext.getSystemContext().getCameraInputSystem();
-        if (cameraInputSystem.isFollowingPlayer() && pos != null) {
-            camera.position.set(pos.position.x, pos.position.y, 0);
+        if (cameraInputSystem.isFollowingPlayer() && transform != null) {
+            camera.position.set(transform.position.x, transform.position.y, 0);
         }
         camera.update();
     }
@@ -289,35 +351,65 @@ public class GameScreen implements Screen, BaseScreen {
 
     @Override
     public void render(float delta) {
+        profiler.beginFrame();
         gameContext.getTimer().update(delta);
         Gdx.gl.glClearColor(0, 0, 0, 1);
         Gdx.gl.glClear(GL20.GL_COLOR_BUFFER_BIT);
 
-        gameContext.getWorldContext().getWorld().step(1 / 60f, 6, 2);
-
+        // O mundo Box2D é avançado pelo PhysicsSystem, em passos fixos, dentro de engine.update
         gameContext.updateCamera();
         updateCameraPosition();
 
         IsometricTiledMapRenderer renderer = gameContext.getWorldContext().getMapRenderer();
         renderer.setView(gameContext.getCamera());
+        profiler.begin(mapPhase);
         renderer.render();
+        profiler.end(mapPhase);
+
+        // Com a física em thread própria, o passo lançado no frame anterior correu durante o desenho do mapa
+        PhysicsSystem physicsSystem = engine.getSystem(PhysicsSystem.class);
+        profiler.begin(awaitStepPhase);
+        physicsSystem.awaitStep();
+        profiler.end(awaitStepPhase);
 
         engine.update(delta);
+        profiler.closeSystems();
 
+        profiler.begin(hudPhase);
         gameContext.updateHUD();
+        profiler.end(hudPhase);
 
+        profiler.begin(debugRenderPhase);
         gameContext.getWorldContext().getDebugRenderer().render(
             gameContext.getWorldContext().getWorld(),
             gameContext.getCamera().combined
         );
+        profiler.end(debugRenderPhase);
+
+        // A partir daqui o mundo pertence à thread de física até ao próximo awaitStep
+        physicsSystem.startStep();
 
+        profiler.begin(stageActPhase);
         gameContext.getStage().act(delta);
+        profiler.end(stageActPhase);
+        profiler.begin(stageDrawPhase);
         gameContext.getStage().draw();
+        profiler.end(stageDrawPhase);
+        profiler.endFrame();
     }
 
     @Override public void resize(int width, int height) { gameContext.getCamera().update(); }
     @Override public void pause() {}
     @Override public void resume() {}
-    @Override public void hide() {}
-    @Override public void dispose() { gameContext.dispose(); }
+    @Override public void hide() {
+        // Espera pelo passo em curso e termina a thread de física; volta a ser criada no primeiro startStep
+        engine.getSystem(PhysicsSystem.class).dispose();
+        resetProfiler();
+    }
+    @Override public void dispose() {
+        resetProfiler();
+        engine.getSystem(PhysicsSystem.class).dispose();
+        engine.getSystem(SystemScheduler.class).dispose();
+        gameContext.dispose();
+    }
 }
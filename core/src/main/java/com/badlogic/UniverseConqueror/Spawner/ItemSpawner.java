@@ -3,9 +3,11 @@ package com.badlogic.UniverseConqueror.Spawner;
 import com.badlogic.UniverseConqueror.Interfaces.Spawner;
 import com.badlogic.UniverseConqueror.ECS.entity.ItemFactory;
 import com.badlogic.UniverseConqueror.ECS.systems.RenderItemSystem;
+import com.badlogic.UniverseConqueror.ECS.utils.ComponentMappers;
 import com.badlogic.UniverseConqueror.Pathfinding.MapGraphBuilder;
 import com.badlogic.UniverseConqueror.Pathfinding.Node;
 import com.badlogic.UniverseConqueror.Utils.AssetPaths;
+import com.badlogic.ashley.core.Entity;
 import com.badlogic.ashley.core.PooledEngine;
 import com.badlogic.gdx.assets.AssetManager;
 import com.badlogic.gdx.graphics.OrthographicCamera;
@@ -21,14 +23,16 @@ public class ItemSpawner implements Spawner<Void> {
     private final AssetManager assetManager;
     private final OrthographicCamera camera;
     private final MapGraphBuilder mapGraphBuilder;
+    private final Entity player;
 
     public ItemSpawner(PooledEngine engine, World world, AssetManager assetManager,
-                       OrthographicCamera camera, MapGraphBuilder mapGraphBuilder) {
+                       OrthographicCamera camera, MapGraphBuilder mapGraphBuilder, Entity player) {
         this.engine = engine;
         this.world = world;
         this.assetManager = assetManager;
         this.camera = camera;
         this.mapGraphBuilder = mapGraphBuilder;
+        this.player = player;
     }
 
     // Método responsável por criar os itens no mundo do jogo. Gera múltiplos itens de tipos diferentes.
@@ -45,9 +49,9 @@ public class ItemSpawner implements Spawner<Void> {
         return null;
     }
 
-    //Cria um item
+    //Cria um item num tile que o jogador consegue alcançar
     private ItemFactory createItem(String type, String assetPath) {
-        Node node = mapGraphBuilder.getRandomWalkableNode();
+        Node node = mapGraphBuilder.getRandomReachableNode(ComponentMappers.position.get(player).position);
         Vector2 worldPos = mapGraphBuilder.toWorldPosition(node);
         return new ItemFactory(type, worldPos.x, worldPos.y, assetPath, assetManager);
     }
@@ -1,9 +1,11 @@
 package com.badlogic.UniverseConqueror.Spawner;
 
 import com.badlogic.UniverseConqueror.ECS.entity.SpaceshipFactory;
+import com.badlogic.UniverseConqueror.ECS.utils.ComponentMappers;
 import com.badlogic.UniverseConqueror.Interfaces.Spawner;
 import com.badlogic.UniverseConqueror.Pathfinding.MapGraphBuilder;
 import com.badlogic.UniverseConqueror.Pathfinding.Node;
+import com.badlogic.ashley.core.Entity;
 import com.badlogic.ashley.core.PooledEngine;
 import com.badlogic.gdx.assets.AssetManager;
 import com.badlogic.gdx.math.Vector2;
@@ -15,19 +17,22 @@ public class SpaceshipSpawner implements Spawner<Node> {
     private final World world;
     private final AssetManager assetManager;
     private final MapGraphBuilder mapGraphBuilder;
+    private final Entity player;
 
     //Spawn nave espacial
-    public SpaceshipSpawner(PooledEngine engine, World world, AssetManager assetManager, MapGraphBuilder mapGraphBuilder) {
+    public SpaceshipSpawner(PooledEngine engine, World world, AssetManager assetManager, MapGraphBuilder mapGraphBuilder,
+                            Entity player) {
         this.engine = engine;
         this.world = world;
         this.assetManager = assetManager;
         this.mapGraphBuilder = mapGraphBuilder;
+        this.player = player;
     }
 
-    //Método que gera a nave espacial no mapa em uma posição válida e adiciona a nave ao mundo do jogo.
+    //Método que gera a nave espacial numa posição alcançável pelo jogador e adiciona a nave ao mundo do jogo.
     @Override
     public Node spawn() {
-        Node node = mapGraphBuilder.getRandomWalkableNode();
+        Node node = mapGraphBuilder.getRandomReachableNode(ComponentMappers.position.get(player).position);
         Vector2 position = mapGraphBuilder.toWorldPosition(node);
         new SpaceshipFactory(assetManager).createSpaceship(position, engine, world);
         return node;
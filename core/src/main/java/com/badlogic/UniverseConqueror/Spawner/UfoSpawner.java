@@ -1,6 +1,7 @@
 package com.badlogic.UniverseConqueror.Spawner;
 
 import com.badlogic.UniverseConqueror.ECS.entity.EnemyFactory;
+import com.badlogic.UniverseConqueror.ECS.utils.ComponentMappers;
 import com.badlogic.UniverseConqueror.Interfaces.Spawner;
 import com.badlogic.UniverseConqueror.Pathfinding.MapGraphBuilder;
 import com.badlogic.UniverseConqueror.Pathfinding.Node;
@@ -32,12 +33,13 @@ public class UfoSpawner implements Spawner<Void> {
     }
 /**
  * Método responsável por gerar os inimigos do tipo "UFO".
- * Cria três inimigos em posições aleatórias válidas no mapa.
+ * Cria três inimigos em posições aleatórias alcançáveis pelo jogador.
  **/
     @Override
     public Void spawn() {
+        Vector2 playerPos = ComponentMappers.position.get(player).position;
         for (int i = 0; i < 3; i++) {
-            Node node = mapGraphBuilder.getRandomWalkableNode();
+            Node node = mapGraphBuilder.getRandomReachableNode(playerPos);
             if (node != null) {
                 Vector2 position = mapGraphBuilder.toWorldPosition(node);
                 Entity ufo = EnemyFactory.createUfoEnemy(engine, world, position, assetManager, player, camera);
@@ -1,6 +1,7 @@
 package com.badlogic.UniverseConqueror.State;
 
 import com.badlogic.UniverseConqueror.ECS.components.*;
+import com.badlogic.UniverseConqueror.ECS.entity.BulletFactory;
 import com.badlogic.UniverseConqueror.ECS.entity.EnemyFactory;
 import com.badlogic.UniverseConqueror.ECS.entity.ItemFactory;
 import com.badlogic.UniverseConqueror.ECS.entity.PlayerFactory;
@@ -25,6 +26,7 @@ public class GameStateService {
     private  Timer playingTimer;
     private  OrthographicCamera camera;
     private  PlayerInputSystem playerInputSystem;
+    private  BulletFactory bulletFactory;
     public Vector2 spaceshipPosition;
     private Entity player;
     private boolean restoredState = false;
@@ -37,7 +39,8 @@ public class GameStateService {
                             ItemCollectionSystem itemCollectionSystem,
                             Timer playingTimer,
                             OrthographicCamera camera,
-                            PlayerInputSystem playerInputSystem) {
+                            PlayerInputSystem playerInputSystem,
+                            BulletFactory bulletFactory) {
         this.engine = engine;
         this.world = world;
         this.assetManager = assetManager;
@@ -47,6 +50,7 @@ public class GameStateService {
         this.playingTimer = playingTimer;
         this.camera = camera;
         this.playerInputSystem = playerInputSystem;
+        this.bulletFactory = bulletFactory;
     }
 
     // Define a entidade jogador
@@ -96,14 +100,17 @@ public class GameStateService {
             }
         }
 
-        // Remove todas as balas do mundo para evitar problemas na restauração
+        // Remove todas as balas do mundo para evitar problemas na restauração.
+        // As do pool voltam à lista livre da BulletFactory com o corpo estacionado; só as outras perdem o corpo.
+        // Percorre de trás para a frente porque libertar uma bala tira-a da família.
         ImmutableArray<Entity> bullets = engine.getEntitiesFor(Family.all(ProjectileComponent.class).get());
-        for (Entity bullet : bullets) {
+        for (int i = bullets.size() - 1; i >= 0; i--) {
+            Entity bullet = bullets.get(i);
             BodyComponent bodyComponent = bullet.getComponent(BodyComponent.class);
-            if (bodyComponent != null && bodyComponent.body != null) {
+            if (!bullet.getComponent(ProjectileComponent.class).pooled && bodyComponent != null && bodyComponent.body != null) {
                 bodyRemovalSystem.markForRemoval(bodyComponent.body);
             }
-            engine.removeEntity(bullet);
+            bulletFactory.free(bullet);
         }
 
         // Guarda os inimigos ativos, com suas posições e pontos de patrulha
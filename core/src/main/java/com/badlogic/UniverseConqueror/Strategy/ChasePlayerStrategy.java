@@ -1,6 +1,8 @@
 package com.badlogic.UniverseConqueror.Strategy;
 
 import com.badlogic.UniverseConqueror.ECS.components.*;
+import com.badlogic.UniverseConqueror.Pathfinding.FlowField;
+import com.badlogic.UniverseConqueror.Pathfinding.NavGrid;
 import com.badlogic.gdx.graphics.OrthographicCamera;
 import com.badlogic.gdx.math.Vector2;
 import com.badlogic.ashley.core.Entity;
@@ -11,7 +13,7 @@ public class ChasePlayerStrategy extends AbstractEnemyStrategy {
     private final Entity target;
     private final float speed;
     private final OrthographicCamera camera;
-
+    private final Vector2 nextStep = new Vector2();
 
     // Construtor da estratégia de perseguição ao jogador.
     public ChasePlayerStrategy(Entity target, OrthographicCamera camera, float speed) {
@@ -34,12 +36,14 @@ public class ChasePlayerStrategy extends AbstractEnemyStrategy {
         if (enemyPhysics == null || targetPhysics == null || velocity == null || health == null || health.isDead())
             return;
 
-        // Obtém a posição do inimigo e do alvo
-        Vector2 enemyPos = enemyPhysics.body.getPosition();
-        Vector2 targetPos = targetPhysics.body.getPosition();
+        // Obtém a posição do inimigo e do alvo (sincronizada dos corpos pelo PhysicsSystem; a IA não toca no Box2D)
+        Vector2 enemyPos = enemy.getComponent(PositionComponent.class).position;
+        Vector2 targetPos = target.getComponent(PositionComponent.class).position;
 
-        // Calcula a direção normalizada entre o inimigo e o alvo
-        calculateDirection(enemyPos, targetPos);
+        // Segue o campo de fluxo do jogador; sem campo (ou já no tile do jogador) vai em linha reta
+        if (!followFlowField(enemyPos)) {
+            calculateDirection(enemyPos, targetPos);
+        }
 
         float distance = enemyPos.dst(targetPos);
 
@@ -65,4 +69,22 @@ public class ChasePlayerStrategy extends AbstractEnemyStrategy {
             }
         }
     }
+
+    // Aponta a direção para o centro do próximo tile indicado pelo campo de fluxo do alvo
+    private boolean followFlowField(Vector2 enemyPos) {
+        FlowFieldComponent flow = target.getComponent(FlowFieldComponent.class);
+        if (flow == null) return false;
+
+        int tile = flow.mapGraphBuilder.toTileIndex(enemyPos.x, enemyPos.y);
+        if (tile < 0) return false;
+
+        FlowField field = flow.field;
+        int next = field.getNextTile(tile);
+        if (next < 0) return false;
+
+        NavGrid grid = field.getGrid();
+        flow.mapGraphBuilder.toWorldPosition(grid.x(next), grid.y(next), nextStep);
+        calculateDirection(enemyPos, nextStep);
+        return true;
+    }
 }
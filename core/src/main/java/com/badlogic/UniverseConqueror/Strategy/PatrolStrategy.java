@@ -7,7 +7,8 @@ import com.badlogic.gdx.math.Vector2;
 public class PatrolStrategy extends AbstractEnemyStrategy {
     private final Vector2[] patrolPoints;
     private int currentPoint = 0;
-    private final float speed = 20f;
+    private final float speed = 40f;
+    private final Vector2 rawDir = new Vector2();
 
     // Construtor que recebe os pontos de patrulha.
     public PatrolStrategy(Vector2... patrolPoints) {
@@ -26,22 +27,21 @@ public class PatrolStrategy extends AbstractEnemyStrategy {
         if (pc == null || velocity == null) return;
 
         Vector2 target = patrolPoints[currentPoint];
-        Vector2 pos = pc.body.getPosition();
+        // Posição sincronizada do corpo pelo PhysicsSystem; a velocidade chega ao corpo no próximo applyVelocities
+        Vector2 pos = enemy.getComponent(PositionComponent.class).position;
 
-        Vector2 rawDir = target.cpy().sub(pos);
+        rawDir.set(target).sub(pos);
 
         // Verifica se o inimigo chegou ao ponto de patrulha
         if (rawDir.len2() < 2f) {
             velocity.velocity.setZero();
             currentPoint = (currentPoint + 1) % patrolPoints.length;
-            pc.body.setLinearVelocity(0, 0);
             return;
         }
 
         // Movimento e orientação
         direction.set(rawDir).nor().scl(speed);
         velocity.velocity.set(direction);
-        pc.body.setLinearVelocity(velocity.velocity);
 
         // Estado de patrulha
         if (state != null && state.get() != StateComponent.State.PATROL && state.currentState != StateComponent.State.HURT) {
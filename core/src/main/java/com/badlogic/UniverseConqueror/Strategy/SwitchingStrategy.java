@@ -52,8 +52,9 @@ public class SwitchingStrategy extends AbstractEnemyStrategy {
 
         if (enemyPhysics == null || targetPhysics == null || health == null || state == null || health.isDead()) return;
 
-        Vector2 enemyPos = enemyPhysics.body.getPosition();
-        Vector2 playerPos = targetPhysics.body.getPosition();
+        // Posições sincronizadas dos corpos pelo PhysicsSystem; a IA não toca no Box2D
+        Vector2 enemyPos = enemy.getComponent(PositionComponent.class).position;
+        Vector2 playerPos = target.getComponent(PositionComponent.class).position;
 
         boolean playerVisible = isInCameraView(playerPos);
         float distance = enemyPos.dst(playerPos);
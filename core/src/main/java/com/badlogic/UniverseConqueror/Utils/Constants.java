@@ -11,16 +11,19 @@ public class Constants {
     public static final float SPEED = 120f;
 
     // Velocidade padrão de movimento dos UFO em CHASE.
-    public static final float SPEED_UFO_ENEMY = 60f;
+    public static final float SPEED_UFO_ENEMY = 120f;
 
     // Velocidade padrão de movimento dos ENEMY em PATROL.
-    public static final float SPEED_ENEMY = 60f;
+    public static final float SPEED_ENEMY = 120f;
+
+    // Velocidade do jogador a seguir um caminho automático (F/H).
+    public static final float SPEED_PATH_FOLLOW = 200f;
 
     // Fator multiplicador para ajustar forças ou velocidades aplicadas na física (Box2D).
-    public static final float PHYSICS_MULTIPLIER = 32f;
+    public static final float PHYSICS_MULTIPLIER = 64f;
 
-    // Força do pulo aplicada ao corpo do jogador.
-    public static final float JUMP_FORCE = 500f;
+    // Força do pulo aplicada ao corpo do jogador (dura um passo de física).
+    public static final float JUMP_FORCE = 2000f;
 
     // Caminho do arquivo de save do jogo.
     public static final String SAVE_PATH = "savegame.json";
@@ -30,5 +33,18 @@ public class Constants {
 
     public static final float MIN_FLIP_THRESHOLD = 2f;
 
+    // Projéteis criados de antemão em cada pool da BulletFactory ao carregar o nível.
+    public static final int BULLET_POOL_PREWARM = 32;
+    public static final int FIREBALL_POOL_PREWARM = 8;
+
+    // Balas normais simuladas por raycast (sem corpo dinâmico Box2D); as fireballs mantêm o corpo.
+    public static final boolean RAYCAST_BULLETS = true;
+
+    // Passos do Box2D numa thread própria, em paralelo com o desenho do frame (desligado por omissão).
+    public static final boolean THREADED_PHYSICS = false;
+
+    // Força todos os sistemas do engine a correr em série, ignorando o SystemScheduler.
+    public static final boolean SERIAL_SYSTEMS = false;
+
 
 }
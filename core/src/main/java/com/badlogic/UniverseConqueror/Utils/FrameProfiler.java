@@ -0,0 +1,309 @@
+package com.badlogic.UniverseConqueror.Utils;
+
+import com.badlogic.UniverseConqueror.Interfaces.ProfiledSystem;
+import com.badlogic.ashley.core.EntitySystem;
+import com.badlogic.ashley.systems.IteratingSystem;
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.files.FileHandle;
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.ObjectIntMap;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.Writer;
+import java.util.Arrays;
+import java.util.Comparator;
+
+// Perfilador de frames: tempo de cada sistema do engine e das fases do GameScreen.render, com percentis
+// p50/p95/p99 sobre os últimos frames, contagem de entidades por sistema e, opcionalmente, um CSV por frame.
+// Os sistemas são medidos nas fronteiras: cada sistema marca o início da sua vez em checkProcessing(), e o
+// intervalo até à marca seguinte (update e operações pendentes que o engine aplica a seguir) fica com ele.
+// As fases são pares begin/end, ou tempos medidos noutro sítio e registados com record().
+// Desligado, todas as chamadas voltam logo atrás; tudo corre na thread do jogo.
+public class FrameProfiler {
+
+    // Frames guardados por entrada para os percentis
+    private static final int WINDOW = 240;
+    private static final int CSV_BUFFER = 1 << 16;
+
+    private static final String KIND_FRAME = "frame";
+    private static final String KIND_SYSTEM = "system";
+    private static final String KIND_PHASE = "phase";
+
+    private static final FrameProfiler instance = new FrameProfiler();
+
+    // Retorna o perfilador global, usado pelos sistemas e pelo ecrã de jogo
+    public static FrameProfiler get() {
+        return instance;
+    }
+
+    private final Array<Entry> entries = new Array<>();
+    private final Array<Entry> ranking = new Array<>();
+    private final ObjectIntMap<EntitySystem> systemEntries = new ObjectIntMap<>();
+    private final ObjectIntMap<String> phaseEntries = new ObjectIntMap<>();
+    private final long[] sorted = new long[WINDOW];
+    private final Comparator<Entry> byP95 = (a, b) -> Long.compare(b.p95, a.p95);
+    private Entry frameEntry;
+
+    private boolean enabled;
+    private long frame;
+    private long frameStart;
+
+    // Sistema cuja vez está a decorrer no engine
+    private Entry open;
+    private long openStart;
+
+    // CSV em formato longo: uma linha por entrada e por frame (frame,kind,name,nanos,entities)
+    private Writer csv;
+    private FileHandle csvFile;
+    private final StringBuilder line = new StringBuilder(4096);
+    private char[] lineChars = new char[4096];
+
+    private FrameProfiler() {
+        clear();
+    }
+
+    public boolean isEnabled() { return enabled; }
+
+    // Ao ligar, descarta o frame em curso: só os frames medidos do princípio ao fim contam
+    public void setEnabled(boolean enabled) {
+        if (this.enabled == enabled) return;
+        this.enabled = enabled;
+        frameStart = 0;
+        open = null;
+        for (Entry entry : entries) {
+            entry.nanos = 0;
+            entry.start = -1;
+        }
+    }
+
+    // Esquece todas as entradas (os sistemas do engine anterior); as fases têm de voltar a ser registadas
+    public void clear() {
+        entries.clear();
+        ranking.clear();
+        systemEntries.clear();
+        phaseEntries.clear();
+        open = null;
+        frameEntry = addEntry("frame", KIND_FRAME, null);
+    }
+
+    // Regista (ou reencontra) uma fase com nome e devolve o identificador usado em begin/end/record
+    public int phase(String name) {
+        int id = phaseEntries.get(name, -1);
+        if (id >= 0) return id;
+        addEntry(name, KIND_PHASE, null);
+        id = entries.size - 1;
+        phaseEntries.put(name, id);
+        return id;
+    }
+
+    public void begin(int phase) {
+        if (!enabled) return;
+        entries.get(phase).start = System.nanoTime();
+    }
+
+    public void end(int phase) {
+        if (!enabled) return;
+        Entry entry = entries.get(phase);
+        if (entry.start < 0) return;
+        entry.nanos += System.nanoTime() - entry.start;
+        entry.start = -1;
+    }
+
+    // Acrescenta a uma fase um tempo medido por quem a chama (por exemplo, noutra thread)
+    public void record(int phase, long nanos) {
+        if (!enabled) return;
+        entries.get(phase).nanos += nanos;
+    }
+
+    // Acrescenta a um sistema um tempo medido fora da sua vez no engine (grupos paralelos do SystemScheduler)
+    public void record(EntitySystem system, long nanos) {
+        if (!enabled) return;
+        entryOf(system).nanos += nanos;
+    }
+
+    // Início da vez de um sistema; fecha o intervalo do sistema anterior
+    public void mark(EntitySystem system) {
+        if (!enabled) return;
+        long now = System.nanoTime();
+        if (open != null) open.nanos += now - openStart;
+        open = entryOf(system);
+        openStart = now;
+    }
+
+    // Volta a contar a vez do sistema atual a partir de agora (o tempo entretanto já foi registado com record)
+    public void restartInterval() {
+        if (!enabled) return;
+        openStart = System.nanoTime();
+    }
+
+    // Fim do engine.update: fecha a vez do último sistema
+    public void closeSystems() {
+        if (!enabled || open == null) return;
+        open.nanos += System.nanoTime() - openStart;
+        open = null;
+    }
+
+    public void beginFrame() {
+        if (!enabled) return;
+        frameStart = System.nanoTime();
+    }
+
+    // Fecha o frame: guarda uma amostra por entrada e escreve as linhas do CSV
+    public void endFrame() {
+        if (!enabled) return;
+        if (frameStart == 0) return;
+        closeSystems();
+        frameEntry.nanos = System.nanoTime() - frameStart;
+        frameStart = 0;
+        frame++;
+
+        if (csv != null) line.setLength(0);
+        for (Entry entry : entries) {
+            if (entry.system != null) entry.entities = entityCountOf(entry.system);
+            entry.samples[entry.cursor] = entry.nanos;
+            entry.cursor = (entry.cursor + 1) % WINDOW;
+            if (entry.sampleCount < WINDOW) entry.sampleCount++;
+
+            if (csv != null) {
+                line.append(frame).append(',').append(entry.kind).append(',').append(entry.name).append(',')
+                    .append(entry.nanos).append(',');
+                if (entry.entities >= 0) line.append(entry.entities);
+                line.append('\n');
+            }
+            entry.nanos = 0;
+        }
+        if (csv != null) writeLine();
+    }
+
+    // Passa a escrever uma linha por entrada e por frame no ficheiro dado
+    public void startCsv(FileHandle file) {
+        stopCsv();
+        csv = new BufferedWriter(file.writer(false, "UTF-8"), CSV_BUFFER);
+        csvFile = file;
+        line.setLength(0);
+        line.append("frame,kind,name,nanos,entities\n");
+        writeLine();
+    }
+
+    public void stopCsv() {
+        if (csv == null) return;
+        try {
+            csv.close();
+        } catch (IOException e) {
+            Gdx.app.error("FrameProfiler", "Erro ao fechar " + csvFile.path(), e);
+        }
+        csv = null;
+        csvFile = null;
+    }
+
+    public boolean isRecording() { return csv != null; }
+
+    // Calcula os percentis de cada entrada sobre as amostras da janela (chamado pela vista, não a cada frame)
+    public void computePercentiles() {
+        for (Entry entry : entries) {
+            int count = entry.sampleCount;
+            if (count == 0) continue;
+            System.arraycopy(entry.samples, 0, sorted, 0, count);
+            Arrays.sort(sorted, 0, count);
+            entry.p50 = percentile(count, 50);
+            entry.p95 = percentile(count, 95);
+            entry.p99 = percentile(count, 99);
+        }
+    }
+
+    // Resumo em texto: o frame e as entradas mais pesadas por p95, com os percentis em milissegundos
+    public void appendSummary(StringBuilder out, int rows) {
+        out.append("ms          p50    p95    p99   ent\n");
+        appendRow(out, frameEntry);
+
+        ranking.clear();
+        for (Entry entry : entries) {
+            if (entry != frameEntry && entry.sampleCount > 0) ranking.add(entry);
+        }
+        ranking.sort(byP95);
+        for (int i = 0; i < ranking.size && i < rows; i++) {
+            appendRow(out, ranking.get(i));
+        }
+        if (csv != null) out.append("CSV: ").append(csvFile.path()).append('\n');
+    }
+
+    private void appendRow(StringBuilder out, Entry entry) {
+        out.append(entry.name).append("  ");
+        appendMillis(out, entry.p50);
+        out.append("  ");
+        appendMillis(out, entry.p95);
+        out.append("  ");
+        appendMillis(out, entry.p99);
+        if (entry.entities >= 0) out.append("  ").append(entry.entities);
+        out.append('\n');
+    }
+
+    // Milissegundos com duas casas decimais, sem String.format
+    private static void appendMillis(StringBuilder out, long nanos) {
+        long hundredths = nanos / 10_000;
+        out.append(hundredths / 100).append('.');
+        long fraction = hundredths % 100;
+        if (fraction < 10) out.append('0');
+        out.append(fraction);
+    }
+
+    // Percentil pelo método do rank mais próximo, sobre as primeiras count posições de sorted
+    private long percentile(int count, int p) {
+        int rank = (p * count + 99) / 100;
+        return sorted[Math.max(0, rank - 1)];
+    }
+
+    private static int entityCountOf(EntitySystem system) {
+        if (system instanceof IteratingSystem) return ((IteratingSystem) system).getEntities().size();
+        if (system instanceof ProfiledSystem) return ((ProfiledSystem) system).getEntityCount();
+        return -1;
+    }
+
+    private Entry entryOf(EntitySystem system) {
+        int id = systemEntries.get(system, -1);
+        if (id >= 0) return entries.get(id);
+        Entry entry = addEntry(system.getClass().getSimpleName(), KIND_SYSTEM, system);
+        systemEntries.put(system, entries.size - 1);
+        return entry;
+    }
+
+    private Entry addEntry(String name, String kind, EntitySystem system) {
+        Entry entry = new Entry(name, kind, system);
+        entries.add(entry);
+        return entry;
+    }
+
+    // Escreve a linha acumulada sem criar Strings
+    private void writeLine() {
+        int length = line.length();
+        if (lineChars.length < length) lineChars = new char[Math.max(length, lineChars.length * 2)];
+        line.getChars(0, length, lineChars, 0);
+        try {
+            csv.write(lineChars, 0, length);
+        } catch (IOException e) {
+            Gdx.app.error("FrameProfiler", "Erro ao escrever " + csvFile.path() + ", CSV desligado", e);
+            stopCsv();
+        }
+    }
+
+    // Tempos de um sistema ou fase: o acumulado do frame em curso e a janela de amostras
+    private static final class Entry {
+        final String name;
+        final String kind;
+        final EntitySystem system;
+        final long[] samples = new long[WINDOW];
+        int cursor;
+        int sampleCount;
+        long nanos;
+        long start = -1;
+        int entities = -1;
+        long p50, p95, p99;
+
+        Entry(String name, String kind, EntitySystem system) {
+            this.name = name;
+            this.kind = kind;
+            this.system = system;
+        }
+    }
+}
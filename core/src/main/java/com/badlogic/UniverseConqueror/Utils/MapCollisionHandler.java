@@ -1,8 +1,15 @@
 // Classe responsável por processar colisões de um mapa isométrico em um jogo usando TiledMap e Box2D.
 // Extrai retângulos de colisão e "saltáveis" (jumpable) e os converte em corpos físicos no mundo Box2D.
+// Por omissão os tiles bloqueados vizinhos são fundidos: cada região conexa vira um único corpo estático,
+// com uma fixture por retângulo de tiles (um paralelogramo no ecrã isométrico).
+// Isto muda o jogo: o MapContactListener dá dano a cada beginContact com o mapa, e um contacto passa a
+// começar uma vez por retângulo fundido em vez de uma vez por tile (deslizar ao longo de uma parede tira
+// menos vida). Os sensores "jumpable" continuam a ser um por tile.
 
 package com.badlogic.UniverseConqueror.Utils;
 
+import com.badlogic.UniverseConqueror.ContactListener.CollisionLayer;
+import com.badlogic.UniverseConqueror.ContactListener.FixtureTag;
 import com.badlogic.gdx.Gdx;
 import com.badlogic.gdx.maps.MapLayer;
 import com.badlogic.gdx.maps.tiled.TiledMap;
@@ -11,6 +18,7 @@ import com.badlogic.gdx.math.Rectangle;
 import com.badlogic.gdx.math.Vector2;
 import com.badlogic.gdx.physics.box2d.*;
 import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.IntArray;
 
 public class MapCollisionHandler {
     private final Array<Rectangle> collisionRects;
@@ -20,6 +28,21 @@ public class MapCollisionHandler {
     private TiledMapTileLayer layer;
     private TiledMapTileLayer jumpableLayer;
 
+    // Ocupação por tile (x, y) e parâmetros da projeção isométrica
+    private int width;
+    private int height;
+    private boolean[][] blocked;
+    private boolean[][] jumpable;
+    private float originX;
+    private float originY;
+
+    // Fusão de tiles vizinhos (desligar para voltar a um corpo por tile e ao dano de contacto por tile)
+    private boolean mergeTiles = true;
+
+    // Métricas da última chamada a createBox2DBodies
+    private int bodyCount;
+    private int fixtureCount;
+
     // Construtor que processa o mapa e extrai retângulos das camadas especificadas.
     public MapCollisionHandler(TiledMap map, String layerName, String jumpableLayerName) {
         collisionRects = new Array<>();
@@ -44,14 +67,16 @@ public class MapCollisionHandler {
         this.layer = (TiledMapTileLayer) mapLayer;
         this.jumpableLayer = (TiledMapTileLayer) jumpableMapLayer;
 
-        int width = layer.getWidth();
-        int height = layer.getHeight();
+        width = layer.getWidth();
+        height = layer.getHeight();
+        blocked = new boolean[width][height];
+        jumpable = new boolean[width][height];
 
         float tileOffsetX = tileWidth;
         float tileOffsetY = tileHeight;
 
-        float originX = (width + height) * tileWidth / 4f + tileWidth / 2f - tileOffsetX;
-        float originY = - (tileHeight / 2f) * height + tileOffsetY;
+        originX = (width + height) * tileWidth / 4f + tileWidth / 2f - tileOffsetX;
+        originY = - (tileHeight / 2f) * height + tileOffsetY;
 
         // Itera sobre os tiles e gera retângulos para colisão e camada pulável
         for (int x = 0; x < width; x++) {
@@ -67,6 +92,7 @@ public class MapCollisionHandler {
 
                     Rectangle isoRect = new Rectangle(worldX, worldY - tileHeight / 2f, tileWidth, tileHeight);
                     collisionRects.add(isoRect);
+                    blocked[x][y] = true;
                 }
 
                 if (jumpableCell != null) {
@@ -77,6 +103,7 @@ public class MapCollisionHandler {
 
                     Rectangle isoRect = new Rectangle(worldX, worldY - tileHeight / 2f, tileWidth, tileHeight);
                     jumpableRects.add(isoRect);
+                    jumpable[x][y] = true;
                 }
             }
         }
@@ -84,17 +111,199 @@ public class MapCollisionHandler {
 
     // Cria corpos estáticos no mundo Box2D a partir dos retângulos coletados.
     public void createBox2DBodies(World world) {
-        for (Rectangle rect : collisionRects) {
-            createIsometricDiamond(world, rect, 256f, 128f, (short) 0x0001, false, 4f);
+        bodyCount = 0;
+        fixtureCount = 0;
+
+        if (!mergeTiles || blocked == null) {
+            for (Rectangle rect : collisionRects) {
+                createIsometricDiamond(world, rect, 256f, 128f, CollisionLayer.MAP, false, 4f);
+                bodyCount++;
+                fixtureCount++;
+            }
+
+            for (Rectangle rect : jumpableRects) {
+                createBox2DBody(world, rect, CollisionLayer.JUMPABLE, true);
+                bodyCount++;
+                fixtureCount++;
+            }
+        } else {
+            createMergedCollisionBodies(world);
+            createMergedJumpableBodies(world);
         }
 
-        for (Rectangle rect : jumpableRects) {
-            createBox2DBody(world, rect, (short) 0x0001, true);
+        Gdx.app.log("Collision", "Corpos estáticos: " + bodyCount + " (" + fixtureCount + " fixtures) para "
+            + getTileBodyCount() + " tiles");
+    }
+
+    // Uma região conexa de tiles bloqueados por corpo; dentro dela, retângulos gulosos de tiles viram
+    // paralelogramos que cobrem exatamente os losangos originais
+    private void createMergedCollisionBodies(World world) {
+        int[][] region = labelRegions(blocked);
+        boolean[][] used = new boolean[width][height];
+        Body[] bodies = new Body[countRegions(region) + 1];
+        Vector2[] vertices = { new Vector2(), new Vector2(), new Vector2(), new Vector2() };
+
+        for (int x = 0; x < width; x++) {
+            for (int y = 0; y < height; y++) {
+                if (!blocked[x][y] || used[x][y]) continue;
+
+                // Estende primeiro ao longo de y e depois em x, enquanto a faixa inteira estiver livre para usar
+                int y1 = y;
+                while (y1 + 1 < height && blocked[x][y1 + 1] && !used[x][y1 + 1]) y1++;
+                int x1 = x;
+                while (x1 + 1 < width && isFreeRun(used, x1 + 1, y, y1)) x1++;
+
+                for (int ux = x; ux <= x1; ux++) {
+                    for (int uy = y; uy <= y1; uy++) used[ux][uy] = true;
+                }
+
+                int id = region[x][y];
+                Body body = bodies[id];
+                if (body == null) {
+                    body = createStaticBody(world, tileCenterX(x, y), tileCenterY(x, y));
+                    body.setUserData(new Rectangle(tileCenterX(x, y) - tileWidth / 2f, tileCenterY(x, y) - tileHeight / 2f,
+                        tileWidth, tileHeight));
+                    bodies[id] = body;
+                    bodyCount++;
+                }
+
+                // Cantos do retângulo [x, x1] x [y, y1] no espaço isométrico, relativos ao corpo
+                Vector2 bodyPosition = body.getPosition();
+                corner(x, y, -1, -1, vertices[0]).sub(bodyPosition);
+                corner(x1, y, 1, -1, vertices[1]).sub(bodyPosition);
+                corner(x1, y1, 1, 1, vertices[2]).sub(bodyPosition);
+                corner(x, y1, -1, 1, vertices[3]).sub(bodyPosition);
+
+                PolygonShape shape = new PolygonShape();
+                shape.set(vertices);
+                Fixture fixture = body.createFixture(mapFixtureDef(shape, CollisionLayer.MAP));
+                FixtureTag.attach(fixture, CollisionLayer.MAP, null);
+                shape.dispose();
+                fixtureCount++;
+            }
+        }
+    }
+
+    // Os sensores "Jumpable" mantêm a caixa por tile, mas partilham um corpo por região conexa
+    private void createMergedJumpableBodies(World world) {
+        int[][] region = labelRegions(jumpable);
+        Body[] bodies = new Body[countRegions(region) + 1];
+        Vector2 center = new Vector2();
+
+        for (int x = 0; x < width; x++) {
+            for (int y = 0; y < height; y++) {
+                if (!jumpable[x][y]) continue;
+
+                // Caixa com o mesmo centro e tamanho que createBox2DBody usaria para este tile
+                center.set(tileCenterX(x, y), tileCenterY(x, y));
+
+                int id = region[x][y];
+                Body body = bodies[id];
+                if (body == null) {
+                    body = createStaticBody(world, center.x, center.y);
+                    bodies[id] = body;
+                    bodyCount++;
+                }
+
+                PolygonShape shape = new PolygonShape();
+                shape.setAsBox(tileWidth / 2f, tileHeight / 2f, center.sub(body.getPosition()), 0f);
+                Fixture fixture = body.createFixture(mapFixtureDef(shape, CollisionLayer.JUMPABLE));
+                FixtureTag.attach(fixture, CollisionLayer.JUMPABLE, null);
+                shape.dispose();
+                fixtureCount++;
+            }
         }
     }
 
+    private boolean isFreeRun(boolean[][] used, int x, int y0, int y1) {
+        for (int y = y0; y <= y1; y++) {
+            if (!blocked[x][y] || used[x][y]) return false;
+        }
+        return true;
+    }
+
+    // Etiqueta as regiões conexas (vizinhança de 4) com ids a partir de 1; 0 marca tiles livres
+    private int[][] labelRegions(boolean[][] occupied) {
+        int[][] region = new int[width][height];
+        IntArray stack = new IntArray();
+        int next = 0;
+
+        for (int x = 0; x < width; x++) {
+            for (int y = 0; y < height; y++) {
+                if (!occupied[x][y] || region[x][y] != 0) continue;
+
+                next++;
+                region[x][y] = next;
+                stack.add(y * width + x);
+                while (stack.size > 0) {
+                    int tile = stack.pop();
+                    int tx = tile % width, ty = tile / width;
+                    visit(occupied, region, stack, next, tx + 1, ty);
+                    visit(occupied, region, stack, next, tx - 1, ty);
+                    visit(occupied, region, stack, next, tx, ty + 1);
+                    visit(occupied, region, stack, next, tx, ty - 1);
+                }
+            }
+        }
+        return region;
+    }
+
+    private void visit(boolean[][] occupied, int[][] region, IntArray stack, int id, int x, int y) {
+        if (x < 0 || y < 0 || x >= width || y >= height) return;
+        if (!occupied[x][y] || region[x][y] != 0) return;
+        region[x][y] = id;
+        stack.add(y * width + x);
+    }
+
+    private int countRegions(int[][] region) {
+        int max = 0;
+        for (int[] column : region) {
+            for (int id : column) max = Math.max(max, id);
+        }
+        return max;
+    }
+
+    // Centro do losango do tile (x, y) no mundo, com a mesma projeção usada no construtor
+    private float tileCenterX(int x, int y) {
+        int rotatedX = y;
+        int rotatedY = width - 1 - x;
+        return (rotatedX - rotatedY) * tileWidth / 2f + originX + tileWidth / 2f;
+    }
+
+    private float tileCenterY(int x, int y) {
+        int rotatedX = y;
+        int rotatedY = width - 1 - x;
+        return (rotatedX + rotatedY) * tileHeight / 2f + originY;
+    }
+
+    // Canto do losango do tile (x, y) na direção (sx, sy) do espaço de tiles, em coordenadas do mundo.
+    // Um passo em x desloca o centro em (w/2, -h/2) e um passo em y em (w/2, h/2).
+    private Vector2 corner(int x, int y, int sx, int sy, Vector2 out) {
+        float halfX = sx * 0.5f, halfY = sy * 0.5f;
+        return out.set(
+            tileCenterX(x, y) + (halfX + halfY) * tileWidth / 2f,
+            tileCenterY(x, y) + (halfY - halfX) * tileHeight / 2f
+        );
+    }
+
+    private Body createStaticBody(World world, float x, float y) {
+        BodyDef bodyDef = new BodyDef();
+        bodyDef.type = BodyDef.BodyType.StaticBody;
+        bodyDef.position.set(x, y);
+        return world.createBody(bodyDef);
+    }
+
+    // Os tiles saltáveis são sensores; os bloqueados são sólidos
+    private FixtureDef mapFixtureDef(Shape shape, CollisionLayer layer) {
+        FixtureDef fixtureDef = new FixtureDef();
+        fixtureDef.shape = shape;
+        fixtureDef.friction = 0.8f;
+        fixtureDef.isSensor = layer == CollisionLayer.JUMPABLE;
+        return layer.applyTo(fixtureDef);
+    }
+
     // Cria um corpo com forma de losango isométrico para simular o tile.
-    public Body createIsometricDiamond(World world, Rectangle pixelPosition, float widthPx, float heightPx, short categoryBits, boolean isSensor, float ppm) {
+    public Body createIsometricDiamond(World world, Rectangle pixelPosition, float widthPx, float heightPx, CollisionLayer layer, boolean isSensor, float ppm) {
         Vector2 position = new Vector2(pixelPosition.x, pixelPosition.y);
 
         BodyDef bodyDef = new BodyDef();
@@ -117,8 +326,7 @@ public class MapCollisionHandler {
         fixtureDef.shape = shape;
         fixtureDef.friction = 0.8f;
         fixtureDef.isSensor = isSensor;
-        fixtureDef.filter.categoryBits = categoryBits;
-        fixtureDef.filter.maskBits = -1;
+        layer.applyTo(fixtureDef);
 
         Fixture fixture = body.createFixture(fixtureDef);
 
@@ -128,14 +336,14 @@ public class MapCollisionHandler {
             widthPx,
             heightPx
         ));
-        fixture.setUserData("map");
+        FixtureTag.attach(fixture, layer, null);
 
         shape.dispose();
         return body;
     }
 
     // Cria um corpo retangular Box2D a partir de um retângulo.
-    private void createBox2DBody(World world, Rectangle rect, short categoryBits, boolean isSensor) {
+    private void createBox2DBody(World world, Rectangle rect, CollisionLayer layer, boolean isSensor) {
         BodyDef bodyDef = new BodyDef();
         bodyDef.type = BodyDef.BodyType.StaticBody;
         bodyDef.position.set(rect.x + rect.width / 2, rect.y + rect.height / 2);
@@ -149,10 +357,9 @@ public class MapCollisionHandler {
         fixtureDef.shape = shape;
         fixtureDef.friction = 0.8f;
         fixtureDef.isSensor = isSensor;
-        fixtureDef.filter.categoryBits = categoryBits;
-        fixtureDef.filter.maskBits = -1;
+        layer.applyTo(fixtureDef);
 
-        body.createFixture(fixtureDef);
+        FixtureTag.attach(body.createFixture(fixtureDef), layer, null);
         shape.dispose();
     }
 
@@ -165,4 +372,17 @@ public class MapCollisionHandler {
     public Array<Rectangle> getJumpableRects() {
         return jumpableRects;
     }
+
+    public boolean isMergeTiles() { return mergeTiles; }
+
+    // Tem de ser definido antes de createBox2DBodies
+    public void setMergeTiles(boolean mergeTiles) { this.mergeTiles = mergeTiles; }
+
+    // Corpos que um corpo por tile criaria (antes da fusão)
+    public int getTileBodyCount() { return collisionRects.size + jumpableRects.size; }
+
+    // Corpos e fixtures criados pela última chamada a createBox2DBodies
+    public int getBodyCount() { return bodyCount; }
+
+    public int getFixtureCount() { return fixtureCount; }
 }
@@ -0,0 +1,46 @@
+package com.badlogic.UniverseConqueror.Utils;
+
+import com.badlogic.gdx.graphics.Color;
+import com.badlogic.gdx.graphics.g2d.BitmapFont;
+import com.badlogic.gdx.scenes.scene2d.ui.Label;
+
+// Painel no canto superior esquerdo com os percentis do FrameProfiler.
+// O texto só é refeito duas vezes por segundo, para o próprio painel pesar pouco no frame que mede.
+public class ProfilerOverlay extends Label {
+
+    private static final float REFRESH_INTERVAL = 0.5f;
+    private static final int ROWS = 14;
+    private static final float MARGIN = 8f;
+
+    private final FrameProfiler profiler = FrameProfiler.get();
+    private final StringBuilder text = new StringBuilder(1024);
+    private float sinceRefresh = REFRESH_INTERVAL;
+
+    public ProfilerOverlay(BitmapFont font) {
+        super("", new LabelStyle(font, Color.WHITE));
+        setVisible(false);
+    }
+
+    @Override
+    public void act(float delta) {
+        super.act(delta);
+        if (!isVisible()) return;
+
+        sinceRefresh += delta;
+        if (sinceRefresh < REFRESH_INTERVAL) return;
+        sinceRefresh = 0f;
+
+        profiler.computePercentiles();
+        text.setLength(0);
+        profiler.appendSummary(text, ROWS);
+        setText(text);
+        pack();
+        setPosition(MARGIN, getStage().getHeight() - getHeight() - MARGIN);
+    }
+
+    // Mostra ou esconde o painel; mostrado, o texto é refeito logo no frame seguinte
+    public void toggle() {
+        setVisible(!isVisible());
+        sinceRefresh = REFRESH_INTERVAL;
+    }
+}